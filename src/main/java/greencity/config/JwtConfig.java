@@ -2,6 +2,7 @@ package greencity.config;
 
 import greencity.security.jwt.JwtFilter;
 import greencity.security.jwt.JwtTokenTool;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
@@ -15,14 +16,17 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 public class JwtConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
     private JwtTokenTool tool;
+    private MeterRegistry meterRegistry;
 
     /**
      * Constructor.
      *
-     * @param tool {@link JwtTokenTool} - tool for JWT
+     * @param tool          {@link JwtTokenTool} - tool for JWT
+     * @param meterRegistry {@link MeterRegistry} - registry of the authentication timer
      */
-    public JwtConfig(JwtTokenTool tool) {
+    public JwtConfig(JwtTokenTool tool, MeterRegistry meterRegistry) {
         this.tool = tool;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -32,7 +36,7 @@ public class JwtConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterCh
      */
     @Override
     public void configure(HttpSecurity builder) throws Exception {
-        JwtFilter filter = new JwtFilter(tool);
+        JwtFilter filter = new JwtFilter(tool, meterRegistry);
         builder.addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class);
     }
 }
@@ -1,5 +1,6 @@
 package greencity.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
 import org.modelmapper.convention.MatchingStrategies;
@@ -12,12 +13,14 @@ public class MapperConfig {
      * Provides a new ModelMapper object. Provides configuration for the object. Sets source
      * properties to be strictly matched to destination properties. Sets matching fields to be
      * enabled. Skips when the property value is {@code null}. Sets {@code AccessLevel} to private.
+     * Records time of mappings to {@code meterRegistry}.
      *
+     * @param meterRegistry {@link MeterRegistry} - registry of mapping timers.
      * @return the configured instance of {@code ModelMapper}.
      */
     @Bean
-    public ModelMapper getModelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
+    public ModelMapper getModelMapper(MeterRegistry meterRegistry) {
+        ModelMapper modelMapper = new TimedModelMapper(meterRegistry);
         modelMapper
             .getConfiguration()
             .setMatchingStrategy(MatchingStrategies.STRICT)
@@ -0,0 +1,24 @@
+package greencity.config;
+
+import greencity.converter.PlaceMarkersHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Config for additional HTTP message converters.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+    /**
+     * Adds {@link PlaceMarkersHttpMessageConverter} after the default converters, so JSON stays
+     * the default for clients which accept any content type.
+     *
+     * @param converters list of configured converters.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PlaceMarkersHttpMessageConverter());
+    }
+}
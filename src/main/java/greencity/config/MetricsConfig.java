@@ -0,0 +1,88 @@
+package greencity.config;
+
+import greencity.constant.AppConstant;
+import greencity.service.DiscountService;
+import greencity.service.EmailDispatcher;
+import greencity.service.FavoritePlaceIdCache;
+import greencity.service.LastVisitTracker;
+import greencity.service.OpenHoursService;
+import greencity.service.PlaceInfoCache;
+import greencity.util.BoundedCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config of application metrics which are read from counters the services already keep.
+ * Metrics of HTTP requests, the connection pool and Hibernate are registered by Spring Boot.
+ */
+@Configuration
+public class MetricsConfig {
+    /**
+     * Bean {@link MeterBinder} of the email queue, of rows of places updated by diff, of the caches
+     * and of pending user last visits.
+     *
+     * @param emailDispatcher      {@link EmailDispatcher} - queue of emails.
+     * @param discountService      {@link DiscountService} - service of discounts.
+     * @param openHoursService     {@link OpenHoursService} - service of opening hours.
+     * @param placeInfoCache       {@link PlaceInfoCache} - cache of place info.
+     * @param favoritePlaceIdCache {@link FavoritePlaceIdCache} - cache of favorite place ids.
+     * @param lastVisitTracker     {@link LastVisitTracker} - accumulator of user last visits.
+     * @return {@link MeterBinder} which registers the metrics.
+     */
+    @Bean
+    public MeterBinder greenCityMeterBinder(EmailDispatcher emailDispatcher, DiscountService discountService,
+                                            OpenHoursService openHoursService, PlaceInfoCache placeInfoCache,
+                                            FavoritePlaceIdCache favoritePlaceIdCache,
+                                            LastVisitTracker lastVisitTracker) {
+        return registry -> {
+            Gauge.builder(AppConstant.METRIC_EMAIL_QUEUE_SIZE, emailDispatcher, EmailDispatcher::getQueueSize)
+                .description("Count of emails waiting in the queue")
+                .register(registry);
+            registerEmailCounter(registry, emailDispatcher, "queued", EmailDispatcher::getQueuedCount);
+            registerEmailCounter(registry, emailDispatcher, "sent", EmailDispatcher::getSentCount);
+            registerEmailCounter(registry, emailDispatcher, "failed", EmailDispatcher::getFailedCount);
+            registerEmailCounter(registry, emailDispatcher, "rejected", EmailDispatcher::getRejectedCount);
+            registerEmailCounter(registry, emailDispatcher, "retried", EmailDispatcher::getRetriedCount);
+            FunctionCounter.builder(AppConstant.METRIC_PLACE_CHILD_ROWS_UPDATED, discountService,
+                DiscountService::getUpdatedRowCount)
+                .tag(AppConstant.METRIC_TAG_CHILD, "discount")
+                .register(registry);
+            FunctionCounter.builder(AppConstant.METRIC_PLACE_CHILD_ROWS_UPDATED, openHoursService,
+                OpenHoursService::getUpdatedRowCount)
+                .tag(AppConstant.METRIC_TAG_CHILD, "opening_hours")
+                .register(registry);
+            Gauge.builder(AppConstant.METRIC_LAST_VISIT_PENDING, lastVisitTracker, LastVisitTracker::getPendingCount)
+                .description("Count of user last visits waiting to be written")
+                .register(registry);
+            registerCache(registry, "place_info", placeInfoCache.getCache());
+            registerCache(registry, "favorite_place_id", favoritePlaceIdCache.getCache());
+        };
+    }
+
+    private static void registerCache(MeterRegistry registry, String name, BoundedCache<?, ?> cache) {
+        Gauge.builder(AppConstant.METRIC_CACHE_SIZE, cache, BoundedCache::size)
+            .tag(AppConstant.METRIC_TAG_CACHE, name)
+            .register(registry);
+        FunctionCounter.builder(AppConstant.METRIC_CACHE_GETS, cache, BoundedCache::getHitCount)
+            .tags(AppConstant.METRIC_TAG_CACHE, name, AppConstant.METRIC_TAG_RESULT, "hit")
+            .register(registry);
+        FunctionCounter.builder(AppConstant.METRIC_CACHE_GETS, cache, BoundedCache::getMissCount)
+            .tags(AppConstant.METRIC_TAG_CACHE, name, AppConstant.METRIC_TAG_RESULT, "miss")
+            .register(registry);
+        FunctionCounter.builder(AppConstant.METRIC_CACHE_EVICTIONS, cache, BoundedCache::getEvictionCount)
+            .tag(AppConstant.METRIC_TAG_CACHE, name)
+            .register(registry);
+    }
+
+    private static void registerEmailCounter(MeterRegistry registry, EmailDispatcher emailDispatcher, String state,
+                                             ToDoubleFunction<EmailDispatcher> count) {
+        FunctionCounter.builder(AppConstant.METRIC_EMAIL_MESSAGES, emailDispatcher, count)
+            .tag(AppConstant.METRIC_TAG_STATE, state)
+            .register(registry);
+    }
+}
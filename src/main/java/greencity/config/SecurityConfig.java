@@ -3,6 +3,7 @@ package greencity.config;
 import greencity.security.jwt.JwtAuthenticationProvider;
 import greencity.security.jwt.JwtTokenTool;
 import greencity.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import org.springframework.context.annotation.Bean;
@@ -31,16 +32,19 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private JwtTokenTool tool;
     private UserService userService;
+    private MeterRegistry meterRegistry;
 
     /**
      * Constructor.
      *
-     * @param tool        {@link JwtTokenTool} - tool for JWT
-     * @param userService {@link UserService} - user service.
+     * @param tool          {@link JwtTokenTool} - tool for JWT
+     * @param userService   {@link UserService} - user service.
+     * @param meterRegistry {@link MeterRegistry} - registry of the authentication timer.
      */
-    public SecurityConfig(JwtTokenTool tool, UserService userService) {
+    public SecurityConfig(JwtTokenTool tool, UserService userService, MeterRegistry meterRegistry) {
         this.tool = tool;
         this.userService = userService;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -75,11 +79,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers(
                 "/ownSecurity/**",
                 "/place/getListPlaceLocationByMapsBounds/**",
+                "/place/clusters/**",
                 "/googleSecurity/**",
                 "/place/filter/**",
                 "/restorePassword/**",
                 "/updatePassword/**"
             ).permitAll()
+            .antMatchers(HttpMethod.GET,
+                "/actuator/health",
+                "/actuator/info"
+            ).permitAll()
+            .antMatchers(HttpMethod.GET,
+                "/actuator/prometheus"
+            ).hasRole("ADMIN")
             .antMatchers(
                 HttpMethod.GET,
                 "/category/**",
@@ -91,6 +103,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 "/specification/**"
 
             ).permitAll()
+            .antMatchers(HttpMethod.POST,
+                "/place/import"
+            ).hasRole("ADMIN")
             .antMatchers(
                 "/place/propose/**",
                 "/place/{status}/**",
@@ -127,7 +142,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 "/place/update/**")
             .hasAnyRole("ADMIN", "MODERATOR")
             .and()
-            .apply(new JwtConfig(tool));
+            .apply(new JwtConfig(tool, meterRegistry));
     }
 
     /**
@@ -166,7 +181,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             Arrays.asList("GET", "POST", "OPTIONS", "DELETE", "PUT", "PATCH"));
         configuration.setAllowedHeaders(
             Arrays.asList(
-                "X-Requested-With", "Origin", "Content-Type", "Accept", "Authorization"));
+                "X-Requested-With", "Origin", "Content-Type", "Accept", "Authorization", "If-Match", "If-None-Match"));
+        configuration.setExposedHeaders(Collections.singletonList("ETag"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
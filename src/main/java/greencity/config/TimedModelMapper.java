@@ -0,0 +1,58 @@
+package greencity.config;
+
+import greencity.constant.AppConstant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.modelmapper.ModelMapper;
+
+/**
+ * {@link ModelMapper} which records time of every mapping to the timer tagged by the destination type.
+ * Timers are registered once per type, so a mapping does not look them up in the registry.
+ */
+public class TimedModelMapper extends ModelMapper {
+    private final MeterRegistry meterRegistry;
+    private final Map<Type, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistry {@link MeterRegistry} - registry of mapping timers.
+     */
+    public TimedModelMapper(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+        return timer(destinationType).record(() -> super.map(source, destinationType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <D> D map(Object source, Type destinationType) {
+        return timer(destinationType).record(() -> super.<D>map(source, destinationType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void map(Object source, Object destination) {
+        timer(destination.getClass()).record(() -> super.map(source, destination));
+    }
+
+    private Timer timer(Type destinationType) {
+        return timers.computeIfAbsent(destinationType, type -> Timer.builder(AppConstant.METRIC_MODEL_MAPPER_MAP)
+            .tag(AppConstant.METRIC_TAG_TYPE,
+                type instanceof Class ? ((Class<?>) type).getSimpleName() : type.getTypeName())
+            .register(meterRegistry));
+    }
+}
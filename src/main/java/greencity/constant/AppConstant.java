@@ -8,4 +8,32 @@ public class AppConstant {
     public static final String GOOGLE_FAMILY_NAME = "family_name";
     public static final String GOOGLE_GIVEN_NAME = "given_name";
     public static final String EMAIL_CONTENT_TYPE = "text/html; charset=utf-8";
+    public static final long REFERENCE_DATA_TIME_TO_LIVE_SECONDS = 600;
+    public static final int MAX_PAGE_SIZE = 2000;
+    public static final int MAX_CLUSTER_ZOOM = 16;
+    public static final int PLACE_STREAM_CHUNK_SIZE = 1000;
+    public static final String PLACE_MARKERS_MEDIA_TYPE = "application/x-greencity-markers";
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String METRIC_PLACE_FILTER_QUERY = "greencity.place.filter.query";
+    public static final String METRIC_MODEL_MAPPER_MAP = "greencity.modelmapper.map";
+    public static final String METRIC_JWT_AUTHENTICATION = "greencity.jwt.authentication";
+    public static final String METRIC_EMAIL_SEND = "greencity.email.send";
+    public static final String METRIC_EMAIL_SMTP_SEND = "greencity.email.smtp.send";
+    public static final String METRIC_EMAIL_QUEUE_SIZE = "greencity.email.queue.size";
+    public static final String METRIC_EMAIL_MESSAGES = "greencity.email.messages";
+    public static final String METRIC_PLACE_CHILD_ROWS_UPDATED = "greencity.place.child.rows.updated";
+    public static final String METRIC_LAST_VISIT_PENDING = "greencity.last.visit.pending";
+    public static final String METRIC_LAST_VISIT_FLUSH = "greencity.last.visit.flush";
+    public static final String METRIC_CACHE_GETS = "greencity.cache.gets";
+    public static final String METRIC_CACHE_EVICTIONS = "greencity.cache.evictions";
+    public static final String METRIC_CACHE_SIZE = "greencity.cache.size";
+    public static final String METRIC_TAG_QUERY = "query";
+    public static final String METRIC_TAG_TYPE = "type";
+    public static final String METRIC_TAG_OUTCOME = "outcome";
+    public static final String METRIC_TAG_TEMPLATE = "template";
+    public static final String METRIC_TAG_STATE = "state";
+    public static final String METRIC_TAG_CHILD = "child";
+    public static final String METRIC_TAG_CACHE = "cache";
+    public static final String METRIC_TAG_RESULT = "result";
 }
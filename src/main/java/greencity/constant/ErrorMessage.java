@@ -7,6 +7,8 @@ public class ErrorMessage {
     public static final String PLACE_NOT_FOUND_BY_ID = "The place does not exist by this id: ";
     public static final String FAVORITE_PLACE_NOT_FOUND = "The favorite place does not exist by this placeId: ";
     public static final String FAVORITE_PLACE_ALREADY_EXISTS = "Favorite place already exist for this place";
+    public static final String PLACE_VERSION_MISMATCH = "The place was changed, current version is: ";
+    public static final String PLACE_CONCURRENT_UPDATE = "The place was changed by another request, try again";
     public static final String PLACE_STATUS_NOT_DIFFERENT = " already has this status: ";
     public static final String LOCATION_NOT_FOUND_BY_ID = "The location does not exist by this id: ";
     public static final String DISCOUNT_NOT_FOUND_BY_ID = "The discount does not exist by this id: ";
@@ -14,6 +16,7 @@ public class ErrorMessage {
     public static final String SPECIFICATION_VALUE_NOT_FOUND_BY_ID = "The specification value does not exist by this id: ";
     public static final String OPEN_HOURS_NOT_FOUND_BY_ID = "The opening hours does not exist by this id: ";
     public static final String BREAK_TIME_NOT_FOUND_BY_ID = "The opening hours does not exist by this id: ";
+    public static final String RATE_NOT_FOUND_BY_ID = "The rate does not exist by this id: ";
     public static final String CATEGORY_NOT_FOUND_BY_ID = "The category does not exist by this id: ";
     public static final String CATEGORY_NOT_FOUND_BY_NAME = "The category does not exist by this name: ";
     public static final String OPENING_HOURS_NOT_FOUND_BY_ID = "The opening hours does not exist by this id: ";
@@ -44,4 +47,9 @@ public class ErrorMessage {
         + AppConstant.DATE_FORMAT;
     public static final String LINK_FOR_RESTORE_NOT_FOUND = "Link for sendEmailForRestore password by email not found";
     public static final String TOKEN_FOR_RESTORE_IS_INVALID = "Token is null or it doesn't exist.";
+    public static final String BAD_PAGE_CURSOR = "Page cursor is malformed: ";
+    public static final String BAD_ENTITY_TAG = "Entity tag is malformed: ";
+    public static final String PLACE_IMPORT_NOT_ARRAY = "Places for import have to be a JSON array";
+    public static final String PLACE_IMPORT_MALFORMED = "Places for import are malformed: ";
+    public static final String PLACE_IMPORT_INVALID_PLACE = "Place for import is invalid at index: ";
 }
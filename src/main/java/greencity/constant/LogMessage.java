@@ -6,11 +6,15 @@ public class LogMessage {
     public static final String IN_FIND_BY_PLACE_ID = "in findById(), placeId: {}";
     public static final String IN_FIND_ID_BY_EMAIL = "in findIdByEmail(), email: {}";
     public static final String IN_SAVE = "in save(), entity: {}";
+    public static final String IN_IMPORT_PLACES = "in importPlaces(), email: {}";
+    public static final String PLACES_IMPORTED = "Imported {} places in {} ms";
+    public static final String IN_SAVE_ALL = "in saveAll(), places count: {} and email: {}";
     public static final String IN_UPDATE = "in update(), updated entity: {}";
     public static final String IN_DELETE_BY_PLACE_ID_AND_USER_EMAIL = "in deleteByPlaceIdAndUserEmail()"
         + ", place id: {} and status: {} ";
     public static final String IN_DELETE_BY_ID = "in deleteById(), id: {}";
     public static final String IN_UPDATE_PLACE_STATUS = "in updateStatus(), place id: {} and status: {}";
+    public static final String IN_UPDATE_PLACE_STATUSES = "in updateStatuses(), places count: {} and status: {}";
     public static final String PLACE_STATUS_NOT_DIFFERENT = "the place with id: {} already has status: {}";
     public static final String IN_AVERAGE_RATE = "in averageRate(), id: {}";
     public static final String IN_EXISTS_BY_ID = "in existsById(), id: {}";
@@ -26,4 +30,17 @@ public class LogMessage {
     public static final String SET_PLACE_TO_DISCOUNTS = "in setToDiscountPlaceAndCategoty()";
     public static final String IN_UPDATE_DISCOUNT_FOR_PLACE = "in updateDiscountForUpdatedPlace()";
     public static final String IN_UPDATE_OPENING_HOURS_FOR_PLACE = "in updateOpeningHoursForUpdatedPlace()";
-}
\ No newline at end of file
+    public static final String PLACE_CHILD_ROWS_UPDATED =
+        "Updated place {}, touched discount rows: {}, opening hours rows: {}";
+    public static final String IN_REBUILD_PLACE_SPATIAL_INDEX = "in rebuild(), indexed places: {}";
+    public static final String IN_UPDATE_MISSING_OPENING_HOURS_BITMAPS =
+        "in updateMissingOpeningHoursBitmaps(), updated places: {}";
+    public static final String IN_REBUILD_PLACE_SEARCH_INDEX = "in rebuild(), indexed places for search: {}";
+    public static final String IN_LOG_PLACE_INFO_CACHE_STATISTICS =
+        "in logStatistics(), place info cache size: {}, hits: {}, misses: {}, evictions: {}";
+    public static final String IN_FLUSH_LAST_VISITS = "in flush(), flushed last visits: {} in {} ms";
+    public static final String IN_DISPATCH_EMAIL_REJECTED = "in dispatch(), email rejected, queue size: {}";
+    public static final String IN_SEND_EMAIL_FAILED = "in send(), email not sent after {} attempts: {}";
+    public static final String IN_SHUTDOWN_EMAIL_DISPATCHER = "in shutdown(), emails not sent: {}";
+    public static final String IN_PERIODIC_TASK_FAILED = "in start(), periodic task failed: {}";
+}
@@ -62,6 +62,12 @@ public class ValidationConstants {
     public static final String LNG_MIN_VALIDATION = "Has to be greatest or equals -180";
     public static final String LNG_MAX_VALIDATION = "Has to be lover or equals 180";
 
+    public static final int ZOOM_MIN = 0;
+    public static final int ZOOM_MAX = 22;
+    public static final String ZOOM_CAN_NOT_BE_NULL = "Zoom can not be null";
+    public static final String ZOOM_MIN_VALIDATION = "Has to be greatest or equals " + ZOOM_MIN;
+    public static final String ZOOM_MAX_VALIDATION = "Has to be lover or equals " + ZOOM_MAX;
+
     public static final int DISCOUNT_VALUE_MIN = 1;
     public static final int DISCOUNT_VALUE_MAX = 100;
     public static final String EMPTY_SPECIFICATION_NAME = "The specification name can not be empty";
@@ -1,5 +1,6 @@
 package greencity.controller;
 
+import greencity.dto.ETaggedListDto;
 import greencity.dto.category.CategoryDto;
 import greencity.service.CategoryService;
 import java.util.List;
@@ -30,11 +31,12 @@ public class CategoryController {
     /**
      * The method which returns all {@code Category}.
      *
-     * @return list of {@code Category}.
+     * @return list of {@code Category}, or status 304 if it matches the {@code If-None-Match} header.
      * @author Kateryna Horokh
      */
     @GetMapping
     public ResponseEntity<List<CategoryDto>> findAllCategory() {
-        return ResponseEntity.status(HttpStatus.OK).body(categoryService.findAllCategoryDto());
+        ETaggedListDto<CategoryDto> categories = categoryService.findAllCategoryDto();
+        return ResponseEntity.status(HttpStatus.OK).eTag(categories.getEntityTag()).body(categories.getItems());
     }
 }
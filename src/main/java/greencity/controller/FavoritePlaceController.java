@@ -8,6 +8,7 @@ import greencity.entity.User;
 import greencity.service.FavoritePlaceService;
 import java.security.Principal;
 import java.util.List;
+import java.util.Set;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -51,6 +52,21 @@ public class FavoritePlaceController {
         return ResponseEntity.status(HttpStatus.OK).body(favoritePlaceService.findAllByUserEmail(principal.getName()));
     }
 
+    /**
+     * Check which of the given {@link Place}'s are {@link FavoritePlace}'s of the {@link User},
+     * so lists of places can be flagged without a request per place.
+     * Parameter principal are ignored because Spring automatically provide the Principal object.
+     *
+     * @param placeIds  - {@link Place} ids to check
+     * @param principal - Principal with {@link User} email
+     * @return set of the given {@link Place} ids which are favorite
+     */
+    @GetMapping("/check")
+    public ResponseEntity<Set<Long>> findFavoritePlaceIds(@RequestParam List<Long> placeIds,
+                                                          @ApiIgnore Principal principal) {
+        return ResponseEntity.status(HttpStatus.OK).body(favoritePlaceService
+            .findFavoritePlaceIds(placeIds, principal.getName()));
+    }
 
     /**
      * Delete {@link FavoritePlace} by {@link User} email and {@link Place} id
@@ -1,15 +1,25 @@
 package greencity.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import greencity.annotations.ApiPageable;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.filter.FilterClusterDto;
 import greencity.dto.filter.FilterPlaceDto;
 import greencity.dto.place.*;
 import greencity.entity.Place;
 import greencity.entity.User;
 import greencity.entity.enums.PlaceStatus;
 import greencity.service.FavoritePlaceService;
+import greencity.service.PlaceImportService;
 import greencity.service.PlaceService;
+import greencity.util.ETagUtils;
+import greencity.util.KeysetCursor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.List;
@@ -19,9 +29,13 @@ import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import springfox.documentation.annotations.ApiIgnore;
 
 @RestController
@@ -33,7 +47,9 @@ public class PlaceController {
      * Autowired PlaceService instance.
      */
     private PlaceService placeService;
+    private PlaceImportService placeImportService;
     private ModelMapper modelMapper;
+    private ObjectMapper objectMapper;
 
     /**
      * The controller which returns new proposed {@code Place} from user.
@@ -52,30 +68,57 @@ public class PlaceController {
                     PlaceWithUserDto.class));
     }
 
+    /**
+     * The controller which imports {@code Place}'s from JSON array of {@code PlaceAddDto}'s.
+     * The body is read as a stream, places are saved in chunks with batched inserts.
+     *
+     * @param json - JSON array of places.
+     * @return count of imported places.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Long> importPlaces(InputStream json, @ApiIgnore Principal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(placeImportService.importPlaces(json, principal.getName()));
+    }
+
     /**
      * The controller which returns new updated {@code Place}.
+     * The updated place is read again with its fetch plan, so no lazy association is loaded
+     * after the transaction of the update is closed.
+     * With {@code If-Match} header the place is updated only if it was not changed since it was read,
+     * otherwise {@code 412 Precondition Failed} is returned.
      *
-     * @param dto - Place dto for updating with all parameters.
+     * @param dto     - Place dto for updating with all parameters.
+     * @param ifMatch - entity tag of the place from {@code ETag} header, may be {@code null}.
      * @return new {@code Place}.
      * @author Kateryna Horokh
      */
     @PutMapping("/update")
     public ResponseEntity<PlaceUpdateDto> updatePlace(
-        @Valid @RequestBody PlaceUpdateDto dto) {
+        @Valid @RequestBody PlaceUpdateDto dto,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Place place = placeService.update(dto, ETagUtils.parseIfMatch(ifMatch));
         return ResponseEntity.status(HttpStatus.OK)
-            .body(modelMapper.map(placeService.update(dto), PlaceUpdateDto.class));
+            .eTag(ETagUtils.ofVersion(placeService.getVersionById(place.getId())))
+            .body(placeService.getInfoForUpdatingById(place.getId()));
     }
 
     /**
      * The method to get place info.
+     * The version of the place is checked before the place is loaded, so {@code 304 Not Modified}
+     * is returned without loading the place if {@code If-None-Match} header contains its entity tag.
      *
      * @param id place
      * @return info about place
      * @author Dmytro Dovhal
      */
     @GetMapping("/info/{id}")
-    public ResponseEntity<?> getInfo(@NotNull @PathVariable Long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(placeService.getInfoById(id));
+    public ResponseEntity<?> getInfo(@NotNull @PathVariable Long id, @ApiIgnore WebRequest webRequest) {
+        Long version = placeService.getVersionById(id);
+        if (webRequest.checkNotModified(ETagUtils.ofVersion(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(placeService.getInfoById(id, version));
     }
 
     /**
@@ -108,7 +151,8 @@ public class PlaceController {
 
     /**
      * The method which return a list {@code PlaceByBoundsDto} with information about place,
-     * location depends on the map bounds.
+     * location depends on the map bounds. The list is sent in the compact
+     * {@link greencity.constant.AppConstant#PLACE_MARKERS_MEDIA_TYPE} format if the client accepts it.
      *
      * @param filterPlaceDto Contains South-West and North-East bounds of map .
      * @return a list of {@code PlaceByBoundsDto}
@@ -122,6 +166,32 @@ public class PlaceController {
             .body(placeService.findPlacesByMapsBounds(filterPlaceDto));
     }
 
+    /**
+     * The method which streams a JSON array of {@code PlaceByBoundsDto} in the map bounds,
+     * writing every place while places are read from the database.
+     *
+     * @param filterPlaceDto Contains South-West and North-East bounds of map.
+     * @return JSON array of {@code PlaceByBoundsDto}.
+     */
+    @PostMapping(value = "/getListPlaceLocationByMapsBounds", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamListPlaceLocationByMapsBounds(
+        @Valid @RequestBody FilterPlaceDto filterPlaceDto) {
+        return streamPlaces(filterPlaceDto);
+    }
+
+    /**
+     * The method which returns clusters of approved places in the map bounds for the zoom level,
+     * or separate places when the map is zoomed in.
+     *
+     * @param filterClusterDto contains South-West and North-East bounds of map and zoom level.
+     * @return {@code PlaceClustersDto} with clusters or places.
+     */
+    @PostMapping("/clusters")
+    public ResponseEntity<PlaceClustersDto> getClusters(@Valid @RequestBody FilterClusterDto filterClusterDto) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(placeService.getClusters(filterClusterDto));
+    }
+
     /**
      * The method parse the string param to PlaceStatus value.
      * Parameter pageable ignored because swagger ui shows the wrong params,
@@ -141,9 +211,30 @@ public class PlaceController {
             .body(placeService.getPlacesByStatus(status, pageable));
     }
 
+    /**
+     * The method returns a page of places with the given status after the cursor. The mapping is selected
+     * by the {@code cursor} parameter, which is empty for the first page.
+     *
+     * @param status a string represents {@link PlaceStatus} enum value.
+     * @param cursor {@link CursorPageDto#getNextCursor()} of the previous page or empty string.
+     * @param size   max count of places in the page.
+     * @param total  whether to count all places with the status.
+     * @return response {@link CursorPageDto} object. Contains a list of {@link AdminPlaceDto}.
+     */
+    @GetMapping(value = "/{status}", params = "cursor")
+    public ResponseEntity<CursorPageDto<AdminPlaceDto>> getPlacesByStatusAfterCursor(
+        @PathVariable PlaceStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "5") int size,
+        @RequestParam(defaultValue = "false") boolean total) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(placeService.getPlacesByStatus(status, KeysetCursor.decode(cursor), size, total));
+    }
+
     /**
      * The method which return a list {@code PlaceByBoundsDto} filtered by values
-     * contained in the incoming {@link FilterPlaceDto} object.
+     * contained in the incoming {@link FilterPlaceDto} object. The list is sent in the compact
+     * {@link greencity.constant.AppConstant#PLACE_MARKERS_MEDIA_TYPE} format if the client accepts it.
      *
      * @param filterDto contains all information about the filtering of the list.
      * @return a list of {@code PlaceByBoundsDto}
@@ -156,6 +247,19 @@ public class PlaceController {
             .body(placeService.getPlacesByFilter(filterDto));
     }
 
+    /**
+     * The method which streams a JSON array of {@code PlaceByBoundsDto} filtered by values
+     * contained in the incoming {@link FilterPlaceDto} object, writing every place
+     * while places are read from the database.
+     *
+     * @param filterDto contains all information about the filtering of the list.
+     * @return JSON array of {@code PlaceByBoundsDto}.
+     */
+    @PostMapping(value = "/filter", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamFilteredPlaces(@Valid @RequestBody FilterPlaceDto filterDto) {
+        return streamPlaces(filterDto);
+    }
+
     /**
      * The method which update {@link Place} status.
      *
@@ -189,14 +293,41 @@ public class PlaceController {
             .body(placeService.filterPlaceBySearchPredicate(filterDto, pageable));
     }
 
+    /**
+     * The method returns a page of places filtered by values contained in the incoming {@link FilterPlaceDto}
+     * object after the cursor. The mapping is selected by the {@code cursor} parameter,
+     * which is empty for the first page.
+     *
+     * @param filterDto contains all information about the filtering of the list.
+     * @param cursor    {@link CursorPageDto#getNextCursor()} of the previous page or empty string.
+     * @param size      max count of places in the page.
+     * @param total     whether to count all filtered places.
+     * @return response {@link CursorPageDto} object. Contains a list of {@link AdminPlaceDto}.
+     */
+    @PostMapping(value = "/filter/predicate", params = "cursor")
+    public ResponseEntity<CursorPageDto<AdminPlaceDto>> filterPlaceBySearchPredicateAfterCursor(
+        @Valid @RequestBody FilterPlaceDto filterDto,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "5") int size,
+        @RequestParam(defaultValue = "false") boolean total) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(placeService.filterPlaceBySearchPredicate(filterDto, KeysetCursor.decode(cursor), size, total));
+    }
+
     /**
      * Controller to get place info.
+     * Like {@link #getInfo(Long, WebRequest)} it returns {@code 304 Not Modified} by the version of the place,
+     * the entity tag is also used in {@code If-Match} header of the update.
      *
      * @param id place
      * @return response {@link PlaceUpdateDto} object.
      */
     @GetMapping("/about/{id}")
-    public ResponseEntity<PlaceUpdateDto> getPlaceById(@NotNull @PathVariable Long id) {
+    public ResponseEntity<PlaceUpdateDto> getPlaceById(@NotNull @PathVariable Long id,
+                                                       @ApiIgnore WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETagUtils.ofVersion(placeService.getVersionById(id)))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.status(HttpStatus.OK)
             .body(placeService.getInfoForUpdatingById(id));
     }
@@ -205,11 +336,11 @@ public class PlaceController {
      * The method which update array of {@link Place}'s from DB.
      *
      * @param dto - {@link BulkUpdatePlaceStatusDto} with {@link Place}'s id's and updated {@link PlaceStatus}
-     * @return list of {@link UpdatePlaceStatusDto} with updated {@link Place}'s and {@link PlaceStatus}'s
+     * @return {@link BulkUpdatePlaceStatusResultDto} with updated, not found and unchanged {@link Place}'s
      * @author Nazar Vladyka
      */
     @PatchMapping("/statuses")
-    public ResponseEntity<List<UpdatePlaceStatusDto>> bulkUpdateStatuses(
+    public ResponseEntity<BulkUpdatePlaceStatusResultDto> bulkUpdateStatuses(
         @Valid @RequestBody BulkUpdatePlaceStatusDto dto) {
         return ResponseEntity.status(HttpStatus.OK).body(
             placeService.updateStatuses(dto));
@@ -252,4 +383,26 @@ public class PlaceController {
                 .map(Long::valueOf)
                 .collect(Collectors.toList())));
     }
+
+    private ResponseEntity<StreamingResponseBody> streamPlaces(FilterPlaceDto filterDto) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                placeService.forEachPlaceByFilter(filterDto, place -> {
+                    try {
+                        generator.writeObject(place);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .body(body);
+    }
 }
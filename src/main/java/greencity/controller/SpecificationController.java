@@ -1,5 +1,6 @@
 package greencity.controller;
 
+import greencity.dto.ETaggedListDto;
 import greencity.dto.specification.SpecificationNameDto;
 import greencity.service.SpecificationService;
 import java.util.List;
@@ -19,11 +20,14 @@ public class SpecificationController {
     /**
      * The method which returns all {@code SpecificationNameDto}.
      *
-     * @return list of {@code SpecificationNameDto}.
+     * @return list of {@code SpecificationNameDto}, or status 304 if it matches the {@code If-None-Match} header.
      * @author Kateryna Horokh
      */
     @GetMapping
     public ResponseEntity<List<SpecificationNameDto>> findAllSpecification() {
-        return ResponseEntity.status(HttpStatus.OK).body(specificationService.findAllSpecificationDto());
+        ETaggedListDto<SpecificationNameDto> specifications = specificationService.findAllSpecificationDto();
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(specifications.getEntityTag())
+            .body(specifications.getItems());
     }
 }
@@ -1,12 +1,15 @@
 package greencity.controller;
 
 import greencity.annotations.ApiPageable;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.filter.FilterUserDto;
 import greencity.dto.user.RoleDto;
+import greencity.dto.user.UserForListDto;
 import greencity.dto.user.UserRoleDto;
 import greencity.dto.user.UserStatusDto;
 import greencity.service.UserService;
+import greencity.util.KeysetCursor;
 import java.security.Principal;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -71,6 +74,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(userService.findByPage(pageable));
     }
 
+    /**
+     * The method which return users by page after the cursor. The mapping is selected
+     * by the {@code cursor} parameter, which is empty for the first page.
+     *
+     * @param cursor - {@link CursorPageDto#getNextCursor()} of the previous page or empty string.
+     * @param size   - max count of users in the page.
+     * @param total  - whether to count all users.
+     * @return {@link CursorPageDto}
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDto<UserForListDto>> getAllUsersAfterCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "5") int size,
+        @RequestParam(defaultValue = "false") boolean total) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(userService.findByPage(KeysetCursor.decode(cursor), size, total));
+    }
+
     /**
      * The method which return array of existing roles.
      *
@@ -98,4 +119,24 @@ public class UserController {
         @ApiIgnore Pageable pageable, @RequestBody FilterUserDto filterUserDto) {
         return ResponseEntity.status(HttpStatus.OK).body(userService.getUsersByFilter(filterUserDto, pageable));
     }
+
+    /**
+     * The method which return users by filter after the cursor. The mapping is selected
+     * by the {@code cursor} parameter, which is empty for the first page.
+     *
+     * @param filterUserDto dto which contains fields with filter criteria.
+     * @param cursor        - {@link CursorPageDto#getNextCursor()} of the previous page or empty string.
+     * @param size          - max count of users in the page.
+     * @param total         - whether to count all filtered users.
+     * @return {@link CursorPageDto}
+     */
+    @PostMapping(value = "filter", params = "cursor")
+    public ResponseEntity<CursorPageDto<UserForListDto>> getByRegAfterCursor(
+        @RequestBody FilterUserDto filterUserDto,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "5") int size,
+        @RequestParam(defaultValue = "false") boolean total) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(userService.getUsersByFilter(filterUserDto, KeysetCursor.decode(cursor), size, total));
+    }
 }
@@ -0,0 +1,90 @@
+package greencity.converter;
+
+import greencity.constant.AppConstant;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.util.PlaceMarkerCodec;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+/**
+ * Converts lists of {@link PlaceByBoundsDto} to the {@link AppConstant#PLACE_MARKERS_MEDIA_TYPE} format
+ * of {@link PlaceMarkerCodec} and back. The format is chosen only when the client accepts it explicitly,
+ * so the converter should be registered after the JSON one.
+ */
+public class PlaceMarkersHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<PlaceByBoundsDto>> {
+    public static final MediaType PLACE_MARKERS = MediaType.valueOf(AppConstant.PLACE_MARKERS_MEDIA_TYPE);
+
+    /**
+     * Constructor.
+     */
+    public PlaceMarkersHttpMessageConverter() {
+        super(PLACE_MARKERS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accepts only lists of {@link PlaceByBoundsDto}.
+     */
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isPlaceList(type) && canRead(mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accepts only lists of {@link PlaceByBoundsDto}.
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isPlaceList(type) && canWrite(mediaType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PlaceByBoundsDto> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+        throws IOException {
+        return PlaceMarkerCodec.decode(inputMessage.getBody());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<PlaceByBoundsDto> readInternal(Class<? extends List<PlaceByBoundsDto>> clazz,
+                                                  HttpInputMessage inputMessage) throws IOException {
+        return PlaceMarkerCodec.decode(inputMessage.getBody());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeInternal(List<PlaceByBoundsDto> places, Type type, HttpOutputMessage outputMessage)
+        throws IOException {
+        PlaceMarkerCodec.encode(places, outputMessage.getBody());
+    }
+
+    private static boolean isPlaceList(Type type) {
+        if (type == null) {
+            return false;
+        }
+        ResolvableType list = ResolvableType.forType(type).as(List.class);
+        return list != ResolvableType.NONE && list.resolveGeneric(0) == PlaceByBoundsDto.class;
+    }
+}
@@ -0,0 +1,15 @@
+package greencity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ETaggedListDto<T> {
+    private List<T> items;
+
+    private String entityTag;
+}
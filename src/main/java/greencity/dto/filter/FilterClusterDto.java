@@ -0,0 +1,25 @@
+package greencity.dto.filter;
+
+import static greencity.constant.ValidationConstants.*;
+
+import greencity.dto.location.MapBoundsDto;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FilterClusterDto {
+    @Valid
+    @NotNull
+    private MapBoundsDto mapBoundsDto;
+    @NotNull(message = ZOOM_CAN_NOT_BE_NULL)
+    @Min(value = ZOOM_MIN, message = ZOOM_MIN_VALIDATION)
+    @Max(value = ZOOM_MAX, message = ZOOM_MAX_VALIDATION)
+    private Integer zoom;
+}
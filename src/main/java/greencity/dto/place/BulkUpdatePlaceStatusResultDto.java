@@ -0,0 +1,18 @@
+package greencity.dto.place;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkUpdatePlaceStatusResultDto {
+    private List<UpdatePlaceStatusDto> updated = new ArrayList<>();
+
+    private List<Long> notFound = new ArrayList<>();
+
+    private List<Long> unchanged = new ArrayList<>();
+}
@@ -1,7 +1,6 @@
 package greencity.dto.place;
 
 import greencity.dto.location.LocationDto;
-import greencity.entity.Location;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,4 +12,18 @@ public class PlaceByBoundsDto {
     private Long id;
     private String name;
     private LocationDto location;
+
+    /**
+     * Constructor for JPQL projections which select place and location columns.
+     *
+     * @param id         - place id.
+     * @param name       - place name.
+     * @param locationId - location id.
+     * @param lat        - location latitude.
+     * @param lng        - location longitude.
+     * @param address    - location address.
+     */
+    public PlaceByBoundsDto(Long id, String name, Long locationId, Double lat, Double lng, String address) {
+        this(id, name, new LocationDto(locationId, lat, lng, address));
+    }
 }
@@ -0,0 +1,14 @@
+package greencity.dto.place;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceClusterDto {
+    private Double lat;
+    private Double lng;
+    private Integer count;
+}
@@ -0,0 +1,15 @@
+package greencity.dto.place;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceClustersDto {
+    private List<PlaceClusterDto> clusters = new ArrayList<>();
+    private List<PlaceByBoundsDto> places = new ArrayList<>();
+}
@@ -20,4 +20,5 @@ public class PlaceInfoDto {
     private List<SpecificationValueDto> specificationValues;
     private List<CommentDto> comments;
     private Double rate;
+    private Long version;
 }
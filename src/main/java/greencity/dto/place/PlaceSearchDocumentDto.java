@@ -0,0 +1,20 @@
+package greencity.dto.place;
+
+import greencity.entity.enums.PlaceStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceSearchDocumentDto {
+    private Long id;
+    private PlaceStatus status;
+    private LocalDateTime modifiedDate;
+    private String authorEmail;
+    private String categoryName;
+    private String name;
+    private String address;
+}
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import java.time.LocalTime;
 import javax.persistence.*;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 @Builder
 public class BreakTime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "break_time_id")
+    @TableGenerator(name = "break_time_id", table = AppConstant.ID_GENERATOR_TABLE, pkColumnName = "entity",
+        valueColumnName = "next_id", pkColumnValue = "break_time", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
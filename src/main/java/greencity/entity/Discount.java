@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import javax.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,9 @@ import lombok.*;
 @EqualsAndHashCode(exclude = {"value", "place", "category", "specification"})
 public class Discount {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "discount_id")
+    @TableGenerator(name = "discount_id", table = AppConstant.ID_GENERATOR_TABLE, pkColumnName = "entity",
+        valueColumnName = "next_id", pkColumnValue = "discount", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import javax.persistence.*;
 import lombok.*;
 
@@ -10,7 +11,9 @@ import lombok.*;
 @Builder
 public class Location {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "location_id")
+    @TableGenerator(name = "location_id", table = AppConstant.ID_GENERATOR_TABLE, pkColumnName = "entity",
+        valueColumnName = "next_id", pkColumnValue = "location", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -1,5 +1,6 @@
 package greencity.entity;
 
+import greencity.constant.AppConstant;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import javax.persistence.*;
@@ -14,7 +15,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 @Builder
 public class OpeningHours {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "opening_hours_id")
+    @TableGenerator(name = "opening_hours_id", table = AppConstant.ID_GENERATOR_TABLE, pkColumnName = "entity",
+        valueColumnName = "next_id", pkColumnValue = "opening_hours", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -28,7 +31,7 @@ public class OpeningHours {
     @Enumerated
     private DayOfWeek weekDay;
 
-    @OneToOne(cascade = {CascadeType.ALL})
+    @OneToOne(cascade = {CascadeType.ALL}, orphanRemoval = true)
     private BreakTime breakTime;
 
     @ManyToOne
@@ -3,6 +3,7 @@ package greencity.entity;
 import greencity.constant.AppConstant;
 import greencity.entity.enums.PlaceStatus;
 import greencity.util.DateTimeService;
+import greencity.util.OpeningHoursBitmap;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -10,20 +11,62 @@ import java.util.List;
 import java.util.Set;
 import javax.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = Place.INFO_GRAPH, attributeNodes = {
+        @NamedAttributeNode("location"),
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode(value = "openingHoursList", subgraph = "openingHours")},
+        subgraphs = @NamedSubgraph(name = "openingHours", attributeNodes = @NamedAttributeNode("breakTime"))),
+    @NamedEntityGraph(name = Place.UPDATE_GRAPH, attributeNodes = {
+        @NamedAttributeNode("location"),
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode(value = "openingHoursList", subgraph = "openingHours"),
+        @NamedAttributeNode(value = "discounts", subgraph = "discounts")},
+        subgraphs = {
+            @NamedSubgraph(name = "openingHours", attributeNodes = @NamedAttributeNode("breakTime")),
+            @NamedSubgraph(name = "discounts", attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("specification")})}),
+    @NamedEntityGraph(name = Place.ADMIN_GRAPH, attributeNodes = {
+        @NamedAttributeNode("location"),
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("author")})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(
     exclude = {"discounts", "author", "openingHoursList", "comments", "photos",
-        "location", "favoritePlaces", "category", "rates", "webPages", "status"})
+        "location", "favoritePlaces", "category", "rates", "webPages", "status", "openingHoursBitmap",
+        "rateCount", "rateSum", "version"})
 @ToString(exclude = {"comments", "photos", "specificationValues", "favoritePlaces",
-    "webPages", "rates", "discounts", "openingHoursList", "location", "author"})
+    "webPages", "rates", "discounts", "openingHoursList", "location", "author", "openingHoursBitmap"})
 public class Place {
+    /**
+     * Fetch plan of {@code PlaceInfoDto}. Comments and specification values are bags which can not be fetched
+     * together with another collection, they are loaded by one query each.
+     */
+    public static final String INFO_GRAPH = "Place.info";
+    /**
+     * Fetch plan of {@code PlaceUpdateDto}.
+     */
+    public static final String UPDATE_GRAPH = "Place.update";
+    /**
+     * Fetch plan of {@code AdminPlaceDto} pages. Collections are not fetched by join, so pages are limited
+     * in the database, opening hours of the page are loaded in batches.
+     */
+    public static final String ADMIN_GRAPH = "Place.admin";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_id")
+    @TableGenerator(name = "place_id", table = AppConstant.ID_GENERATOR_TABLE, pkColumnName = "entity",
+        valueColumnName = "next_id", pkColumnValue = "place", allocationSize = AppConstant.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 50)
@@ -76,4 +119,20 @@ public class Place {
     @Enumerated(value = EnumType.ORDINAL)
     @Column(name = "status")
     private PlaceStatus status = PlaceStatus.PROPOSED;
+
+    @Column(name = "opening_hours_bitmap", length = OpeningHoursBitmap.LENGTH)
+    private byte[] openingHoursBitmap;
+
+    @ColumnDefault("0")
+    @Column(name = "rate_count", nullable = false, insertable = false, updatable = false)
+    private int rateCount;
+
+    @ColumnDefault("0")
+    @Column(name = "rate_sum", nullable = false, insertable = false, updatable = false)
+    private long rateSum;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.servlet.error.ErrorAttributes;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -63,7 +64,13 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(exceptionResponse);
     }
 
-
+    /**
+     * Method intercept exception {@link MethodArgumentTypeMismatchException}.
+     *
+     * @param ex      Exception witch should be intercepted.
+     * @param request contain  detail about occur exception
+     * @return ResponseEntity witch  contain http status and body  with name and expected type of the argument.
+     */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public final ResponseEntity handleConversionFailedException(
         MethodArgumentTypeMismatchException ex, WebRequest request) {
@@ -121,6 +128,38 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
     }
 
+    /**
+     * Method intercept exception {@link PlaceVersionMismatchException}.
+     *
+     * @param ex      Exception witch should be intercepted.
+     * @param request contain  detail about occur exception
+     * @return ResponseEntity witch  contain http status and body  with message of exception.
+     */
+    @ExceptionHandler(PlaceVersionMismatchException.class)
+    public final ResponseEntity handlePlaceVersionMismatchException(PlaceVersionMismatchException ex,
+                                                                    WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(getErrorAttributes(request));
+        log.trace(ex.getMessage(), ex);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(exceptionResponse);
+    }
+
+    /**
+     * Method intercept exception {@link OptimisticLockingFailureException}, which is thrown when an entity
+     * was changed by a concurrent transaction.
+     *
+     * @param ex      Exception witch should be intercepted.
+     * @param request contain  detail about occur exception
+     * @return ResponseEntity witch  contain http status and body  with message of exception.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public final ResponseEntity handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                                        WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(getErrorAttributes(request));
+        exceptionResponse.setMessage(ErrorMessage.PLACE_CONCURRENT_UPDATE);
+        log.trace(ex.getMessage(), ex);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionResponse);
+    }
+
     /**
      * Method intercept exception {@link DateTimeParseException}.
      *
@@ -0,0 +1,15 @@
+package greencity.exception;
+
+/**
+ * Exception that we get when user trying to change place which was changed since the user read it.
+ */
+public class PlaceVersionMismatchException extends RuntimeException {
+    /**
+     * Constructor for PlaceVersionMismatchException.
+     *
+     * @param message - giving message.
+     */
+    public PlaceVersionMismatchException(String message) {
+        super(message);
+    }
+}
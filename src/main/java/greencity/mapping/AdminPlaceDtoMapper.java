@@ -0,0 +1,56 @@
+package greencity.mapping;
+
+import greencity.constant.ErrorMessage;
+import greencity.dto.openhours.OpenHoursDto;
+import greencity.dto.place.AdminPlaceDto;
+import greencity.entity.OpeningHours;
+import greencity.entity.Place;
+import greencity.exception.NotImplementedMethodException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class uses other {@code Autowired} mappers to convert {@link Place} entity objects to {@link
+ * AdminPlaceDto} dto objects.
+ */
+@AllArgsConstructor
+@Component
+public class AdminPlaceDtoMapper implements Mapper<Place, AdminPlaceDto> {
+    private LocationDtoMapper locationDtoMapper;
+    private CategoryDtoMapper categoryDtoMapper;
+    private OpenHoursDtoMapper openHoursDtoMapper;
+    private PlaceAuthorDtoMapper placeAuthorDtoMapper;
+
+    @Override
+    public Place convertToEntity(AdminPlaceDto dto) {
+        throw new NotImplementedMethodException(ErrorMessage.NOT_IMPLEMENTED_METHOD);
+    }
+
+    @Override
+    public AdminPlaceDto convertToDto(Place entity) {
+        AdminPlaceDto dto = new AdminPlaceDto();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        if (entity.getLocation() != null) {
+            dto.setLocation(locationDtoMapper.convertToDto(entity.getLocation()));
+        }
+        if (entity.getCategory() != null) {
+            dto.setCategory(categoryDtoMapper.convertToDto(entity.getCategory()));
+        }
+        if (entity.getOpeningHoursList() != null) {
+            List<OpenHoursDto> openingHoursList = new ArrayList<>(entity.getOpeningHoursList().size());
+            for (OpeningHours openingHours : entity.getOpeningHoursList()) {
+                openingHoursList.add(openHoursDtoMapper.convertToDto(openingHours));
+            }
+            dto.setOpeningHoursList(openingHoursList);
+        }
+        if (entity.getAuthor() != null) {
+            dto.setAuthor(placeAuthorDtoMapper.convertToDto(entity.getAuthor()));
+        }
+        dto.setStatus(entity.getStatus());
+        dto.setModifiedDate(entity.getModifiedDate());
+        return dto;
+    }
+}
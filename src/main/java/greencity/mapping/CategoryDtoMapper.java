@@ -0,0 +1,22 @@
+package greencity.mapping;
+
+import greencity.dto.category.CategoryDto;
+import greencity.entity.Category;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link Category} entity objects to {@link CategoryDto} dto objects and vise versa
+ * with plain getters and setters.
+ */
+@Component
+public class CategoryDtoMapper implements Mapper<Category, CategoryDto> {
+    @Override
+    public Category convertToEntity(CategoryDto dto) {
+        return Category.builder().name(dto.getName()).build();
+    }
+
+    @Override
+    public CategoryDto convertToDto(Category entity) {
+        return new CategoryDto(entity.getName());
+    }
+}
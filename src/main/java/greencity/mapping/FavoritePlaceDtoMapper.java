@@ -3,33 +3,29 @@ package greencity.mapping;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
 import greencity.entity.FavoritePlace;
 import greencity.entity.Place;
-import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
 
 /**
- * The class uses other {@code Autowired} mappers to convert {@link FavoritePlace} entity objects to {@link
- * FavoritePlaceDto} dto objects and vise versa.
+ * The class converts {@link FavoritePlace} entity objects to {@link FavoritePlaceDto} dto objects
+ * and vise versa.
  *
  * @author Zakhar Skaletskyi
  */
-@AllArgsConstructor
 @Component
 public class FavoritePlaceDtoMapper implements Mapper<FavoritePlace, FavoritePlaceDto> {
-    private ModelMapper modelMapper;
-
     @Override
     public FavoritePlace convertToEntity(FavoritePlaceDto dto) {
-        FavoritePlace favoritePlace = modelMapper.map(dto, FavoritePlace.class);
-        favoritePlace.setPlace(Place.builder().id(dto.getPlaceId()).build());
-
-        return favoritePlace;
+        return FavoritePlace.builder()
+            .name(dto.getName())
+            .place(Place.builder().id(dto.getPlaceId()).build())
+            .build();
     }
 
     @Override
     public FavoritePlaceDto convertToDto(FavoritePlace entity) {
-        FavoritePlaceDto favoritePlaceDto = modelMapper.map(entity, FavoritePlaceDto.class);
+        FavoritePlaceDto favoritePlaceDto = new FavoritePlaceDto();
+        favoritePlaceDto.setName(entity.getName());
         favoritePlaceDto.setPlaceId(entity.getPlace().getId());
         return favoritePlaceDto;
     }
@@ -0,0 +1,27 @@
+package greencity.mapping;
+
+import greencity.dto.location.LocationDto;
+import greencity.entity.Location;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link Location} entity objects to {@link LocationDto} dto objects and vise versa
+ * with plain getters and setters.
+ */
+@Component
+public class LocationDtoMapper implements Mapper<Location, LocationDto> {
+    @Override
+    public Location convertToEntity(LocationDto dto) {
+        return Location.builder()
+            .id(dto.getId())
+            .lat(dto.getLat())
+            .lng(dto.getLng())
+            .address(dto.getAddress())
+            .build();
+    }
+
+    @Override
+    public LocationDto convertToDto(Location entity) {
+        return new LocationDto(entity.getId(), entity.getLat(), entity.getLng(), entity.getAddress());
+    }
+}
@@ -0,0 +1,27 @@
+package greencity.mapping;
+
+import greencity.dto.openhours.OpenHoursDto;
+import greencity.entity.OpeningHours;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link OpeningHours} entity objects to {@link OpenHoursDto} dto objects and vise versa
+ * with plain getters and setters.
+ */
+@Component
+public class OpenHoursDtoMapper implements Mapper<OpeningHours, OpenHoursDto> {
+    @Override
+    public OpeningHours convertToEntity(OpenHoursDto dto) {
+        return OpeningHours.builder()
+            .id(dto.getId())
+            .openTime(dto.getOpenTime())
+            .closeTime(dto.getCloseTime())
+            .weekDay(dto.getWeekDay())
+            .build();
+    }
+
+    @Override
+    public OpenHoursDto convertToDto(OpeningHours entity) {
+        return new OpenHoursDto(entity.getId(), entity.getOpenTime(), entity.getCloseTime(), entity.getWeekDay());
+    }
+}
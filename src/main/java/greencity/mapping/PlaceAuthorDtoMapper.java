@@ -0,0 +1,27 @@
+package greencity.mapping;
+
+import greencity.dto.user.PlaceAuthorDto;
+import greencity.entity.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link User} entity objects to {@link PlaceAuthorDto} dto objects and vise versa
+ * with plain getters and setters.
+ */
+@Component
+public class PlaceAuthorDtoMapper implements Mapper<User, PlaceAuthorDto> {
+    @Override
+    public User convertToEntity(PlaceAuthorDto dto) {
+        return User.builder()
+            .id(dto.getId())
+            .firstName(dto.getFirstName())
+            .lastName(dto.getLastName())
+            .email(dto.getEmail())
+            .build();
+    }
+
+    @Override
+    public PlaceAuthorDto convertToDto(User entity) {
+        return new PlaceAuthorDto(entity.getId(), entity.getFirstName(), entity.getLastName(), entity.getEmail());
+    }
+}
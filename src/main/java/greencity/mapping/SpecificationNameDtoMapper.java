@@ -0,0 +1,22 @@
+package greencity.mapping;
+
+import greencity.dto.specification.SpecificationNameDto;
+import greencity.entity.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link Specification} entity objects to {@link SpecificationNameDto} dto objects
+ * and vise versa with plain getters and setters.
+ */
+@Component
+public class SpecificationNameDtoMapper implements Mapper<Specification, SpecificationNameDto> {
+    @Override
+    public Specification convertToEntity(SpecificationNameDto dto) {
+        return Specification.builder().name(dto.getName()).build();
+    }
+
+    @Override
+    public SpecificationNameDto convertToDto(Specification entity) {
+        return new SpecificationNameDto(entity.getName());
+    }
+}
@@ -0,0 +1,38 @@
+package greencity.mapping;
+
+import greencity.dto.user.UserForListDto;
+import greencity.entity.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * The class converts {@link User} entity objects to {@link UserForListDto} dto objects and vise versa
+ * with plain getters and setters.
+ */
+@Component
+public class UserForListDtoMapper implements Mapper<User, UserForListDto> {
+    @Override
+    public User convertToEntity(UserForListDto dto) {
+        return User.builder()
+            .id(dto.getId())
+            .firstName(dto.getFirstName())
+            .lastName(dto.getLastName())
+            .dateOfRegistration(dto.getDateOfRegistration())
+            .email(dto.getEmail())
+            .userStatus(dto.getUserStatus())
+            .role(dto.getRole())
+            .build();
+    }
+
+    @Override
+    public UserForListDto convertToDto(User entity) {
+        UserForListDto dto = new UserForListDto();
+        dto.setId(entity.getId());
+        dto.setFirstName(entity.getFirstName());
+        dto.setLastName(entity.getLastName());
+        dto.setDateOfRegistration(entity.getDateOfRegistration());
+        dto.setEmail(entity.getEmail());
+        dto.setUserStatus(entity.getUserStatus());
+        dto.setRole(entity.getRole());
+        return dto;
+    }
+}
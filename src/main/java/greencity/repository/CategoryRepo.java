@@ -1,6 +1,8 @@
 package greencity.repository;
 
 import greencity.entity.Category;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -16,4 +18,12 @@ public interface CategoryRepo extends JpaRepository<Category, Long> {
      * @return a category by name.
      */
     Category findByName(String name);
+
+    /**
+     * Finds categories by names in one query.
+     *
+     * @param names to find by.
+     * @return a list of found categories.
+     */
+    List<Category> findAllByNameIn(Collection<String> names);
 }
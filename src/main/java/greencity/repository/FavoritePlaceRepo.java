@@ -1,20 +1,47 @@
 package greencity.repository;
 
+import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.place.PlaceByBoundsDto;
 import greencity.entity.FavoritePlace;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FavoritePlaceRepo extends JpaRepository<FavoritePlace, Long> {
     /**
-     * Find all favorite places by user email.
+     * Find all favorite places by user email in one query without loading places.
      *
      * @param email - user's email
-     * @return list of favorite places
-     * @author Zakhar Skaletskyi
+     * @return list of {@link FavoritePlaceDto}
+     */
+    @Query("select new greencity.dto.favoriteplace.FavoritePlaceDto(fp.name, fp.place.id) "
+        + "from FavoritePlace fp join fp.user u where u.email = :email")
+    List<FavoritePlaceDto> findAllDtoByUserEmail(@Param("email") String email);
+
+    /**
+     * Find ids of all places which are favorite places of the user.
+     *
+     * @param email - user's email
+     * @return list of place ids
+     */
+    @Query("select fp.place.id from FavoritePlace fp join fp.user u where u.email = :email")
+    List<Long> findAllPlaceIdsByUserEmail(@Param("email") String email);
+
+    /**
+     * Find favorite place with location of the place by place id and user email in one query.
+     *
+     * @param placeId   - place id
+     * @param userEmail - user's email
+     * @return {@link PlaceByBoundsDto} with name from favorite place or {@code null}
      */
-    List<FavoritePlace> findAllByUserEmail(String email);
+    @Query("select new greencity.dto.place.PlaceByBoundsDto(p.id, fp.name, l.id, l.lat, l.lng, l.address) "
+        + "from FavoritePlace fp join fp.user u join fp.place p join p.location l "
+        + "where p.id = :placeId and u.email = :email")
+    PlaceByBoundsDto findPlaceByBoundsDtoByPlaceIdAndUserEmail(@Param("placeId") Long placeId,
+                                                               @Param("email") String userEmail);
 
     /**
      * Find favorite place existing by place id and user email.
@@ -2,9 +2,12 @@ package greencity.repository;
 
 import greencity.entity.OpeningHours;
 import greencity.entity.Place;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -34,4 +37,13 @@ public interface OpenHoursRepo extends JpaRepository<OpeningHours, Long> {
      * @param placeId to find by.
      */
     void deleteAllByPlaceId(Long placeId);
+
+    /**
+     * Finds all {@code OpeningHours} records with their breaks related to the specified places.
+     *
+     * @param placeIds ids of places.
+     * @return a list of the {@code OpeningHours} for the places.
+     */
+    @Query("select h from OpeningHours h left join fetch h.breakTime where h.place.id in :placeIds")
+    List<OpeningHours> findAllWithBreakTimeByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
 }
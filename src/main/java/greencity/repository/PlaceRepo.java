@@ -1,13 +1,23 @@
 package greencity.repository;
 
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceSearchDocumentDto;
+import greencity.dto.place.UpdatePlaceStatusDto;
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,7 +26,7 @@ import org.springframework.stereotype.Repository;
  * Provides an interface to manage {@link Place} entity.
  */
 @Repository
-public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationExecutor<Place> {
+public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationExecutor<Place>, PlaceRepoCustom {
     /**
      * Finds all places related to the given {@code PlaceStatus}.
      *
@@ -25,23 +35,198 @@ public interface PlaceRepo extends JpaRepository<Place, Long>, JpaSpecificationE
      * @return a list of places with the given {@code PlaceStatus}.
      * @author Roman Zahorui
      */
+    @EntityGraph(Place.ADMIN_GRAPH)
     Page<Place> findAllByStatusOrderByModifiedDateDesc(PlaceStatus status, Pageable pageable);
 
     /**
-     * Method to find average rate.
+     * Finds page of places selected by the specification with the {@link Place#ADMIN_GRAPH} fetch plan.
+     *
+     * @param specification to select by.
+     * @param pageable      pageable configuration.
+     * @return page of places.
+     */
+    @Override
+    @EntityGraph(Place.ADMIN_GRAPH)
+    Page<Place> findAll(Specification<Place> specification, Pageable pageable);
+
+    /**
+     * Finds places by ids with the {@link Place#ADMIN_GRAPH} fetch plan.
+     *
+     * @param ids of places.
+     * @return list of found places in any order.
+     */
+    @EntityGraph(Place.ADMIN_GRAPH)
+    List<Place> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds place by id with the {@link Place#INFO_GRAPH} fetch plan.
+     *
+     * @param id of the place.
+     * @return optional of the place.
+     */
+    @EntityGraph(Place.INFO_GRAPH)
+    Optional<Place> findWithInfoById(Long id);
+
+    /**
+     * Finds place by id with the {@link Place#UPDATE_GRAPH} fetch plan.
+     *
+     * @param id of the place.
+     * @return optional of the place.
+     */
+    @EntityGraph(Place.UPDATE_GRAPH)
+    Optional<Place> findForUpdatingById(Long id);
+
+    /**
+     * Finds place by id and increments its version when the transaction commits,
+     * so the version changes even if only related rows of the place are changed.
+     * The commit fails if the version was changed by another transaction.
+     *
+     * @param id of the place.
+     * @return optional of the place.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select p from Place p where p.id = :id")
+    Optional<Place> findAndIncrementVersionById(@Param("id") Long id);
+
+    /**
+     * Finds version of the place without loading the place.
+     *
+     * @param id of the place.
+     * @return optional of the version.
+     */
+    @Query("select p.version from Place p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Counts places related to the given {@code PlaceStatus}.
+     *
+     * @param status to count by.
+     * @return count of places with the given {@code PlaceStatus}.
+     */
+    long countByStatus(PlaceStatus status);
+
+    /**
+     * Method to find average rate. It is computed from the rating aggregates of the place,
+     * so the {@code Rate} table is not scanned.
      *
      * @param id place
-     * @return average rate
+     * @return average rate or {@code null} if the place has no rates.
      */
-    @Query(value = "select avg(r.rate) FROM Rate r " + "where place_id = :id")
+    @Query("select p.rateSum * 1.0 / nullif(p.rateCount, 0) from Place p where p.id = :id")
     Double getAverageRate(@Param("id") Long id);
 
+    /**
+     * Method atomically changes rating aggregates of the place.
+     *
+     * @param id         id of the place.
+     * @param countDelta change of the count of rates.
+     * @param sumDelta   change of the sum of rates.
+     * @return count of updated places.
+     */
+    @Modifying
+    @Query("update Place p set p.rateCount = p.rateCount + :countDelta, p.rateSum = p.rateSum + :sumDelta, "
+        + "p.version = p.version + 1 where p.id = :id")
+    int updateRating(@Param("id") Long id, @Param("countDelta") int countDelta, @Param("sumDelta") long sumDelta);
+
     /**
      * Generated javadoc, must be replaced with real one.
      */
     @Query("from Place p where p.status = :status")
     List<Place> getPlacesByStatus(@Param("status") PlaceStatus status);
 
+    /**
+     * Method selects id, name and location of places with the given status without loading entities.
+     *
+     * @param status status of places witch should be presented.
+     * @return a list of {@link PlaceByBoundsDto}.
+     */
+    @Query("select new greencity.dto.place.PlaceByBoundsDto(p.id, p.name, l.id, l.lat, l.lng, l.address) "
+        + "from Place p join p.location l where p.status = :status")
+    List<PlaceByBoundsDto> findAllPlaceByBoundsDtoByStatus(@Param("status") PlaceStatus status);
+
+    /**
+     * Method selects id, name and location of places with the given ids and status without loading entities.
+     *
+     * @param ids    ids of places.
+     * @param status status of places witch should be presented.
+     * @return a list of {@link PlaceByBoundsDto}.
+     */
+    @Query("select new greencity.dto.place.PlaceByBoundsDto(p.id, p.name, l.id, l.lat, l.lng, l.address) "
+        + "from Place p join p.location l where p.id in :ids and p.status = :status")
+    List<PlaceByBoundsDto> findAllPlaceByBoundsDtoByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                                  @Param("status") PlaceStatus status);
+
+    /**
+     * Method selects fields of all places which are searched by admin without loading entities.
+     *
+     * @return a list of {@link PlaceSearchDocumentDto}.
+     */
+    @Query("select new greencity.dto.place.PlaceSearchDocumentDto(p.id, p.status, p.modifiedDate, a.email, c.name, "
+        + "p.name, l.address) from Place p left join p.author a left join p.category c left join p.location l")
+    List<PlaceSearchDocumentDto> findAllPlaceSearchDocumentDto();
+
+    /**
+     * Method selects fields of places with the given ids which are searched by admin without loading entities.
+     *
+     * @param ids ids of places.
+     * @return a list of {@link PlaceSearchDocumentDto}.
+     */
+    @Query("select new greencity.dto.place.PlaceSearchDocumentDto(p.id, p.status, p.modifiedDate, a.email, c.name, "
+        + "p.name, l.address) from Place p left join p.author a left join p.category c left join p.location l "
+        + "where p.id in :ids")
+    List<PlaceSearchDocumentDto> findAllPlaceSearchDocumentDtoByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Method selects ids and current statuses of places with the given ids.
+     *
+     * @param ids ids of places.
+     * @return a list of {@link UpdatePlaceStatusDto} with current statuses.
+     */
+    @Query("select new greencity.dto.place.UpdatePlaceStatusDto(p.id, p.status) from Place p where p.id in :ids")
+    List<UpdatePlaceStatusDto> findAllStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Method finds places with the given ids together with their authors.
+     *
+     * @param ids ids of places.
+     * @return a list of {@link Place} with fetched authors.
+     */
+    @Query("select p from Place p join fetch p.author where p.id in :ids")
+    List<Place> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Method updates status and modification time of places with the given ids by one statement.
+     *
+     * @param ids          ids of places.
+     * @param status       new status.
+     * @param modifiedDate time of modification.
+     * @return count of updated places.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Place p set p.status = :status, p.modifiedDate = :modifiedDate, p.version = p.version + 1 "
+        + "where p.id in :ids")
+    int updateStatuses(@Param("ids") Collection<Long> ids, @Param("status") PlaceStatus status,
+                       @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    /**
+     * Method updates compiled opening hours of the place.
+     *
+     * @param id     id of the place.
+     * @param bitmap bitmap built by {@link greencity.util.OpeningHoursBitmap}.
+     * @return count of updated places.
+     */
+    @Modifying
+    @Query("update Place p set p.openingHoursBitmap = :bitmap, p.version = p.version + 1 where p.id = :id")
+    int updateOpeningHoursBitmap(@Param("id") Long id, @Param("bitmap") byte[] bitmap);
+
+    /**
+     * Method selects ids of places which opening hours were not compiled yet.
+     *
+     * @return a list of place ids.
+     */
+    @Query("select p.id from Place p where p.openingHoursBitmap is null")
+    List<Long> findAllIdsWithoutOpeningHoursBitmap();
+
     /**
      * Method return a list {@code Place} depends on the map bounds.
      *
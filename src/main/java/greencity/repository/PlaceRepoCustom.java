@@ -0,0 +1,45 @@
+package greencity.repository;
+
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.entity.Place;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Provides {@link Place} queries which can not be expressed by derived or annotated repository methods.
+ */
+public interface PlaceRepoCustom {
+    /**
+     * Method finds places which match the specification and selects only the columns
+     * needed for {@link PlaceByBoundsDto} without loading {@link Place} entities.
+     *
+     * @param specification - {@link Specification} of {@link Place}, e.g.
+     *                      {@link greencity.repository.options.PlaceFilter}.
+     * @return list of {@link PlaceByBoundsDto}.
+     */
+    List<PlaceByBoundsDto> findAllPlaceByBoundsDto(Specification<Place> specification);
+
+    /**
+     * Method finds at most {@code limit} places with id greater than {@code afterId} which match the specification
+     * like {@link #findAllPlaceByBoundsDto(Specification)}, ordered by id. The last id of a chunk is the
+     * {@code afterId} of the next one, so a big result is read by short queries.
+     *
+     * @param specification - {@link Specification} of {@link Place}.
+     * @param afterId       - id of the last place of the previous chunk, {@code null} for the first chunk.
+     * @param limit         - max count of places.
+     * @return list of {@link PlaceByBoundsDto}.
+     */
+    List<PlaceByBoundsDto> findAllPlaceByBoundsDtoAfter(Specification<Place> specification, Long afterId, int limit);
+
+    /**
+     * Method finds at most {@code limit} first places which match the specification without counting all of them.
+     * Places are fetched with the {@link Place#ADMIN_GRAPH} fetch plan.
+     *
+     * @param specification - {@link Specification} of {@link Place}.
+     * @param sort          - order of places.
+     * @param limit         - max count of places.
+     * @return list of {@link Place}.
+     */
+    List<Place> findAll(Specification<Place> specification, Sort sort, int limit);
+}
@@ -0,0 +1,83 @@
+package greencity.repository;
+
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.entity.Location;
+import greencity.entity.Place;
+import greencity.repository.options.Joins;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Criteria API implementation of {@link PlaceRepoCustom}.
+ */
+public class PlaceRepoCustomImpl implements PlaceRepoCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PlaceByBoundsDto> findAllPlaceByBoundsDto(Specification<Place> specification) {
+        return entityManager.createQuery(placeByBoundsDtoQuery(specification, Sort.unsorted())).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rows are constructor projections, so they are not added to the persistence context.
+     */
+    @Override
+    public List<PlaceByBoundsDto> findAllPlaceByBoundsDtoAfter(Specification<Place> specification, Long afterId,
+                                                               int limit) {
+        Specification<Place> chunk = afterId == null ? specification
+            : specification.and((root, query, cb) -> cb.greaterThan(root.get("id"), afterId));
+        return entityManager.createQuery(placeByBoundsDtoQuery(chunk, Sort.by("id")))
+            .setHint(QueryHints.HINT_READONLY, true)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Place> findAll(Specification<Place> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Place> query = cb.createQuery(Place.class);
+        Root<Place> root = query.from(Place.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_LOADGRAPH, entityManager.getEntityGraph(Place.ADMIN_GRAPH))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private CriteriaQuery<PlaceByBoundsDto> placeByBoundsDtoQuery(Specification<Place> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PlaceByBoundsDto> query = cb.createQuery(PlaceByBoundsDto.class);
+        Root<Place> root = query.from(Place.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        Join<Place, Location> location = Joins.inner(root, "location");
+        query.select(cb.construct(PlaceByBoundsDto.class,
+            root.get("id"), root.get("name"),
+            location.get("id"), location.get("lat"), location.get("lng"), location.get("address")));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+}
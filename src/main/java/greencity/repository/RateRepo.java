@@ -0,0 +1,27 @@
+package greencity.repository;
+
+import greencity.entity.Rate;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Provides an interface to manage {@link Rate} entity.
+ */
+@Repository
+public interface RateRepo extends JpaRepository<Rate, Long> {
+    /**
+     * Finds {@code Rate} by id and locks it until the end of the transaction,
+     * so the old value is not changed concurrently while rating aggregates of the place are updated.
+     *
+     * @param id of the rate.
+     * @return optional of {@code Rate}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Rate r where r.id = :id")
+    Optional<Rate> findByIdForUpdate(@Param("id") Long id);
+}
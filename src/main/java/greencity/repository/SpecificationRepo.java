@@ -2,6 +2,8 @@ package greencity.repository;
 
 import greencity.entity.Place;
 import greencity.entity.Specification;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +19,12 @@ public interface SpecificationRepo extends JpaRepository<Specification, Long> {
      * @return a Specification by name.
      */
     Specification findByName(String name);
+
+    /**
+     * Finds specifications by names in one query.
+     *
+     * @param names to find by.
+     * @return a list of found specifications.
+     */
+    List<Specification> findAllByNameIn(Collection<String> names);
 }
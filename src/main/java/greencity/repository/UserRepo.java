@@ -13,7 +13,7 @@ import org.springframework.stereotype.Repository;
  * Provides an interface to manage {@link User} entity.
  */
 @Repository
-public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserRepoCustom {
     /**
      * Find {@link User} by email.
      *
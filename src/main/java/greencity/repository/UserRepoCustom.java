@@ -0,0 +1,21 @@
+package greencity.repository;
+
+import greencity.entity.User;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Provides {@link User} queries which can not be expressed by derived or annotated repository methods.
+ */
+public interface UserRepoCustom {
+    /**
+     * Method finds at most {@code limit} first users which match the specification without counting all of them.
+     *
+     * @param specification - {@link Specification} of {@link User}.
+     * @param sort          - order of users.
+     * @param limit         - max count of users.
+     * @return list of {@link User}.
+     */
+    List<User> findAll(Specification<User> specification, Sort sort, int limit);
+}
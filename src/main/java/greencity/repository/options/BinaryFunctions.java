@@ -0,0 +1,74 @@
+package greencity.repository.options;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+/**
+ * Registers SQL functions over binary columns which are rendered by the dialect, so criteria queries
+ * read binary columns the same way in MySQL and in H2 used by the repository tests.
+ * It is set by the {@code hibernate.metadata_builder_contributor} property.
+ */
+public class BinaryFunctions implements MetadataBuilderContributor {
+    /**
+     * Name of the function {@code byte_at(bytes, position)} which returns the unsigned byte
+     * at the 1-based position.
+     */
+    public static final String BYTE_AT = "byte_at";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(BYTE_AT, new ByteAtFunction());
+    }
+
+    /**
+     * MySQL reads a byte by {@code ascii} of a one byte substring. H2 takes a substring of a binary value
+     * as its hex string, so the byte is read from two hex digits found in the list of all byte values.
+     */
+    private static class ByteAtFunction implements SQLFunction {
+        private static final String HEX_BYTES = IntStream.range(0, 256)
+            .mapToObj(b -> String.format("%02x", b))
+            .collect(Collectors.joining(","));
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return true;
+        }
+
+        @Override
+        public Type getReturnType(Type firstArgumentType, Mapping mapping) {
+            return StandardBasicTypes.INTEGER;
+        }
+
+        @Override
+        public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory) {
+            if (arguments.size() != 2) {
+                throw new QueryException(BYTE_AT + " requires two arguments");
+            }
+            Object bytes = arguments.get(0);
+            Object position = arguments.get(1);
+            if (factory.getJdbcServices().getDialect() instanceof H2Dialect) {
+                return "((locate(substring(" + bytes + ", 2 * " + position + " - 1, 2), '" + HEX_BYTES
+                    + "') - 1) / 3)";
+            }
+            return "ascii(substring(" + bytes + ", " + position + ", 1))";
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package greencity.repository.options;
+
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+
+/**
+ * Helper for building criteria queries which joins every to-one attribute at most once.
+ * Calling {@link From#join(String)} always adds a new join, so predicates on the same attribute
+ * built separately would multiply the joined tables in the SQL.
+ * To-many attributes should be filtered by {@code EXISTS} subqueries instead, so rows are not multiplied.
+ */
+public final class Joins {
+    private Joins() {
+    }
+
+    /**
+     * Returns the inner join of the attribute which was already added to the {@code from},
+     * or adds a new one.
+     *
+     * @param from      root or join to join from.
+     * @param attribute name of the to-one attribute.
+     * @param <X>       source type.
+     * @param <Y>       target type.
+     * @return inner {@link Join} of the attribute.
+     */
+    @SuppressWarnings("unchecked")
+    public static <X, Y> Join<X, Y> inner(From<?, X> from, String attribute) {
+        return from.getJoins().stream()
+            .filter(join -> attribute.equals(join.getAttribute().getName()) && join.getJoinType() == JoinType.INNER)
+            .map(join -> (Join<X, Y>) join)
+            .findFirst()
+            .orElseGet(() -> from.join(attribute));
+    }
+}
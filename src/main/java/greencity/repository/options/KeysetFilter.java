@@ -0,0 +1,64 @@
+package greencity.repository.options;
+
+import greencity.util.KeysetCursor;
+import java.time.LocalDateTime;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * The class implements {@link Specification} which selects rows going after the {@link KeysetCursor}
+ * in the order returned by {@link #sort(String)}.
+ *
+ * @param <T> entity type which has {@code id} and the date attribute.
+ */
+public class KeysetFilter<T> implements Specification<T> {
+    private final String dateAttribute;
+    private final KeysetCursor cursor;
+
+    /**
+     * Constructor.
+     *
+     * @param dateAttribute - name of the {@link LocalDateTime} attribute.
+     * @param cursor        - position of the last row of the previous page, {@code null} for the first page.
+     */
+    public KeysetFilter(String dateAttribute, KeysetCursor cursor) {
+        this.dateAttribute = dateAttribute;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the order of rows for keyset paging.
+     *
+     * @param dateAttribute - name of the {@link LocalDateTime} attribute.
+     * @return {@link Sort} by date and id descending.
+     */
+    public static Sort sort(String dateAttribute) {
+        return Sort.by(Sort.Direction.DESC, dateAttribute, "id");
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns a predicate where date is less than the cursor date, or equal to it and id is less than
+     * the cursor id. Rows without date go last.
+     */
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (cursor == null) {
+            return cb.conjunction();
+        }
+        Path<LocalDateTime> date = root.get(dateAttribute);
+        Predicate idBefore = cb.lessThan(root.<Long>get("id"), cursor.getId());
+        if (cursor.getDate() == null) {
+            return cb.and(cb.isNull(date), idBefore);
+        }
+        return cb.or(
+            cb.lessThan(date, cursor.getDate()),
+            cb.and(cb.equal(date, cursor.getDate()), idBefore),
+            cb.isNull(date));
+    }
+}
@@ -2,25 +2,37 @@ package greencity.repository.options;
 
 import greencity.constant.AppConstant;
 import greencity.dto.filter.FilterDiscountDto;
+import greencity.dto.filter.FilterDistanceDto;
 import greencity.dto.filter.FilterPlaceDto;
 import greencity.dto.location.MapBoundsDto;
+import greencity.entity.Discount;
+import greencity.entity.Location;
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
+import greencity.util.GeoUtils;
+import greencity.util.OpeningHoursBitmap;
+import greencity.util.SearchQuery;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
  * The class implements {@link Specification}. Each constructor
  * takes a {@code DTO} class the type of which determines the further
  * creation of a new {@link Predicate} object.
+ * To-one attributes are joined once by {@link Joins} and to-many ones are checked by subqueries,
+ * so every {@link Place} is selected once without grouping.
  *
  * @author Roman Zahouri, Nazar Stasyuk
  */
@@ -43,14 +55,14 @@ public class PlaceFilter implements Specification<Place> {
      */
     @Override
     public Predicate toPredicate(Root<Place> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        query.groupBy(root.get("id"));
         List<Predicate> predicates = new ArrayList<>();
         if (null != filterPlaceDto) {
             predicates.add(hasStatus(root, cb, filterPlaceDto.getStatus()));
             predicates.add(hasPositionInBounds(root, cb, filterPlaceDto.getMapBoundsDto()));
-            predicates.add(hasDiscount(root, cb, filterPlaceDto.getDiscountDto()));
+            predicates.add(hasPositionInDistance(root, cb, filterPlaceDto.getDistanceFromUserDto()));
+            predicates.add(hasDiscount(root, query, cb, filterPlaceDto.getDiscountDto()));
             predicates.add(isNowOpen(root, cb, filterPlaceDto.getTime()));
-            predicates.add(hasFieldLike(root, cb, filterPlaceDto.getSearchReg(), filterPlaceDto.getStatus()));
+            predicates.add(hasFieldLike(root, cb, filterPlaceDto.getSearchReg()));
         }
         return cb.and(predicates.toArray(new Predicate[0]));
     }
@@ -86,13 +98,42 @@ public class PlaceFilter implements Specification<Place> {
         if (bounds == null) {
             return cb.conjunction();
         }
+        Join<Place, Location> location = Joins.inner(r, "location");
         return cb.and(
-            cb.between(r.join("location").get("lat"), bounds.getSouthWestLat(), bounds.getNorthEastLat()),
-            cb.between(r.join("location").get("lng"), bounds.getSouthWestLng(), bounds.getNorthEastLng()));
+            cb.between(location.get("lat"), bounds.getSouthWestLat(), bounds.getNorthEastLat()),
+            cb.between(location.get("lng"), bounds.getSouthWestLng(), bounds.getNorthEastLng()));
     }
 
     /**
-     * Checks if {@link Place} is open at the time described in the {@code currentTime} string argument.
+     * Returns a predicate where {@link greencity.entity.Location}'s lat and lng are in the bounding box
+     * of the circle described by {@param distance}. The box is a cheap index-friendly pre-filter,
+     * exact distance should be checked for the selected places.
+     *
+     * @param r        must not be {@literal null}.
+     * @param cb       must not be {@literal null}.
+     * @param distance dto should contain user's lat, lng and distance in kilometers.
+     * @return a {@link Predicate}, may be {@literal null}.
+     */
+    private Predicate hasPositionInDistance(Root<Place> r, CriteriaBuilder cb, FilterDistanceDto distance) {
+        if (distance == null || distance.getLat() == null || distance.getLng() == null
+            || distance.getDistance() == null) {
+            return cb.conjunction();
+        }
+        Join<Place, Location> location = Joins.inner(r, "location");
+        double latDelta = GeoUtils.latitudeDelta(distance.getDistance());
+        Predicate latPredicate = cb.between(location.get("lat"),
+            distance.getLat() - latDelta, distance.getLat() + latDelta);
+        double lngDelta = GeoUtils.longitudeDelta(distance.getLat(), distance.getLng(), distance.getDistance());
+        if (Double.isNaN(lngDelta)) {
+            return latPredicate;
+        }
+        return cb.and(latPredicate, cb.between(location.get("lng"),
+            distance.getLng() - lngDelta, distance.getLng() + lngDelta));
+    }
+
+    /**
+     * Checks if {@link Place} is open at the time described in the {@code currentTime} string argument
+     * by testing one bit of {@link Place}'s opening hours bitmap, see {@link OpeningHoursBitmap}.
      * The method can throw a {@link DateTimeParseException} if the {@code currentTime} string doesn't
      * match a {@code AppConstant.DATE_FORMAT} format string.
      *
@@ -106,52 +147,74 @@ public class PlaceFilter implements Specification<Place> {
             return cb.conjunction();
         }
         LocalDateTime time = LocalDateTime.parse(currentTime, DateTimeFormatter.ofPattern(AppConstant.DATE_FORMAT));
-        return cb.and(cb.equal(r.join("openingHoursList").get("weekDay"), time.getDayOfWeek()),
-            cb.lessThan(r.join("openingHoursList").get("openTime"), time.toLocalTime()),
-            cb.greaterThan(r.join("openingHoursList").get("closeTime"), time.toLocalTime()));
+        int minute = OpeningHoursBitmap.minuteOfWeek(time.getDayOfWeek(), time.toLocalTime());
+        int mask = 1 << (minute % Byte.SIZE);
+        Expression<Integer> bitmapByte = cb.function(BinaryFunctions.BYTE_AT, Integer.class,
+            r.get("openingHoursBitmap"), cb.literal(minute / Byte.SIZE + 1));
+        return cb.greaterThanOrEqualTo(cb.mod(bitmapByte, mask * 2), mask);
     }
 
     /**
-     * Returns a predicate where {@link Place} has some values defined
-     * in the incoming {@link FilterDiscountDto} object.
+     * Returns a predicate where {@link Place} has a {@link Discount} with values defined
+     * in the incoming {@link FilterDiscountDto} object. The discounts are checked by an {@code EXISTS}
+     * subquery, so a place is selected once however many discounts match.
      *
      * @param r        must not be {@literal null}.
+     * @param query    must not be {@literal null}.
      * @param cb       must not be {@literal null}.
      * @param discount a dto describes information about discount of a {@link Place}.
      * @return a {@link Predicate}, may be {@literal null}.
      * @author Roman Zahouri
      */
-    private Predicate hasDiscount(Root<Place> r, CriteriaBuilder cb, FilterDiscountDto discount) {
+    private Predicate hasDiscount(Root<Place> r, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                  FilterDiscountDto discount) {
         if (discount == null) {
             return cb.conjunction();
         }
-        return cb.and(
-            cb.equal(r.join("discounts").join("category").get("name"),
-                discount.getCategory().getName()),
-            cb.equal(r.join("discounts").join("specification").get("name"),
-                discount.getSpecification().getName()),
-            cb.between(r.join("discounts").get("value"),
-                discount.getDiscountMin(), discount.getDiscountMax()));
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Discount> d = subquery.from(Discount.class);
+        subquery.select(d.get("id")).where(
+            cb.equal(d.get("place"), r),
+            cb.equal(Joins.inner(d, "category").get("name"), discount.getCategory().getName()),
+            cb.equal(Joins.inner(d, "specification").get("name"), discount.getSpecification().getName()),
+            cb.between(d.get("value"), discount.getDiscountMin(), discount.getDiscountMax()));
+        return cb.exists(subquery);
     }
 
     /**
-     * Returns a predicate where {@link Place} has some values defined
-     * in the incoming {@link FilterDiscountDto} object.
+     * Returns a predicate where author email, category name, name or address of {@link Place}
+     * contain every word of {@param reg}, ignoring case, as {@link greencity.service.PlaceSearchIndex}
+     * matches them. If {@param reg} is a date, {@link Place}'s modified in that day, month
+     * or year are selected too by a typed range predicate. Status is checked by {@link #hasStatus},
+     * which selects approved places when no status is given.
      *
      * @param r  must not be {@literal null}.
      * @param cb must not be {@literal null}.
      * @return a {@link Predicate}, may be {@literal null}.
      * @author Rostyslav Khasanov
      */
-    private Predicate hasFieldLike(Root<Place> r, CriteriaBuilder cb, String reg, PlaceStatus status) {
+    private Predicate hasFieldLike(Root<Place> r, CriteriaBuilder cb, String reg) {
         if (filterPlaceDto.getSearchReg() == null) {
             return cb.conjunction();
         }
-        return cb.and(cb.or(
-            cb.like(r.join("author").get("email"), reg),
-            cb.like(r.join("category").get("name"), reg),
-            cb.like(r.get("name"), reg),
-            cb.like(r.join("location").get("address"), reg),
-            cb.like(r.get("modifiedDate").as(String.class), reg)), cb.equal(r.get("status"), status));
+        SearchQuery searchQuery = SearchQuery.parse(reg);
+        List<Expression<String>> fields = Arrays.asList(
+            cb.lower(Joins.inner(r, "author").get("email")),
+            cb.lower(Joins.inner(r, "category").get("name")),
+            cb.lower(r.get("name")),
+            cb.lower(Joins.inner(r, "location").get("address")));
+        List<Predicate> wordPredicates = new ArrayList<>();
+        for (String token : searchQuery.getTokens()) {
+            wordPredicates.add(cb.or(fields.stream()
+                .map(field -> cb.like(field, "%" + token + "%"))
+                .toArray(Predicate[]::new)));
+        }
+        Predicate hasWords = cb.and(wordPredicates.toArray(new Predicate[0]));
+        if (!searchQuery.hasDateRange()) {
+            return hasWords;
+        }
+        return cb.or(hasWords, cb.and(
+            cb.greaterThanOrEqualTo(r.<LocalDateTime>get("modifiedDate"), searchQuery.getModifiedFrom()),
+            cb.lessThan(r.<LocalDateTime>get("modifiedDate"), searchQuery.getModifiedTo())));
     }
 }
@@ -0,0 +1,76 @@
+package greencity.security.jwt;
+
+import greencity.util.BoundedCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of {@link Authentication} created from JWT tokens. Entries are kept until the token expires
+ * or until they are pushed out by newer ones when the cache is full.
+ */
+@Component
+public class JwtAuthenticationCache {
+    private final BoundedCache<String, Entry> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize - max count of cached tokens.
+     */
+    public JwtAuthenticationCache(@Value("${authenticationCacheMaxSize:10000}") int maxSize) {
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * Returns cached {@link Entry} for the token.
+     *
+     * @param token - JWT token.
+     * @return {@link Entry} or {@code null} if the token is not cached or expired.
+     */
+    public Entry get(String token) {
+        return cache.get(token);
+    }
+
+    /**
+     * Caches {@link Authentication} for the token until the token expires.
+     *
+     * @param token          - JWT token.
+     * @param userId         - id of the authenticated user.
+     * @param authentication - {@link Authentication} created from the token.
+     * @param expiresAt      - token expiration time in milliseconds since the epoch.
+     */
+    public void put(String token, Long userId, Authentication authentication, long expiresAt) {
+        cache.put(token, new Entry(userId, authentication), expiresAt);
+    }
+
+    /**
+     * Removes all cached tokens of the user, so the next request loads the actual role and status.
+     *
+     * @param userId - id of the user.
+     */
+    public void evictByUserId(Long userId) {
+        cache.removeIf((token, cached) -> userId.equals(cached.getUserId()));
+    }
+
+    /**
+     * Returns count of cached tokens.
+     *
+     * @return count of cached tokens.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Cached {@link Authentication} with id of the authenticated user.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        private final Long userId;
+        private final Authentication authentication;
+    }
+}
@@ -1,5 +1,8 @@
 package greencity.security.jwt;
 
+import greencity.constant.AppConstant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -19,15 +22,21 @@ import org.springframework.web.filter.GenericFilterBean;
  */
 @Slf4j
 public class JwtFilter extends GenericFilterBean {
+    private static final String SUCCESS_OUTCOME = "success";
+    private static final String FAILURE_OUTCOME = "failure";
+    private static final String ERROR_OUTCOME = "error";
     private JwtTokenTool tool;
+    private MeterRegistry meterRegistry;
 
     /**
      * Constructor.
      *
-     * @param tool {@link JwtTokenTool} - tool for JWT
+     * @param tool          {@link JwtTokenTool} - tool for JWT
+     * @param meterRegistry {@link MeterRegistry} - registry of the authentication timer
      */
-    public JwtFilter(JwtTokenTool tool) {
+    public JwtFilter(JwtTokenTool tool, MeterRegistry meterRegistry) {
         this.tool = tool;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -43,11 +52,20 @@ public class JwtFilter extends GenericFilterBean {
         ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
         throws IOException, ServletException {
         String token = tool.getTokenByBody((HttpServletRequest) servletRequest);
-        if (token != null && tool.isTokenValid(token)) {
-            Authentication authentication = tool.getAuthentication(token);
-            if (authentication != null) {
-                log.info("User successfully authenticate - {}", authentication.getPrincipal());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = ERROR_OUTCOME;
+            try {
+                Authentication authentication = tool.getAuthentication(token);
+                outcome = FAILURE_OUTCOME;
+                if (authentication != null) {
+                    outcome = SUCCESS_OUTCOME;
+                    log.info("User successfully authenticate - {}", authentication.getPrincipal());
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } finally {
+                sample.stop(meterRegistry.timer(AppConstant.METRIC_JWT_AUTHENTICATION,
+                    AppConstant.METRIC_TAG_OUTCOME, outcome));
             }
         }
         filterChain.doFilter(servletRequest, servletResponse);
@@ -5,6 +5,7 @@ import static greencity.constant.ErrorMessage.USER_NOT_FOUND_BY_EMAIL;
 import greencity.entity.User;
 import greencity.entity.enums.ROLE;
 import greencity.exception.BadEmailException;
+import greencity.service.LastVisitTracker;
 import greencity.service.UserService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -42,13 +43,22 @@ public class JwtTokenTool {
 
     private UserService userService;
 
+    private JwtAuthenticationCache authenticationCache;
+
+    private LastVisitTracker lastVisitTracker;
+
     /**
      * Constructor.
      *
-     * @param userService {@link UserService} - service for {@link User}
+     * @param userService         {@link UserService} - service for {@link User}
+     * @param authenticationCache {@link JwtAuthenticationCache} - cache of authenticated tokens
+     * @param lastVisitTracker    {@link LastVisitTracker} - accumulator of user last visits
      */
-    public JwtTokenTool(UserService userService) {
+    public JwtTokenTool(UserService userService, JwtAuthenticationCache authenticationCache,
+                        LastVisitTracker lastVisitTracker) {
         this.userService = userService;
+        this.authenticationCache = authenticationCache;
+        this.lastVisitTracker = lastVisitTracker;
     }
 
     @PostConstruct
@@ -128,17 +138,31 @@ public class JwtTokenTool {
     }
 
     /**
-     * Method that create authentication.
+     * Method that create authentication. The token is parsed and the user is loaded only if there is
+     * no cached authentication for this token, then the result is cached until the token expires.
      *
      * @param token token from request
-     * @return {@link Authentication}
+     * @return {@link Authentication} or null if token is not valid.
      */
     public Authentication getAuthentication(String token) {
-        User user = userService.findByEmail(getEmailByToken(token)).orElseThrow(
-            () -> new BadEmailException(USER_NOT_FOUND_BY_EMAIL + getEmailByToken(token)));
-        userService.updateLastVisit(user);
-        return new UsernamePasswordAuthenticationToken(
+        JwtAuthenticationCache.Entry cached = authenticationCache.get(token);
+        if (cached != null) {
+            lastVisitTracker.recordVisit(cached.getUserId());
+            return cached.getAuthentication();
+        }
+        Claims claims;
+        try {
+            claims = Jwts.parser().setSigningKey(tokenKey).parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            return null;
+        }
+        User user = userService.findByEmail(claims.getSubject()).orElseThrow(
+            () -> new BadEmailException(USER_NOT_FOUND_BY_EMAIL + claims.getSubject()));
+        lastVisitTracker.recordVisit(user.getId());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
             user.getEmail(), "", Collections.singleton(new SimpleGrantedAuthority(user.getRole().name())));
+        authenticationCache.put(token, user.getId(), authentication, claims.getExpiration().getTime());
+        return authentication;
     }
 
     /**
@@ -1,8 +1,11 @@
 package greencity.service;
 
+import greencity.dto.ETaggedListDto;
 import greencity.dto.category.CategoryDto;
 import greencity.entity.Category;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides the interface to manage {@code Category} entity.
@@ -57,7 +60,8 @@ public interface CategoryService {
     Long deleteById(Long id);
 
     /**
-     * Finds category by name.
+     * Finds category by name. The id is resolved from the cached reference data, so the database
+     * is queried only for names which are not cached yet.
      *
      * @param name to find by.
      * @return a category by name.
@@ -65,9 +69,20 @@ public interface CategoryService {
     Category findByName(String name);
 
     /**
-     * Method for finding all CategoryDto.
+     * Finds categories by names. Ids are resolved from the cached reference data, names which are not cached yet
+     * are selected by one query.
      *
-     * @return list of CategoryDto.
+     * @param names to find by.
+     * @return categories by name.
+     * @throws greencity.exception.NotFoundException if a category does not exist.
      */
-    List<CategoryDto> findAllCategoryDto();
+    Map<String, Category> findAllByNames(Collection<String> names);
+
+    /**
+     * Method for finding all CategoryDto with the entity tag of the list. Both are cached until categories
+     * are changed, so the tag is not computed per request.
+     *
+     * @return unmodifiable list of CategoryDto and its entity tag.
+     */
+    ETaggedListDto<CategoryDto> findAllCategoryDto();
 }
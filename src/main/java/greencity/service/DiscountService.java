@@ -1,6 +1,8 @@
 package greencity.service;
 
 import greencity.entity.Discount;
+import greencity.entity.Place;
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -37,4 +39,21 @@ public interface DiscountService {
      * @param placeId to find by.
      */
     void deleteAllByPlaceId(Long placeId);
+
+    /**
+     * Replaces {@code Discount}'s of the place by the given ones. Discounts are matched by specification,
+     * only rows which differ are inserted, updated or deleted.
+     *
+     * @param place     - {@code Place} of discounts.
+     * @param discounts - new discounts with category and specification.
+     * @return count of inserted, updated and deleted rows.
+     */
+    int updateAllByPlace(Place place, Collection<Discount> discounts);
+
+    /**
+     * Method returns count of rows touched by {@link #updateAllByPlace(Place, Collection)} since the start.
+     *
+     * @return count of inserted, updated and deleted rows.
+     */
+    long getUpdatedRowCount();
 }
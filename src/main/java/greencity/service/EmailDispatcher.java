@@ -0,0 +1,59 @@
+package greencity.service;
+
+import javax.mail.internet.MimeMessage;
+
+/**
+ * Provides the interface of a bounded queue which sends emails asynchronously.
+ */
+public interface EmailDispatcher {
+    /**
+     * Method puts the message to the sending queue. If the queue stays full for the configured
+     * timeout the message is rejected.
+     *
+     * @param message - {@link MimeMessage} to send.
+     * @return {@code true} if the message was queued, {@code false} if it was rejected.
+     */
+    boolean dispatch(MimeMessage message);
+
+    /**
+     * Method returns count of messages which are waiting in the queue.
+     *
+     * @return count of waiting messages.
+     */
+    int getQueueSize();
+
+    /**
+     * Method returns count of messages accepted to the queue.
+     *
+     * @return count of queued messages.
+     */
+    long getQueuedCount();
+
+    /**
+     * Method returns count of successfully sent messages.
+     *
+     * @return count of sent messages.
+     */
+    long getSentCount();
+
+    /**
+     * Method returns count of messages which were not sent after all attempts.
+     *
+     * @return count of failed messages.
+     */
+    long getFailedCount();
+
+    /**
+     * Method returns count of messages rejected because the queue was full.
+     *
+     * @return count of rejected messages.
+     */
+    long getRejectedCount();
+
+    /**
+     * Method returns count of scheduled retries.
+     *
+     * @return count of retries.
+     */
+    long getRetriedCount();
+}
@@ -0,0 +1,22 @@
+package greencity.service;
+
+import java.util.Map;
+
+/**
+ * Provides the interface to render email templates from {@code templates/email}.
+ */
+public interface EmailTemplateRenderer {
+    /**
+     * Method renders the email template. The template engine processes the template only once for
+     * every combination of shared variables, then per-recipient values are substituted into the cached output.
+     * Recipient variables may only be printed in {@code th:text} or attribute values, they must not be used
+     * in conditions or method calls.
+     *
+     * @param templateName       - name of the template in {@code templates/email}.
+     * @param sharedVariables    - variables which are the same for many emails, e.g. client link.
+     * @param recipientVariables - variables which are different for every email, {@code null} is rendered as
+     *                           an empty string.
+     * @return rendered html.
+     */
+    String render(String templateName, Map<String, Object> sharedVariables, Map<String, String> recipientVariables);
+}
@@ -0,0 +1,38 @@
+package greencity.service;
+
+import greencity.entity.FavoritePlace;
+import greencity.entity.Place;
+import greencity.entity.User;
+import greencity.util.BoundedCache;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Provides the interface of a bounded cache of {@link Place} ids which are {@link FavoritePlace}'s
+ * of the {@link User}, by {@link User} email.
+ */
+public interface FavoritePlaceIdCache {
+    /**
+     * Method returns the cached unmodifiable set of favorite {@link Place} ids or loads, caches and returns it.
+     *
+     * @param email  - {@link User} email.
+     * @param loader - function which loads favorite {@link Place} ids by {@link User} email.
+     * @return unmodifiable set of {@link Place} ids.
+     */
+    Set<Long> get(String email, Function<String, Set<Long>> loader);
+
+    /**
+     * Method removes favorite {@link Place} ids of the {@link User} from the cache.
+     * When called inside a transaction the ids are removed only after the transaction commits.
+     *
+     * @param email - {@link User} email, {@code null} is ignored.
+     */
+    void evict(String email);
+
+    /**
+     * Method returns the underlying cache, whose size, hit, miss and eviction counts are exported as metrics.
+     *
+     * @return {@link BoundedCache} of {@link Place} ids.
+     */
+    BoundedCache<String, Set<Long>> getCache();
+}
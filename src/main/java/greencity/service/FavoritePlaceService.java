@@ -6,7 +6,9 @@ import greencity.dto.place.PlaceInfoDto;
 import greencity.entity.FavoritePlace;
 import greencity.entity.Place;
 import greencity.entity.User;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface FavoritePlaceService {
@@ -40,6 +42,24 @@ public interface FavoritePlaceService {
      */
     List<FavoritePlaceDto> findAllByUserEmail(String email);
 
+    /**
+     * Find ids of all {@link Place}'s which are {@link FavoritePlace}'s of the {@link User}.
+     * The ids are cached per {@link User} until favorite places of the {@link User} change.
+     *
+     * @param email - {@link User} email
+     * @return unmodifiable set of {@link Place} ids
+     */
+    Set<Long> findAllPlaceIdsByUserEmail(String email);
+
+    /**
+     * Check which of the given {@link Place}'s are {@link FavoritePlace}'s of the {@link User}.
+     *
+     * @param placeIds - {@link Place} ids to check
+     * @param email    - {@link User} email
+     * @return set of the given {@link Place} ids which are favorite
+     */
+    Set<Long> findFavoritePlaceIds(Collection<Long> placeIds, String email);
+
     /**
      * Delete {@link FavoritePlace} by {@link User} email and {@link Place} id .
      *
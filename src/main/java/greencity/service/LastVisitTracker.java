@@ -0,0 +1,29 @@
+package greencity.service;
+
+import greencity.entity.User;
+
+/**
+ * Provides the interface of a write-behind accumulator of {@link User} last visits.
+ * Visits are coalesced per user in memory and written to the database in batches.
+ */
+public interface LastVisitTracker {
+    /**
+     * Method records that the user visited the application now.
+     * Only the latest visit of every user is kept until the next flush.
+     *
+     * @param userId - {@link User} id.
+     */
+    void recordVisit(Long userId);
+
+    /**
+     * Method writes all pending visits to the database by one batched update.
+     */
+    void flush();
+
+    /**
+     * Method returns count of visits which are not written to the database yet.
+     *
+     * @return count of pending visits.
+     */
+    int getPendingCount();
+}
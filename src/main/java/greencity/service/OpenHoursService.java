@@ -2,6 +2,7 @@ package greencity.service;
 
 import greencity.entity.OpeningHours;
 import greencity.entity.Place;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -72,4 +73,37 @@ public interface OpenHoursService {
      * @param placeId to find by.
      */
     void deleteAllByPlaceId(Long placeId);
+
+    /**
+     * Compiles all {@code OpeningHours} of the place with their breaks to the bitmap stored with the place
+     * and evicts the cached info of the place.
+     *
+     * @param placeId id of the place.
+     */
+    void updateOpeningHoursBitmap(Long placeId);
+
+    /**
+     * Compiles {@code OpeningHours} of places which do not have the bitmap yet, e.g. created before it was added.
+     */
+    void updateMissingOpeningHoursBitmaps();
+
+    /**
+     * Replaces {@code OpeningHours} of the place by the given ones. Hours are matched by week day,
+     * only rows which differ are inserted, updated or deleted. The bitmap of the place is updated if anything changed.
+     * The bitmap is set to the entity instead of a bulk update, so the version of the managed place stays actual.
+     *
+     * @param place - managed {@code Place} of opening hours.
+     * @param hours - new opening hours with breaks.
+     * @return count of inserted, updated and deleted rows.
+     * @throws greencity.exception.BadRequestException if changed hours close before they open
+     *                                                 or their break is not inside them.
+     */
+    int updateAllByPlace(Place place, Collection<OpeningHours> hours);
+
+    /**
+     * Method returns count of rows touched by {@link #updateAllByPlace(Place, Collection)} since the start.
+     *
+     * @return count of inserted, updated and deleted rows.
+     */
+    long getUpdatedRowCount();
 }
@@ -0,0 +1,18 @@
+package greencity.service;
+
+import java.io.InputStream;
+
+/**
+ * Provides the interface to import {@code Place}'s in bulk.
+ */
+public interface PlaceImportService {
+    /**
+     * Method for importing places from JSON array of {@code PlaceAddDto}'s. Places are saved in chunks,
+     * every chunk is saved in its own transaction, so chunks saved before an invalid place stay saved.
+     *
+     * @param json  - stream with JSON array of places, it is not closed.
+     * @param email - email of the author.
+     * @return count of imported places.
+     */
+    long importPlaces(InputStream json, String email);
+}
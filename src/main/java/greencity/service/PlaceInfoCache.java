@@ -0,0 +1,44 @@
+package greencity.service;
+
+import greencity.dto.place.PlaceInfoDto;
+import greencity.entity.Place;
+import greencity.util.BoundedCache;
+import java.util.function.Function;
+
+/**
+ * Provides the interface of a bounded cache of assembled {@link PlaceInfoDto}'s by {@code Place} id.
+ */
+public interface PlaceInfoCache {
+    /**
+     * Method returns a copy of the cached {@link PlaceInfoDto} or loads, caches and returns it.
+     * The location and the lists of the returned dto are copies, elements of the lists are shared with the cache
+     * and must not be modified.
+     *
+     * @param placeId - {@link Place} id.
+     * @param version - current version of the {@link Place}, a cached dto of another version is loaded again,
+     *                {@code null} if any cached version may be returned.
+     * @param loader  - function which assembles {@link PlaceInfoDto} by {@link Place} id.
+     * @return {@link PlaceInfoDto}.
+     */
+    PlaceInfoDto get(Long placeId, Long version, Function<Long, PlaceInfoDto> loader);
+
+    /**
+     * Method removes {@link PlaceInfoDto} of the {@link Place} from the cache.
+     * When called inside a transaction the dto is removed only after the transaction commits.
+     *
+     * @param placeId - {@link Place} id, {@code null} is ignored.
+     */
+    void evict(Long placeId);
+
+    /**
+     * Method logs size, hit, miss and eviction counts of the cache.
+     */
+    void logStatistics();
+
+    /**
+     * Method returns the underlying cache, whose size, hit, miss and eviction counts are exported as metrics.
+     *
+     * @return {@link BoundedCache} of {@link PlaceInfoDto}'s.
+     */
+    BoundedCache<Long, PlaceInfoDto> getCache();
+}
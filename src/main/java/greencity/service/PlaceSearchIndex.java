@@ -0,0 +1,46 @@
+package greencity.service;
+
+import greencity.entity.Place;
+import greencity.entity.enums.PlaceStatus;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Provides the interface of an in-memory inverted index over {@code Place}'s fields searched by admin:
+ * author email, category name, place name, address and modification date.
+ */
+public interface PlaceSearchIndex {
+    /**
+     * Method reloads the index from all {@link Place}'s.
+     */
+    void rebuild();
+
+    /**
+     * Method reloads places with the given ids from the database and reindexes them.
+     * When called inside a transaction the places are reloaded only after the transaction commits.
+     *
+     * @param placeIds - {@link Place} ids.
+     */
+    void updateAll(Collection<Long> placeIds);
+
+    /**
+     * Method finds ids of places with the given status which author email, category name, name or address
+     * contain every word of {@code searchReg}, or which were modified in the date described by {@code searchReg}.
+     * Places are matched as {@link greencity.repository.options.PlaceFilter} matches them in the database.
+     *
+     * @param searchReg - search string, see {@link greencity.util.SearchQuery}.
+     * @param status    - status of places, {@link PlaceStatus#APPROVED} if {@code null}.
+     * @param pageable  - page which may be sorted by {@code id} or {@code modifiedDate}.
+     * @return page of ids or empty {@link Optional} if the index is not built yet or the sort is not supported.
+     */
+    Optional<Page<Long>> search(String searchReg, PlaceStatus status, Pageable pageable);
+
+    /**
+     * Method returns count of indexed places.
+     *
+     * @return count of indexed places.
+     */
+    int size();
+}
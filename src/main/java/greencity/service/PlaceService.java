@@ -1,11 +1,16 @@
 package greencity.service;
 
+import greencity.constant.AppConstant;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
+import greencity.dto.filter.FilterClusterDto;
 import greencity.dto.filter.FilterPlaceDto;
 import greencity.dto.place.*;
 import greencity.entity.Place;
 import greencity.entity.enums.PlaceStatus;
+import greencity.util.KeysetCursor;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -22,6 +27,19 @@ public interface PlaceService {
      */
     PageableDto getPlacesByStatus(PlaceStatus placeStatus, Pageable pageable);
 
+    /**
+     * Finds {@code Place}'s with status {@code PlaceStatus} ordered by modification date and id descending,
+     * which go after the cursor.
+     *
+     * @param placeStatus a value of {@link PlaceStatus} enum.
+     * @param cursor      position of the last place of the previous page, {@code null} for the first page.
+     * @param size        max count of places in the page.
+     * @param withTotal   whether to count all places with the status.
+     * @return an object of {@link CursorPageDto} which contains a list of {@link AdminPlaceDto}.
+     */
+    CursorPageDto<AdminPlaceDto> getPlacesByStatus(PlaceStatus placeStatus, KeysetCursor cursor, int size,
+                                                   boolean withTotal);
+
     /**
      * Update status for the {@link Place} and set the time of modification.
      *
@@ -32,12 +50,13 @@ public interface PlaceService {
     UpdatePlaceStatusDto updateStatus(Long id, PlaceStatus status);
 
     /**
-     * Update statuses for the {@link Place}'s and set the time of modification.
+     * Update statuses for the {@link Place}'s and set the time of modification. Places which are not found
+     * or already have the status are skipped and reported, authors of proposed places are notified by email.
      *
      * @param dto - {@link BulkUpdatePlaceStatusDto} with places id's and updated {@link PlaceStatus}
-     * @return list of {@link UpdatePlaceStatusDto} with updated places and statuses.
+     * @return {@link BulkUpdatePlaceStatusResultDto} with updated, not found and unchanged places.
      */
-    List<UpdatePlaceStatusDto> updateStatuses(BulkUpdatePlaceStatusDto dto);
+    BulkUpdatePlaceStatusResultDto updateStatuses(BulkUpdatePlaceStatusDto dto);
 
     /**
      * Find place by it's id.
@@ -57,13 +76,35 @@ public interface PlaceService {
     Place save(PlaceAddDto dto, String email);
 
     /**
-     * Method for updating {@link Place}.
+     * Method for saving proposed {@link Place}'s to database in one transaction. Categories and specifications
+     * of all places are resolved at once and rows are inserted in JDBC batches.
      *
-     * @param dto - dto for Place entity
+     * @param dtos  - dto's for Place entities.
+     * @param email - email of the author.
+     * @return list of saved {@code Place}'s in the order of dto's.
+     */
+    List<Place> saveAll(List<PlaceAddDto> dtos, String email);
+
+    /**
+     * Method for updating {@link Place}. The version of the place is incremented on every update.
+     *
+     * @param dto     - dto for Place entity
+     * @param version - expected version of the place, {@code null} if it is not checked.
      * @return place {@link Place}
+     * @throws greencity.exception.PlaceVersionMismatchException if the place has another version.
      * @author Kateryna Horokh
      */
-    Place update(PlaceUpdateDto dto);
+    Place update(PlaceUpdateDto dto, Long version);
+
+    /**
+     * Method finds version of the {@link Place}, which changes with every change of the place.
+     * It is cheap to use as a validator of responses of the place.
+     *
+     * @param id - place id.
+     * @return version of the place.
+     * @throws greencity.exception.NotFoundException if the place does not exist.
+     */
+    Long getVersionById(Long id);
 
     /**
      * Find all places from DB.
@@ -97,6 +138,16 @@ public interface PlaceService {
      */
     PlaceInfoDto getInfoById(Long id);
 
+    /**
+     * Method for getting place information of the version, e.g. the one found by {@link #getVersionById(Long)}.
+     * Cached information of another version is not returned.
+     *
+     * @param id      place
+     * @param version version of the place, {@code null} if any cached version may be returned.
+     * @return PlaceInfoDto with info about place
+     */
+    PlaceInfoDto getInfoById(Long id, Long version);
+
     /**
      * Check {@link Place} existing by id.
      *
@@ -117,6 +168,27 @@ public interface PlaceService {
      */
     List<PlaceByBoundsDto> findPlacesByMapsBounds(FilterPlaceDto filterPlaceDto);
 
+    /**
+     * The method passes places filtered like in {@link #getPlacesByFilter(FilterPlaceDto)} to the consumer
+     * one by one without building the whole list, so the result can be written to the response while
+     * it is read from the database. Places are read in chunks by id, each in its own short read-only transaction,
+     * and passed to the consumer between the chunks, so a slow consumer does not hold a database connection.
+     * Places filtered by distance from user are sorted, so they are collected before passing.
+     *
+     * @param filterDto contains objects whose values determine the filter parameters.
+     * @param consumer  receives every {@link PlaceByBoundsDto}.
+     */
+    void forEachPlaceByFilter(FilterPlaceDto filterDto, Consumer<PlaceByBoundsDto> consumer);
+
+    /**
+     * The method groups approved places in the map bounds to clusters of the zoom level.
+     * When the map is zoomed in deeper than {@link AppConstant#MAX_CLUSTER_ZOOM} separate places are returned.
+     *
+     * @param filterClusterDto contains map bounds and zoom level.
+     * @return {@link PlaceClustersDto} with either clusters or places.
+     */
+    PlaceClustersDto getClusters(FilterClusterDto filterClusterDto);
+
     /**
      * Get average rate of {@link Place}.
      *
@@ -147,6 +219,20 @@ public interface PlaceService {
      */
     PageableDto<AdminPlaceDto> filterPlaceBySearchPredicate(FilterPlaceDto filterDto, Pageable pageable);
 
+    /**
+     * The method finds {@link Place}'s filtered by the parameters contained in {@param filterDto} object
+     * ordered by modification date and id descending, which go after the cursor.
+     *
+     * @param filterDto contains objects whose values determine
+     *                  the filter parameters of the returned list.
+     * @param cursor    position of the last place of the previous page, {@code null} for the first page.
+     * @param size      max count of places in the page.
+     * @param withTotal whether to count all filtered places.
+     * @return an object of {@link CursorPageDto} which contains a list of {@link AdminPlaceDto}.
+     */
+    CursorPageDto<AdminPlaceDto> filterPlaceBySearchPredicate(FilterPlaceDto filterDto, KeysetCursor cursor,
+                                                              int size, boolean withTotal);
+
     /**
      * Get list of available statuses of {@link Place}.
      *
@@ -0,0 +1,70 @@
+package greencity.service;
+
+import greencity.constant.AppConstant;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.entity.Place;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Provides the interface of an in-memory spatial index over locations of approved {@code Place}'s.
+ */
+public interface PlaceSpatialIndex {
+    /**
+     * Method reloads the index from all approved {@link Place}'s.
+     */
+    void rebuild();
+
+    /**
+     * Method indexes the {@link Place} if it is approved and removes it from the index otherwise.
+     * When called inside a transaction the index is changed only after the transaction commits.
+     *
+     * @param place - {@link Place} entity.
+     */
+    void update(Place place);
+
+    /**
+     * Method reloads places with the given ids from the database, indexes approved ones and removes the rest.
+     * When called inside a transaction the places are reloaded only after the transaction commits.
+     *
+     * @param placeIds - {@link Place} ids.
+     */
+    void updateAll(Collection<Long> placeIds);
+
+    /**
+     * Method removes {@link Place} with the given id from the index.
+     * When called inside a transaction the index is changed only after the transaction commits.
+     *
+     * @param placeId - {@link Place} id.
+     */
+    void remove(Long placeId);
+
+    /**
+     * Method finds approved places which locations are in the given map bounds (inclusive).
+     *
+     * @param bounds - {@link MapBoundsDto} with map bounds.
+     * @return list of {@link PlaceByBoundsDto} ordered by id.
+     */
+    List<PlaceByBoundsDto> findByBounds(MapBoundsDto bounds);
+
+    /**
+     * Method groups approved places in the given map bounds by square cells of the map at the given zoom level.
+     * Every zoom level keeps counts of places in its cells and is changed together with the index,
+     * so the query visits only cells overlapped by the bounds whatever the number of places is.
+     *
+     * @param bounds - {@link MapBoundsDto} with map bounds.
+     * @param zoom   - map zoom level, levels above {@link AppConstant#MAX_CLUSTER_ZOOM} are clustered
+     *               as {@link AppConstant#MAX_CLUSTER_ZOOM}.
+     * @return list of {@link PlaceClusterDto} with centroids and counts of places.
+     */
+    List<PlaceClusterDto> findClusters(MapBoundsDto bounds, int zoom);
+
+    /**
+     * Method returns count of indexed places.
+     *
+     * @return count of indexed places.
+     */
+    int size();
+}
@@ -0,0 +1,33 @@
+package greencity.service;
+
+import greencity.entity.Rate;
+
+/**
+ * Provides the interface to manage {@code Rate} entity.
+ * Every method keeps rating aggregates of the rated {@code Place} up to date.
+ */
+public interface RateService {
+    /**
+     * Method for saving new Rate to database.
+     *
+     * @param rate - Rate entity.
+     * @return saved rate.
+     */
+    Rate save(Rate rate);
+
+    /**
+     * Method for changing value of the Rate.
+     *
+     * @param id    - Rate id.
+     * @param value - new value of the rate.
+     * @return updated rate.
+     */
+    Rate update(Long id, Byte value);
+
+    /**
+     * Method for deleting Rate by id.
+     *
+     * @param id - Rate id.
+     */
+    void deleteById(Long id);
+}
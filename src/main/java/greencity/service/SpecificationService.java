@@ -1,8 +1,11 @@
 package greencity.service;
 
+import greencity.dto.ETaggedListDto;
 import greencity.dto.specification.SpecificationNameDto;
 import greencity.entity.Specification;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides the interface to manage {@code Specification} entity.
@@ -40,7 +43,8 @@ public interface SpecificationService {
     Long deleteById(Long id);
 
     /**
-     * Finds specification by name.
+     * Finds specification by name. The id is resolved from the cached reference data, so the database
+     * is queried only for names which are not cached yet.
      *
      * @param name to find by.
      * @return a specification by name.
@@ -48,9 +52,19 @@ public interface SpecificationService {
     Specification findByName(String name);
 
     /**
-     * Method for finding all SpecificationNameDto.
+     * Finds specifications by names. Ids are resolved from the cached reference data, names which are not cached
+     * yet are selected by one query.
      *
-     * @return list of SpecificationNameDto.
+     * @param names to find by.
+     * @return specifications by name, names which do not exist are missing.
      */
-    List<SpecificationNameDto> findAllSpecificationDto();
+    Map<String, Specification> findAllByNames(Collection<String> names);
+
+    /**
+     * Method for finding all SpecificationNameDto with the entity tag of the list. Both are cached until
+     * specifications are changed, so the tag is not computed per request.
+     *
+     * @return unmodifiable list of SpecificationNameDto and its entity tag.
+     */
+    ETaggedListDto<SpecificationNameDto> findAllSpecificationDto();
 }
@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.filter.FilterUserDto;
 import greencity.dto.user.RoleDto;
@@ -9,6 +10,7 @@ import greencity.dto.user.UserStatusDto;
 import greencity.entity.User;
 import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
+import greencity.util.KeysetCursor;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 
@@ -87,6 +89,16 @@ public interface UserService {
      */
     PageableDto findByPage(Pageable pageable);
 
+    /**
+     * Find {@link User}-s ordered by registration date and id descending, which go after the cursor.
+     *
+     * @param cursor    position of the last user of the previous page, {@code null} for the first page.
+     * @param size      max count of users in the page.
+     * @param withTotal whether to count all users.
+     * @return a dto of {@link CursorPageDto}.
+     */
+    CursorPageDto<UserForListDto> findByPage(KeysetCursor cursor, int size, boolean withTotal);
+
     /**
      * Get all exists roles.
      *
@@ -96,7 +108,7 @@ public interface UserService {
     RoleDto getRoles();
 
     /**
-     * Update last visit of user.
+     * Update last visit of user. The visit is written to the database later by {@link LastVisitTracker}.
      *
      * @return {@link User}.
      */
@@ -111,4 +123,16 @@ public interface UserService {
      * @author Rostyslav Khasanov.
      */
     PageableDto<UserForListDto> getUsersByFilter(FilterUserDto filterUserDto, Pageable pageable);
+
+    /**
+     * Find users by filter ordered by registration date and id descending, which go after the cursor.
+     *
+     * @param filterUserDto contains objects whose values determine the filter parameters of the returned list.
+     * @param cursor        position of the last user of the previous page, {@code null} for the first page.
+     * @param size          max count of users in the page.
+     * @param withTotal     whether to count all filtered users.
+     * @return {@link CursorPageDto}.
+     */
+    CursorPageDto<UserForListDto> getUsersByFilter(FilterUserDto filterUserDto, KeysetCursor cursor, int size,
+                                                   boolean withTotal);
 }
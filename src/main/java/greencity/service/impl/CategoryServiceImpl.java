@@ -1,19 +1,30 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
+import greencity.dto.ETaggedListDto;
 import greencity.dto.category.CategoryDto;
 import greencity.entity.Category;
 import greencity.exception.BadCategoryRequestException;
 import greencity.exception.BadRequestException;
 import greencity.exception.NotFoundException;
+import greencity.mapping.CategoryDtoMapper;
 import greencity.repository.CategoryRepo;
 import greencity.service.CategoryService;
+import greencity.util.ETagUtils;
+import greencity.util.ReferenceDataCache;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 /**
@@ -27,7 +38,10 @@ import org.springframework.stereotype.Service;
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepo categoryRepo;
 
-    private ModelMapper modelMapper;
+    private CategoryDtoMapper categoryDtoMapper;
+
+    private final ReferenceDataCache<Categories> categories =
+        new ReferenceDataCache<>(this::loadCategories, AppConstant.REFERENCE_DATA_TIME_TO_LIVE_SECONDS);
 
     /**
      * Method for saving Category to database.
@@ -46,7 +60,9 @@ public class CategoryServiceImpl implements CategoryService {
             throw new BadCategoryRequestException(
                 ErrorMessage.CATEGORY_ALREADY_EXISTS_BY_THIS_NAME);
         }
-        return categoryRepo.save(Category.builder().name(dto.getName()).build());
+        Category saved = categoryRepo.save(Category.builder().name(dto.getName()).build());
+        categories.invalidate();
+        return saved;
     }
 
     /**
@@ -58,7 +74,9 @@ public class CategoryServiceImpl implements CategoryService {
     public Category save(Category category) {
         log.info(LogMessage.IN_SAVE, category);
 
-        return categoryRepo.save(category);
+        Category saved = categoryRepo.save(category);
+        categories.invalidate();
+        return saved;
     }
 
     /**
@@ -104,7 +122,9 @@ public class CategoryServiceImpl implements CategoryService {
         updatable.setCategories(category.getCategories());
         updatable.setPlaces(category.getPlaces());
 
-        return categoryRepo.save(category);
+        Category updated = categoryRepo.save(category);
+        categories.invalidate();
+        return updated;
     }
 
     /**
@@ -122,6 +142,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepo.delete(category);
+        categories.invalidate();
         return id;
     }
 
@@ -132,11 +153,61 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public Category findByName(String name) {
+        Long id = categories.get().idsByName.get(name);
+        if (id != null) {
+            Optional<Category> cached = categoryRepo.findById(id)
+                .filter(category -> name.equals(category.getName()));
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
         Category category = categoryRepo.findByName(name);
+        if (id != null || category != null) {
+            categories.invalidate();
+        }
         if (category == null) {
             throw new NotFoundException(ErrorMessage.CATEGORY_NOT_FOUND_BY_NAME + name);
         }
-        return categoryRepo.findByName(name);
+        return category;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Category> findAllByNames(Collection<String> names) {
+        Map<String, Long> idsByName = categories.get().idsByName;
+        Map<Long, String> cachedNamesById = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                cachedNamesById.put(id, name);
+            } else {
+                missing.add(name);
+            }
+        }
+        Map<String, Category> found = new HashMap<>();
+        if (!cachedNamesById.isEmpty()) {
+            categoryRepo.findAllById(cachedNamesById.keySet()).stream()
+                .filter(category -> category.getName().equals(cachedNamesById.get(category.getId())))
+                .forEach(category -> found.put(category.getName(), category));
+        }
+        boolean stale = found.size() < cachedNamesById.size();
+        cachedNamesById.values().stream().filter(name -> !found.containsKey(name)).forEach(missing::add);
+        if (!missing.isEmpty()) {
+            List<Category> selected = categoryRepo.findAllByNameIn(missing);
+            selected.forEach(category -> found.put(category.getName(), category));
+            stale = stale || !selected.isEmpty();
+            missing.removeAll(found.keySet());
+        }
+        if (stale) {
+            categories.invalidate();
+        }
+        if (!missing.isEmpty()) {
+            throw new NotFoundException(ErrorMessage.CATEGORY_NOT_FOUND_BY_NAME + missing.iterator().next());
+        }
+        return found;
     }
 
     /**
@@ -145,10 +216,35 @@ public class CategoryServiceImpl implements CategoryService {
      * @author Kateryna Horokh
      */
     @Override
-    public List<CategoryDto> findAllCategoryDto() {
-        List<Category> categories = findAll();
-        return categories.stream()
-            .map(category -> modelMapper.map(category, CategoryDto.class))
+    public ETaggedListDto<CategoryDto> findAllCategoryDto() {
+        Categories current = categories.get();
+        return new ETaggedListDto<>(current.dtos, current.entityTag);
+    }
+
+    private Categories loadCategories() {
+        List<Category> all = findAll();
+        Map<String, Long> idsByName = new HashMap<>();
+        all.forEach(category -> idsByName.put(category.getName(), category.getId()));
+        List<CategoryDto> dtos = all.stream()
+            .map(categoryDtoMapper::convertToDto)
             .collect(Collectors.toList());
+        return new Categories(Collections.unmodifiableList(dtos), ETagUtils.ofContent(dtos), idsByName);
+    }
+
+    /**
+     * Cached categories as dto's with their entity tag and ids of categories by name. Entities are not cached,
+     * a cached id is always loaded by primary key, so a category deleted meanwhile is reported instead of failing
+     * at flush.
+     */
+    private static final class Categories {
+        private final List<CategoryDto> dtos;
+        private final String entityTag;
+        private final Map<String, Long> idsByName;
+
+        private Categories(List<CategoryDto> dtos, String entityTag, Map<String, Long> idsByName) {
+            this.dtos = dtos;
+            this.entityTag = entityTag;
+            this.idsByName = idsByName;
+        }
     }
 }
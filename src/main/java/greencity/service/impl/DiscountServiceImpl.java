@@ -3,13 +3,22 @@ package greencity.service.impl;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.entity.Discount;
+import greencity.entity.Place;
 import greencity.exception.NotFoundException;
 import greencity.repository.DiscountRepo;
 import greencity.service.DiscountService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service implementation for Discount entity.
@@ -21,6 +30,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class DiscountServiceImpl implements DiscountService {
     private DiscountRepo repo;
+    private final AtomicLong updatedRowCount = new AtomicLong();
 
     /**
      * {@inheritDoc}
@@ -66,4 +76,69 @@ public class DiscountServiceImpl implements DiscountService {
     public void deleteAllByPlaceId(Long placeId) {
         repo.deleteAllByPlaceId(placeId);
     }
+
+    /**
+     * {@inheritDoc}
+     * Rows are already loaded for the diff, so deleted rows are removed without extra selects
+     * and all statements are sent in JDBC batches on flush.
+     */
+    @Transactional
+    @Override
+    public int updateAllByPlace(Place place, Collection<Discount> discounts) {
+        List<Discount> unmatched = new ArrayList<>(repo.findAllByPlaceId(place.getId()));
+        List<Discount> changed = new ArrayList<>();
+        for (Discount discount : discounts) {
+            if (removeFirst(unmatched, old -> isSame(old, discount)) == null) {
+                changed.add(discount);
+            }
+        }
+        List<Discount> added = new ArrayList<>();
+        int updated = 0;
+        for (Discount discount : changed) {
+            Discount old = removeFirst(unmatched, o -> hasSameSpecification(o, discount));
+            if (old == null) {
+                discount.setPlace(place);
+                added.add(discount);
+            } else {
+                old.setValue(discount.getValue());
+                old.setCategory(discount.getCategory());
+                updated++;
+            }
+        }
+        repo.saveAll(added);
+        repo.deleteAll(unmatched);
+        int touched = added.size() + updated + unmatched.size();
+        updatedRowCount.addAndGet(touched);
+        return touched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUpdatedRowCount() {
+        return updatedRowCount.get();
+    }
+
+    private static boolean isSame(Discount old, Discount discount) {
+        return hasSameSpecification(old, discount)
+            && old.getValue() == discount.getValue()
+            && Objects.equals(old.getCategory().getId(), discount.getCategory().getId());
+    }
+
+    private static boolean hasSameSpecification(Discount old, Discount discount) {
+        return Objects.equals(old.getSpecification().getId(), discount.getSpecification().getId());
+    }
+
+    private static Discount removeFirst(List<Discount> discounts, Predicate<Discount> predicate) {
+        Iterator<Discount> iterator = discounts.iterator();
+        while (iterator.hasNext()) {
+            Discount discount = iterator.next();
+            if (predicate.test(discount)) {
+                iterator.remove();
+                return discount;
+            }
+        }
+        return null;
+    }
 }
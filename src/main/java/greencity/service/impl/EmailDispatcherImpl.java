@@ -0,0 +1,271 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.constant.LogMessage;
+import greencity.service.EmailDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code EmailDispatcher}.
+ * A fixed pool of workers takes messages from a bounded queue and sends them in batches,
+ * so one SMTP connection is used for the whole batch. Messages which failed are sent again
+ * with exponentially growing delay until the max count of attempts is reached.
+ */
+@Slf4j
+@Service
+public class EmailDispatcherImpl implements EmailDispatcher {
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private final JavaMailSender javaMailSender;
+    private final BlockingQueue<Envelope> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final long offerTimeoutMillis;
+    private final Timer smtpSendTimer;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    /**
+     * Constructor.
+     *
+     * @param javaMailSender     {@link JavaMailSender} - use it for sending emails.
+     * @param queueCapacity      - max count of messages waiting in the queue.
+     * @param workerCount        - count of sending threads.
+     * @param batchSize          - max count of messages sent through one SMTP connection.
+     * @param maxAttempts        - max count of attempts to send one message.
+     * @param retryDelayMillis   - delay before the first retry, doubled for every next one.
+     * @param offerTimeoutMillis - how long to wait for a free place in the full queue.
+     * @param meterRegistry      {@link MeterRegistry} - registry of the timer of SMTP sends.
+     */
+    public EmailDispatcherImpl(JavaMailSender javaMailSender,
+                               @Value("${emailQueueCapacity:1000}") int queueCapacity,
+                               @Value("${emailWorkerCount:2}") int workerCount,
+                               @Value("${emailBatchSize:20}") int batchSize,
+                               @Value("${emailMaxAttempts:3}") int maxAttempts,
+                               @Value("${emailRetryDelayInMillis:1000}") long retryDelayMillis,
+                               @Value("${emailOfferTimeoutInMillis:100}") long offerTimeoutMillis,
+                               MeterRegistry meterRegistry) {
+        this.javaMailSender = javaMailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.smtpSendTimer = meterRegistry.timer(AppConstant.METRIC_EMAIL_SMTP_SEND);
+    }
+
+    /**
+     * Starts sending threads.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("email-dispatcher-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-retry-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * Stops accepting messages, sends messages which are already in the queue and stops sending threads.
+     * Messages waiting for a retry are counted as failed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        failedCount.addAndGet(retryScheduler.shutdownNow().size());
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error(LogMessage.IN_SHUTDOWN_EMAIL_DISPATCHER, queue.size());
+            failedCount.addAndGet(queue.size());
+            queue.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean dispatch(MimeMessage message) {
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(new Envelope(message), offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (queued) {
+            queuedCount.incrementAndGet();
+        } else {
+            rejectedCount.incrementAndGet();
+            log.error(LogMessage.IN_DISPATCH_EMAIL_REJECTED, queue.size());
+        }
+        return queued;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    private void work() {
+        List<Envelope> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Envelope> batch) {
+        MimeMessage[] messages = new MimeMessage[batch.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = batch.get(i).message;
+        }
+        try {
+            smtpSendTimer.record(() -> javaMailSender.send(messages));
+            sentCount.addAndGet(messages.length);
+        } catch (MailSendException e) {
+            Collection<Object> failedMessages = e.getFailedMessages().keySet();
+            List<Envelope> failed = new ArrayList<>();
+            for (Envelope envelope : batch) {
+                if (failedMessages.contains(envelope.message)) {
+                    failed.add(envelope);
+                }
+            }
+            if (failedMessages.isEmpty()) {
+                failed.addAll(batch);
+            }
+            sentCount.addAndGet(batch.size() - failed.size());
+            retry(failed, e);
+        } catch (MailException e) {
+            retry(batch, e);
+        }
+    }
+
+    private void retry(List<Envelope> failed, MailException cause) {
+        for (Envelope envelope : failed) {
+            if (envelope.attempt >= maxAttempts || !running) {
+                failedCount.incrementAndGet();
+                log.error(LogMessage.IN_SEND_EMAIL_FAILED, envelope.attempt, cause.getMessage());
+                continue;
+            }
+            long delay = retryDelayMillis << (envelope.attempt - 1);
+            envelope.attempt++;
+            try {
+                retryScheduler.schedule(() -> requeue(envelope), delay, TimeUnit.MILLISECONDS);
+                retriedCount.incrementAndGet();
+            } catch (RejectedExecutionException e) {
+                failedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void requeue(Envelope envelope) {
+        if (!queue.offer(envelope)) {
+            failedCount.incrementAndGet();
+            log.error(LogMessage.IN_DISPATCH_EMAIL_REJECTED, queue.size());
+        }
+    }
+
+    /**
+     * Message with count of attempts to send it.
+     */
+    private static final class Envelope {
+        private final MimeMessage message;
+        private int attempt = 1;
+
+        private Envelope(MimeMessage message) {
+            this.message = message;
+        }
+    }
+}
@@ -4,7 +4,11 @@ import greencity.constant.AppConstant;
 import greencity.entity.Place;
 import greencity.entity.User;
 import greencity.entity.enums.PlaceStatus;
+import greencity.service.EmailDispatcher;
 import greencity.service.EmailService;
+import greencity.service.EmailTemplateRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import javax.mail.MessagingException;
@@ -14,8 +18,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 /**
  * {@inheritDoc}
@@ -24,7 +26,9 @@ import org.thymeleaf.context.Context;
 @Slf4j
 public class EmailServiceImpl implements EmailService {
     private final JavaMailSender javaMailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailDispatcher emailDispatcher;
+    private final MeterRegistry meterRegistry;
 
     @Value("${client.address}")
     private String clientLink;
@@ -39,11 +43,16 @@ public class EmailServiceImpl implements EmailService {
      * Constructor.
      *
      * @param javaMailSender {@link JavaMailSender} - use it for sending submits to users email
-     * @param templateEngine - TemplateEngine to manege email templates
+     * @param emailTemplateRenderer {@link EmailTemplateRenderer} - renderer of email templates
+     * @param emailDispatcher {@link EmailDispatcher} - queue which sends emails asynchronously
+     * @param meterRegistry {@link MeterRegistry} - registry of timers of rendering and queueing emails
      */
-    public EmailServiceImpl(JavaMailSender javaMailSender, TemplateEngine templateEngine) {
+    public EmailServiceImpl(JavaMailSender javaMailSender, EmailTemplateRenderer emailTemplateRenderer,
+                            EmailDispatcher emailDispatcher, MeterRegistry meterRegistry) {
         this.javaMailSender = javaMailSender;
-        this.templateEngine = templateEngine;
+        this.emailTemplateRenderer = emailTemplateRenderer;
+        this.emailDispatcher = emailDispatcher;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -53,13 +62,17 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendChangePlaceStatusEmail(Place updatable, PlaceStatus status) {
-        Map<String, Object> model = new HashMap<>();
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("status", status.toString().toLowerCase());
+        shared.put("clientLink", clientLink);
+        Map<String, String> model = new HashMap<>();
         model.put("placeName", updatable.getName());
-        model.put("status", status.toString().toLowerCase());
-        model.put("user", updatable.getAuthor());
-        model.put("clientLink", clientLink);
-        String template = createEmailTemplate(model, "email-change-place-status");
-        sendEmail(updatable.getAuthor(), "GreenCity contributors", template);
+        model.put("userFirstName", updatable.getAuthor().getFirstName());
+        model.put("userLastName", updatable.getAuthor().getLastName());
+        timeEmail("email-change-place-status", () -> {
+            String template = emailTemplateRenderer.render("email-change-place-status", shared, model);
+            sendEmail(updatable.getAuthor(), "GreenCity contributors", template);
+        });
     }
 
     /**
@@ -69,12 +82,13 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendVerificationEmail(User user, String token) {
-        Map<String, Object> model = new HashMap<>();
-        model.put("clientLink", clientLink);
+        Map<String, String> model = new HashMap<>();
         model.put("userFirstName", user.getFirstName());
         model.put("verifyAddress", serverAddress + "/ownSecurity/verifyEmail?token=" + token);
-        String template = createEmailTemplate(model, "verify-email-page");
-        sendEmail(user, "Verify your email address", template);
+        timeEmail("verify-email-page", () -> {
+            String template = emailTemplateRenderer.render("verify-email-page", sharedVariables(), model);
+            sendEmail(user, "Verify your email address", template);
+        });
     }
 
     /**
@@ -84,15 +98,23 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendRestoreEmail(User user, String token) {
-        Map<String, Object> model = new HashMap<>();
-        model.put("clientLink", clientLink);
+        Map<String, String> model = new HashMap<>();
         model.put("userFirstName", user.getFirstName());
         model.put("restorePassword", clientLink + "/auth/restore/" + token);
-        String template = createEmailTemplate(model, "restore-email-page");
-        sendEmail(user, "Confirm restoring password", template);
+        timeEmail("restore-email-page", () -> {
+            String template = emailTemplateRenderer.render("restore-email-page", sharedVariables(), model);
+            sendEmail(user, "Confirm restoring password", template);
+        });
     }
 
 
+    /**
+     * Records time of rendering and queueing the email, the SMTP send is timed by {@link EmailDispatcher}.
+     */
+    private void timeEmail(String template, Runnable send) {
+        meterRegistry.timer(AppConstant.METRIC_EMAIL_SEND, AppConstant.METRIC_TAG_TEMPLATE, template).record(send);
+    }
+
     private void sendEmail(User receiver, String subject, String text) {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
@@ -102,14 +124,12 @@ public class EmailServiceImpl implements EmailService {
             mimeMessage.setContent(text, AppConstant.EMAIL_CONTENT_TYPE);
         } catch (MessagingException e) {
             log.error(e.getMessage());
+            return;
         }
-        new Thread(() -> javaMailSender.send(mimeMessage)).start();
+        emailDispatcher.dispatch(mimeMessage);
     }
 
-    private String createEmailTemplate(Map<String, Object> vars, String templateName) {
-        Context context = new Context();
-        context.setVariables(vars);
-
-        return templateEngine.process("email/" + templateName, context);
+    private Map<String, Object> sharedVariables() {
+        return Collections.singletonMap("clientLink", clientLink);
     }
 }
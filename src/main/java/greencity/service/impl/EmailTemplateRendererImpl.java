@@ -0,0 +1,134 @@
+package greencity.service.impl;
+
+import greencity.service.EmailTemplateRenderer;
+import greencity.util.BoundedCache;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * The class provides implementation of the {@code EmailTemplateRenderer}.
+ * On the first render the template is processed with unique markers instead of recipient variables
+ * and the output is split by these markers into static segments, which are cached.
+ */
+@Service
+public class EmailTemplateRendererImpl implements EmailTemplateRenderer {
+    private static final String TEMPLATE_PREFIX = "email/";
+    private final TemplateEngine templateEngine;
+    private final BoundedCache<Key, CompiledTemplate> compiledTemplates;
+
+    /**
+     * Constructor.
+     *
+     * @param templateEngine - TemplateEngine to process email templates.
+     * @param cacheMaxSize   - max count of cached compiled templates.
+     */
+    public EmailTemplateRendererImpl(TemplateEngine templateEngine,
+                                     @Value("${emailTemplateCacheMaxSize:64}") int cacheMaxSize) {
+        this.templateEngine = templateEngine;
+        this.compiledTemplates = new BoundedCache<>(cacheMaxSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String render(String templateName, Map<String, Object> sharedVariables,
+                         Map<String, String> recipientVariables) {
+        Key key = new Key(templateName, new HashMap<>(sharedVariables), new HashSet<>(recipientVariables.keySet()));
+        CompiledTemplate compiled = compiledTemplates.get(key);
+        if (compiled == null) {
+            compiled = compile(key);
+            compiledTemplates.put(key, compiled);
+        }
+        return compiled.render(recipientVariables);
+    }
+
+    private CompiledTemplate compile(Key key) {
+        String markerPrefix = "gc" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + "v";
+        List<String> names = new ArrayList<>(key.recipientVariables);
+        Context context = new Context();
+        context.setVariables(key.sharedVariables);
+        for (int i = 0; i < names.size(); i++) {
+            context.setVariable(names.get(i), markerPrefix + i + "e");
+        }
+        String output = templateEngine.process(TEMPLATE_PREFIX + key.templateName, context);
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int from = 0;
+        int markerStart = output.indexOf(markerPrefix);
+        while (markerStart >= 0) {
+            int indexStart = markerStart + markerPrefix.length();
+            int markerEnd = output.indexOf('e', indexStart);
+            segments.add(output.substring(from, markerStart));
+            slots.add(names.get(Integer.parseInt(output.substring(indexStart, markerEnd))));
+            from = markerEnd + 1;
+            markerStart = output.indexOf(markerPrefix, from);
+        }
+        segments.add(output.substring(from));
+        return new CompiledTemplate(segments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    private static final class Key {
+        private final String templateName;
+        private final Map<String, Object> sharedVariables;
+        private final Set<String> recipientVariables;
+
+        private Key(String templateName, Map<String, Object> sharedVariables, Set<String> recipientVariables) {
+            this.templateName = templateName;
+            this.sharedVariables = sharedVariables;
+            this.recipientVariables = recipientVariables;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return templateName.equals(key.templateName)
+                && sharedVariables.equals(key.sharedVariables)
+                && recipientVariables.equals(key.recipientVariables);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(templateName, sharedVariables, recipientVariables);
+        }
+    }
+
+    /**
+     * Static segments of the rendered template and names of variables printed between them.
+     */
+    private static final class CompiledTemplate {
+        private final String[] segments;
+        private final String[] slots;
+        private final int staticLength;
+
+        private CompiledTemplate(String[] segments, String[] slots) {
+            this.segments = segments;
+            this.slots = slots;
+            this.staticLength = Arrays.stream(segments).mapToInt(String::length).sum();
+        }
+
+        private String render(Map<String, String> variables) {
+            StringBuilder html = new StringBuilder(staticLength + slots.length * 32);
+            html.append(segments[0]);
+            for (int i = 0; i < slots.length; i++) {
+                String value = variables.get(slots[i]);
+                if (value != null) {
+                    html.append(HtmlEscape.escapeHtml4Xml(value));
+                }
+                html.append(segments[i + 1]);
+            }
+            return html.toString();
+        }
+    }
+}
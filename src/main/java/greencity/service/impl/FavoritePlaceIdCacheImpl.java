@@ -0,0 +1,56 @@
+package greencity.service.impl;
+
+import greencity.service.FavoritePlaceIdCache;
+import greencity.util.BoundedCache;
+import greencity.util.ReadThroughCache;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code FavoritePlaceIdCache} on top of {@link ReadThroughCache}.
+ * Cached sets are unmodifiable, so they are shared by callers without copying.
+ */
+@Service
+public class FavoritePlaceIdCacheImpl implements FavoritePlaceIdCache {
+    private final ReadThroughCache<String, Set<Long>> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize            - max count of cached users.
+     * @param timeToLiveInMillis - time after which favorite place ids of a user are loaded again.
+     */
+    public FavoritePlaceIdCacheImpl(@Value("${favoritePlaceIdCacheMaxSize:1000}") int maxSize,
+                                    @Value("${favoritePlaceIdCacheTimeToLiveInMillis:300000}")
+                                        long timeToLiveInMillis) {
+        this.cache = new ReadThroughCache<>(maxSize, timeToLiveInMillis);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> get(String email, Function<String, Set<Long>> loader) {
+        return cache.get(email, key -> Collections.unmodifiableSet(new HashSet<>(loader.apply(key))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(String email) {
+        cache.evictAfterCommit(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoundedCache<String, Set<Long>> getCache() {
+        return cache;
+    }
+}
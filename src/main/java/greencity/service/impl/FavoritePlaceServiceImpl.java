@@ -9,16 +9,17 @@ import greencity.entity.FavoritePlace;
 import greencity.entity.User;
 import greencity.exception.BadIdException;
 import greencity.mapping.FavoritePlaceDtoMapper;
-import greencity.mapping.FavoritePlaceWithLocationMapper;
 import greencity.repository.FavoritePlaceRepo;
+import greencity.service.FavoritePlaceIdCache;
 import greencity.service.FavoritePlaceService;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +30,8 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     private FavoritePlaceRepo repo;
     private UserService userService;
     private PlaceService placeService;
+    private FavoritePlaceIdCache favoritePlaceIdCache;
     FavoritePlaceDtoMapper favoritePlaceDtoMapper;
-    FavoritePlaceWithLocationMapper favoritePlaceWithLocationMapper;
-    ModelMapper modelMapper;
 
     @Override
     /**
@@ -46,7 +46,9 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
             throw new BadIdException(ErrorMessage.PLACE_NOT_FOUND_BY_ID);
         }
         favoritePlace.setUser(User.builder().email(userEmail).id(userService.findIdByEmail(userEmail)).build());
-        return favoritePlaceDtoMapper.convertToDto(repo.save(favoritePlace));
+        FavoritePlace saved = repo.save(favoritePlace);
+        favoritePlaceIdCache.evict(userEmail);
+        return favoritePlaceDtoMapper.convertToDto(saved);
     }
 
     /**
@@ -75,8 +77,31 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     @Override
     public List<FavoritePlaceDto> findAllByUserEmail(String email) {
         log.info(LogMessage.IN_FIND_ALL);
-        return repo.findAllByUserEmail(email).stream().map(fp -> favoritePlaceDtoMapper.convertToDto(fp))
-            .collect(Collectors.toList());
+        return repo.findAllDtoByUserEmail(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> findAllPlaceIdsByUserEmail(String email) {
+        log.info(LogMessage.IN_FIND_ALL);
+        return favoritePlaceIdCache.get(email, userEmail -> new HashSet<>(repo.findAllPlaceIdsByUserEmail(userEmail)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> findFavoritePlaceIds(Collection<Long> placeIds, String email) {
+        Set<Long> favoritePlaceIds = findAllPlaceIdsByUserEmail(email);
+        Set<Long> result = new HashSet<>();
+        for (Long placeId : placeIds) {
+            if (favoritePlaceIds.contains(placeId)) {
+                result.add(placeId);
+            }
+        }
+        return result;
     }
 
     /**
@@ -93,6 +118,7 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
             throw new BadIdException(ErrorMessage.FAVORITE_PLACE_NOT_FOUND);
         }
         repo.delete(favoritePlace);
+        favoritePlaceIdCache.evict(userEmail);
         return favoritePlace.getId();
     }
 
@@ -121,12 +147,7 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     public PlaceInfoDto getInfoFavoritePlace(Long placeId) {
         log.info(LogMessage.IN_GET_ACCESS_PLACE_AS_FAVORITE_PLACE, placeId);
         FavoritePlace favoritePlace = findByPlaceId(placeId);
-        PlaceInfoDto placeInfoDto =
-            modelMapper.map(
-                placeService
-                    .findById(favoritePlace.getPlace().getId()),
-                PlaceInfoDto.class);
-        placeInfoDto.setRate(placeService.averageRate(favoritePlace.getPlace().getId()));
+        PlaceInfoDto placeInfoDto = placeService.getInfoById(favoritePlace.getPlace().getId());
         placeInfoDto.setName(favoritePlace.getName());
         return placeInfoDto;
     }
@@ -139,10 +160,10 @@ public class FavoritePlaceServiceImpl implements FavoritePlaceService {
     @Override
     public PlaceByBoundsDto getFavoritePlaceWithLocation(Long placeId, String email) {
         log.info(LogMessage.IN_GET_FAVORITE_PLACE_WITH_LOCATION, placeId, email);
-        FavoritePlace favoritePlace = repo.findByPlaceIdAndUserEmail(placeId, email);
-        if (favoritePlace == null) {
+        PlaceByBoundsDto placeByBoundsDto = repo.findPlaceByBoundsDtoByPlaceIdAndUserEmail(placeId, email);
+        if (placeByBoundsDto == null) {
             throw new BadIdException(ErrorMessage.FAVORITE_PLACE_NOT_FOUND);
         }
-        return favoritePlaceWithLocationMapper.convertToDto(repo.findByPlaceIdAndUserEmail(placeId, email));
+        return placeByBoundsDto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.constant.LogMessage;
+import greencity.service.LastVisitTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code LastVisitTracker}.
+ * Pending visits are flushed on a schedule and when the application is shutting down.
+ */
+@Slf4j
+@Service
+public class LastVisitTrackerImpl implements LastVisitTracker {
+    private static final String UPDATE_LAST_VISIT = "UPDATE user SET last_visit = ? WHERE id = ?";
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LocalDateTime> pendingVisits = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+
+    /**
+     * Constructor.
+     *
+     * @param jdbcTemplate  - {@link JdbcTemplate} used to write visits.
+     * @param meterRegistry - {@link MeterRegistry} - registry of the timer of flushes.
+     */
+    public LastVisitTrackerImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = meterRegistry.timer(AppConstant.METRIC_LAST_VISIT_FLUSH);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordVisit(Long userId) {
+        pendingVisits.put(userId, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${lastVisitFlushDelayInMillis:30000}")
+    @Override
+    public synchronized void flush() {
+        if (pendingVisits.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(pendingVisits.size());
+        for (Long userId : pendingVisits.keySet()) {
+            LocalDateTime lastVisit = pendingVisits.remove(userId);
+            if (lastVisit != null) {
+                batch.add(new Object[] {Timestamp.valueOf(lastVisit), userId});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_VISIT, batch);
+        } catch (RuntimeException e) {
+            batch.forEach(args -> pendingVisits.putIfAbsent((Long) args[1],
+                ((Timestamp) args[0]).toLocalDateTime()));
+            throw e;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        log.info(LogMessage.IN_FLUSH_LAST_VISITS, batch.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return pendingVisits.size();
+    }
+}
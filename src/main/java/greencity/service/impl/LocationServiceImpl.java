@@ -3,9 +3,11 @@ package greencity.service.impl;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.entity.Location;
+import greencity.entity.Place;
 import greencity.exception.NotFoundException;
 import greencity.repository.LocationRepo;
 import greencity.service.LocationService;
+import greencity.service.PlaceInfoCache;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class LocationServiceImpl implements LocationService {
     private final LocationRepo locationRepo;
+    private final PlaceInfoCache placeInfoCache;
 
     /**
      * {@inheritDoc}
@@ -71,11 +74,13 @@ public class LocationServiceImpl implements LocationService {
         log.info(LogMessage.IN_UPDATE, location);
 
         Location updatable = findById(id);
+        evictPlaceInfo(updatable.getPlace());
 
         updatable.setLat(location.getLat());
         updatable.setLng(location.getLng());
         updatable.setAddress(location.getAddress());
         updatable.setPlace(location.getPlace());
+        evictPlaceInfo(location.getPlace());
 
         return locationRepo.save(updatable);
     }
@@ -89,7 +94,9 @@ public class LocationServiceImpl implements LocationService {
     public Long deleteById(Long id) {
         log.info(LogMessage.IN_DELETE_BY_ID, id);
 
-        locationRepo.delete(findById(id));
+        Location location = findById(id);
+        evictPlaceInfo(location.getPlace());
+        locationRepo.delete(location);
         return id;
     }
 
@@ -102,4 +109,10 @@ public class LocationServiceImpl implements LocationService {
     public Location findByPlaceId(Long placeId) {
         return locationRepo.findByPlaceId(placeId);
     }
+
+    private void evictPlaceInfo(Place place) {
+        if (place != null) {
+            placeInfoCache.evict(place.getId());
+        }
+    }
 }
@@ -2,18 +2,34 @@ package greencity.service.impl;
 
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
+import greencity.entity.BreakTime;
 import greencity.entity.OpeningHours;
 import greencity.entity.Place;
-import greencity.exception.BadRequestException;
 import greencity.exception.NotFoundException;
 import greencity.repository.OpenHoursRepo;
+import greencity.repository.PlaceRepo;
 import greencity.service.BreakTimeService;
 import greencity.service.OpenHoursService;
+import greencity.service.PlaceInfoCache;
+import greencity.util.OpeningHoursBitmap;
+import greencity.util.OpeningHoursValidator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The class provides implementation of the {@code OpenHoursService}.
@@ -22,6 +38,8 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 @Service
 public class OpenHoursServiceImpl implements OpenHoursService {
+    private static final int BITMAP_BATCH_SIZE = 500;
+
     /**
      * Autowired repository.
      */
@@ -29,6 +47,12 @@ public class OpenHoursServiceImpl implements OpenHoursService {
 
     private BreakTimeService breakTimeService;
 
+    private PlaceRepo placeRepo;
+
+    private PlaceInfoCache placeInfoCache;
+
+    private final AtomicLong updatedRowCount = new AtomicLong();
+
     /**
      * {@inheritDoc}
      *
@@ -43,23 +67,18 @@ public class OpenHoursServiceImpl implements OpenHoursService {
      *
      * @author Kateryna Horokh
      */
+    @Transactional
     @Override
     public OpeningHours save(OpeningHours hours) {
         log.info(LogMessage.IN_SAVE);
 
-        if (hours.getOpenTime().getHour() > hours.getCloseTime().getHour()) {
-            throw new BadRequestException(ErrorMessage.CLOSE_TIME_LATE_THAN_OPEN_TIME);
-        }
-
+        OpeningHoursValidator.validate(hours);
         if (hours.getBreakTime() != null) {
-            if (hours.getBreakTime().getStartTime().getHour() > hours.getOpenTime().getHour()
-                && hours.getBreakTime().getEndTime().getHour() < hours.getCloseTime().getHour()) {
-                breakTimeService.save(hours.getBreakTime());
-            } else {
-                throw new BadRequestException(ErrorMessage.WRONG_BREAK_TIME);
-            }
+            breakTimeService.save(hours.getBreakTime());
         }
-        return hoursRepo.save(hours);
+        OpeningHours saved = hoursRepo.save(hours);
+        updateOpeningHoursBitmap(hours.getPlace());
+        return saved;
     }
 
     /**
@@ -94,6 +113,7 @@ public class OpenHoursServiceImpl implements OpenHoursService {
      *
      * @author Nazar Vladyka
      */
+    @Transactional
     @Override
     public OpeningHours update(Long id, OpeningHours updatedHours) {
         log.info(LogMessage.IN_UPDATE);
@@ -103,9 +123,16 @@ public class OpenHoursServiceImpl implements OpenHoursService {
         updatable.setOpenTime(updatedHours.getOpenTime());
         updatable.setCloseTime(updatedHours.getCloseTime());
         updatable.setWeekDay(updatedHours.getWeekDay());
+        Place previousPlace = updatable.getPlace();
         updatable.setPlace(updatedHours.getPlace());
 
-        return hoursRepo.save(updatable);
+        OpeningHours saved = hoursRepo.save(updatable);
+        updateOpeningHoursBitmap(previousPlace);
+        if (previousPlace == null || updatedHours.getPlace() == null
+            || !Objects.equals(previousPlace.getId(), updatedHours.getPlace().getId())) {
+            updateOpeningHoursBitmap(updatedHours.getPlace());
+        }
+        return saved;
     }
 
     /**
@@ -113,11 +140,14 @@ public class OpenHoursServiceImpl implements OpenHoursService {
      *
      * @author Nazar Vladyka
      */
+    @Transactional
     @Override
     public Long deleteById(Long id) {
         log.info(LogMessage.IN_DELETE_BY_ID, id);
 
-        hoursRepo.delete(findById(id));
+        OpeningHours hours = findById(id);
+        hoursRepo.delete(hours);
+        updateOpeningHoursBitmap(hours.getPlace());
         return id;
     }
 
@@ -136,8 +166,143 @@ public class OpenHoursServiceImpl implements OpenHoursService {
      *
      * @author Kateryna Horokh
      */
+    @Transactional
     @Override
     public void deleteAllByPlaceId(Long placeId) {
         hoursRepo.deleteAllByPlaceId(placeId);
+        updateOpeningHoursBitmap(placeId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void updateOpeningHoursBitmap(Long placeId) {
+        placeRepo.updateOpeningHoursBitmap(placeId, OpeningHoursBitmap.of(hoursRepo.findAllByPlaceId(placeId)));
+        placeInfoCache.evict(placeId);
+    }
+
+    /**
+     * Method updates the bitmap of the place if hours belong to a saved place.
+     *
+     * @param place - {@link Place} of opening hours, may be {@code null}.
+     */
+    private void updateOpeningHoursBitmap(Place place) {
+        if (place != null && place.getId() != null) {
+            updateOpeningHoursBitmap(place.getId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    @Override
+    public void updateMissingOpeningHoursBitmaps() {
+        List<Long> placeIds = placeRepo.findAllIdsWithoutOpeningHoursBitmap();
+        for (int from = 0; from < placeIds.size(); from += BITMAP_BATCH_SIZE) {
+            List<Long> batch = placeIds.subList(from, Math.min(from + BITMAP_BATCH_SIZE, placeIds.size()));
+            Map<Long, List<OpeningHours>> hoursByPlaceId = new HashMap<>();
+            hoursRepo.findAllWithBreakTimeByPlaceIdIn(batch).forEach(hours -> hoursByPlaceId
+                .computeIfAbsent(hours.getPlace().getId(), placeId -> new ArrayList<>()).add(hours));
+            batch.forEach(placeId ->
+                placeRepo.updateOpeningHoursBitmap(placeId, OpeningHoursBitmap.of(hoursByPlaceId.get(placeId))));
+        }
+        log.info(LogMessage.IN_UPDATE_MISSING_OPENING_HOURS_BITMAPS, placeIds.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Rows are already loaded for the diff, so deleted rows are removed without extra selects
+     * and all statements are sent in JDBC batches on flush. A removed break is deleted as an orphan.
+     * Changed and added rows are validated as {@link #save} validates them before anything is written.
+     */
+    @Transactional
+    @Override
+    public int updateAllByPlace(Place place, Collection<OpeningHours> hours) {
+        List<OpeningHours> unmatched =
+            new ArrayList<>(hoursRepo.findAllWithBreakTimeByPlaceIdIn(Collections.singletonList(place.getId())));
+        List<OpeningHours> current = new ArrayList<>();
+        List<OpeningHours> changed = new ArrayList<>();
+        for (OpeningHours openingHours : hours) {
+            OpeningHours same = removeFirst(unmatched, old -> isSame(old, openingHours));
+            if (same == null) {
+                changed.add(openingHours);
+            } else {
+                current.add(same);
+            }
+        }
+        changed.forEach(OpeningHoursValidator::validate);
+        List<OpeningHours> added = new ArrayList<>();
+        int updated = 0;
+        for (OpeningHours openingHours : changed) {
+            OpeningHours old = removeFirst(unmatched, o -> o.getWeekDay() == openingHours.getWeekDay());
+            if (old == null) {
+                openingHours.setPlace(place);
+                added.add(openingHours);
+                current.add(openingHours);
+            } else {
+                old.setOpenTime(openingHours.getOpenTime());
+                old.setCloseTime(openingHours.getCloseTime());
+                updateBreakTime(old, openingHours.getBreakTime());
+                current.add(old);
+                updated++;
+            }
+        }
+        hoursRepo.saveAll(added);
+        hoursRepo.deleteAll(unmatched);
+        int touched = added.size() + updated + unmatched.size();
+        if (touched > 0) {
+            place.setOpeningHoursBitmap(OpeningHoursBitmap.of(current));
+            placeInfoCache.evict(place.getId());
+        }
+        updatedRowCount.addAndGet(touched);
+        return touched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUpdatedRowCount() {
+        return updatedRowCount.get();
+    }
+
+    private static void updateBreakTime(OpeningHours old, BreakTime breakTime) {
+        if (breakTime == null || old.getBreakTime() == null) {
+            old.setBreakTime(breakTime);
+        } else {
+            old.getBreakTime().setStartTime(breakTime.getStartTime());
+            old.getBreakTime().setEndTime(breakTime.getEndTime());
+        }
+    }
+
+    private static boolean isSame(OpeningHours old, OpeningHours openingHours) {
+        return old.getWeekDay() == openingHours.getWeekDay()
+            && Objects.equals(old.getOpenTime(), openingHours.getOpenTime())
+            && Objects.equals(old.getCloseTime(), openingHours.getCloseTime())
+            && isSame(old.getBreakTime(), openingHours.getBreakTime());
+    }
+
+    private static boolean isSame(BreakTime old, BreakTime breakTime) {
+        if (old == null || breakTime == null) {
+            return old == breakTime;
+        }
+        return Objects.equals(old.getStartTime(), breakTime.getStartTime())
+            && Objects.equals(old.getEndTime(), breakTime.getEndTime());
+    }
+
+    private static OpeningHours removeFirst(List<OpeningHours> hours, Predicate<OpeningHours> predicate) {
+        Iterator<OpeningHours> iterator = hours.iterator();
+        while (iterator.hasNext()) {
+            OpeningHours openingHours = iterator.next();
+            if (predicate.test(openingHours)) {
+                iterator.remove();
+                return openingHours;
+            }
+        }
+        return null;
     }
 }
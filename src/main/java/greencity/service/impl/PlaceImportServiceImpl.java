@@ -0,0 +1,107 @@
+package greencity.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.constant.ErrorMessage;
+import greencity.constant.LogMessage;
+import greencity.dto.place.PlaceAddDto;
+import greencity.exception.BadPlaceRequestException;
+import greencity.service.PlaceImportService;
+import greencity.service.PlaceService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code PlaceImportService}.
+ * The JSON array is read place by place, so only one chunk of places is kept in memory.
+ */
+@Slf4j
+@Service
+public class PlaceImportServiceImpl implements PlaceImportService {
+    private final int chunkSize;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlaceService placeService;
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize    - count of places saved in one transaction.
+     * @param objectMapper - {@link ObjectMapper} for reading places.
+     * @param validator    - {@link Validator} for checking places.
+     * @param placeService - {@link PlaceService} for saving places.
+     */
+    public PlaceImportServiceImpl(@Value("${placeImportChunkSize:500}") int chunkSize,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  PlaceService placeService) {
+        this.chunkSize = chunkSize;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.placeService = placeService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importPlaces(InputStream json, String email) {
+        log.info(LogMessage.IN_IMPORT_PLACES, email);
+
+        long start = System.currentTimeMillis();
+        long imported = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadPlaceRequestException(ErrorMessage.PLACE_IMPORT_NOT_ARRAY);
+            }
+            List<PlaceAddDto> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                PlaceAddDto dto = parser.readValueAs(PlaceAddDto.class);
+                validate(dto, imported + chunk.size());
+                chunk.add(dto);
+                if (chunk.size() == chunkSize) {
+                    imported += placeService.saveAll(chunk, email).size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += placeService.saveAll(chunk, email).size();
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadPlaceRequestException(ErrorMessage.PLACE_IMPORT_MALFORMED + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info(LogMessage.PLACES_IMPORTED, imported, System.currentTimeMillis() - start);
+        return imported;
+    }
+
+    /**
+     * Method for checking constraints of the place.
+     *
+     * @param dto   - {@link PlaceAddDto} to check.
+     * @param index - index of the place in the imported array.
+     * @throws BadPlaceRequestException if the place violates constraints.
+     */
+    private void validate(PlaceAddDto dto, long index) {
+        Set<ConstraintViolation<PlaceAddDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new BadPlaceRequestException(ErrorMessage.PLACE_IMPORT_INVALID_PLACE + index + " "
+                + violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.joining(", ")));
+        }
+    }
+}
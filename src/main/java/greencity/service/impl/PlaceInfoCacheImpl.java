@@ -0,0 +1,92 @@
+package greencity.service.impl;
+
+import greencity.constant.LogMessage;
+import greencity.dto.location.LocationDto;
+import greencity.dto.place.PlaceInfoDto;
+import greencity.service.PlaceInfoCache;
+import greencity.util.BoundedCache;
+import greencity.util.ReadThroughCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code PlaceInfoCache} on top of {@link ReadThroughCache}.
+ * Entries expire after the time to live, which bounds staleness of data changed outside of the services.
+ * A dto of another version than the requested one is loaded again, so other instances of the application
+ * do not serve a dto changed by this one.
+ */
+@Slf4j
+@Service
+public class PlaceInfoCacheImpl implements PlaceInfoCache {
+    private final ReadThroughCache<Long, PlaceInfoDto> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize            - max count of cached places.
+     * @param timeToLiveInMillis - time after which a cached place is loaded again.
+     */
+    public PlaceInfoCacheImpl(@Value("${placeInfoCacheMaxSize:1000}") int maxSize,
+                              @Value("${placeInfoCacheTimeToLiveInMillis:300000}") long timeToLiveInMillis) {
+        this.cache = new ReadThroughCache<>(maxSize, timeToLiveInMillis);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlaceInfoDto get(Long placeId, Long version, Function<Long, PlaceInfoDto> loader) {
+        return copy(cache.get(placeId, cached -> version == null || version.equals(cached.getVersion()), loader));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Long placeId) {
+        cache.evictAfterCommit(placeId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Scheduled(fixedDelayString = "${placeInfoCacheStatisticsDelayInMillis:600000}",
+        initialDelayString = "${placeInfoCacheStatisticsDelayInMillis:600000}")
+    @Override
+    public void logStatistics() {
+        log.info(LogMessage.IN_LOG_PLACE_INFO_CACHE_STATISTICS, cache.size(), cache.getHitCount(),
+            cache.getMissCount(), cache.getEvictionCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoundedCache<Long, PlaceInfoDto> getCache() {
+        return cache;
+    }
+
+    /**
+     * Copies the dto with its location and lists, so a caller changing them does not change the cached dto.
+     *
+     * @param placeInfoDto - cached {@link PlaceInfoDto}.
+     * @return copy of the dto.
+     */
+    private static PlaceInfoDto copy(PlaceInfoDto placeInfoDto) {
+        LocationDto location = placeInfoDto.getLocation();
+        return new PlaceInfoDto(placeInfoDto.getId(), placeInfoDto.getName(),
+            location == null ? null
+                : new LocationDto(location.getId(), location.getLat(), location.getLng(), location.getAddress()),
+            copy(placeInfoDto.getOpeningHoursList()), copy(placeInfoDto.getSpecificationValues()),
+            copy(placeInfoDto.getComments()), placeInfoDto.getRate(), placeInfoDto.getVersion());
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+}
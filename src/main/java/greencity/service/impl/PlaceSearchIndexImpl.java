@@ -0,0 +1,350 @@
+package greencity.service.impl;
+
+import greencity.constant.LogMessage;
+import greencity.dto.place.PlaceSearchDocumentDto;
+import greencity.entity.enums.PlaceStatus;
+import greencity.repository.PlaceRepo;
+import greencity.service.PlaceSearchIndex;
+import greencity.util.PeriodicTask;
+import greencity.util.SearchQuery;
+import greencity.util.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code PlaceSearchIndex} as a sorted dictionary of words
+ * which maps every word to the postings list of documents containing it. A query word matches the words
+ * containing it, they are found by one sequential scan of the distinct words packed into a single buffer,
+ * documents are matched by bit sets.
+ * Replaced documents are left in postings lists until they outnumber live ones, then the index is compacted.
+ * Changes of category names or user emails are picked up by the periodic rebuild.
+ */
+@Slf4j
+@Service
+public class PlaceSearchIndexImpl implements PlaceSearchIndex {
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    private final PlaceRepo placeRepo;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Dictionary dictionary = new Dictionary();
+    private final PeriodicTask rebuildTask = new PeriodicTask("place-search-index-");
+    private volatile boolean built;
+
+    @Value("${placeSearchIndexRebuildDelayInMillis:3600000}")
+    private long rebuildDelayMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param placeRepo - {@link PlaceRepo} used to load places.
+     */
+    public PlaceSearchIndexImpl(PlaceRepo placeRepo) {
+        this.placeRepo = placeRepo;
+    }
+
+    /**
+     * Builds the index when the application is ready and starts rebuilding it periodically on its own thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        rebuildTask.start(this::rebuild, rebuildDelayMillis);
+    }
+
+    /**
+     * Stops rebuilding the index.
+     */
+    @PreDestroy
+    public void stop() {
+        rebuildTask.stop();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rebuild() {
+        List<Document> loaded = placeRepo.findAllPlaceSearchDocumentDto().stream()
+            .map(Document::of)
+            .collect(Collectors.toList());
+        lock.writeLock().lock();
+        try {
+            reset(loaded);
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info(LogMessage.IN_REBUILD_PLACE_SEARCH_INDEX, loaded.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAll(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(placeIds);
+        TransactionCallbacks.afterCommit(() -> {
+            List<Document> loaded = placeRepo.findAllPlaceSearchDocumentDtoByIdIn(ids).stream()
+                .map(Document::of)
+                .collect(Collectors.toList());
+            lock.writeLock().lock();
+            try {
+                ids.forEach(this::delete);
+                loaded.forEach(this::put);
+                if (documents.size() > MIN_COMPACTION_SIZE && documents.size() > 2 * ordinals.size()) {
+                    reset(documents.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Page<Long>> search(String searchReg, PlaceStatus status, Pageable pageable) {
+        Comparator<Document> order = comparator(pageable.getSort());
+        if (order == null || !built) {
+            return Optional.empty();
+        }
+        SearchQuery query = SearchQuery.parse(searchReg);
+        PlaceStatus expectedStatus = status == null ? PlaceStatus.APPROVED : status;
+        long limit = pageable.isPaged() ? pageable.getOffset() + pageable.getPageSize() : Long.MAX_VALUE;
+        PriorityQueue<Document> top = new PriorityQueue<>(order.reversed());
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            BitSet matched = match(query);
+            for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+                Document document = documents.get(ordinal);
+                if (document == null || document.status != expectedStatus) {
+                    continue;
+                }
+                total++;
+                if (top.size() < limit) {
+                    top.add(document);
+                } else if (order.compare(document, top.peek()) < 0) {
+                    top.poll();
+                    top.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Document> found = new ArrayList<>(top);
+        found.sort(order);
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), found.size()) : 0;
+        List<Long> ids = found.subList(from, found.size()).stream()
+            .map(document -> document.placeId)
+            .collect(Collectors.toList());
+        return Optional.of(new PageImpl<>(ids, pageable, total));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(SearchQuery query) {
+        BitSet matched = null;
+        for (String token : query.getTokens()) {
+            BitSet withToken = new BitSet(documents.size());
+            dictionary.addContaining(token, withToken);
+            if (matched == null) {
+                matched = withToken;
+            } else {
+                matched.and(withToken);
+            }
+        }
+        if (query.hasDateRange()) {
+            long from = epochSecond(query.getModifiedFrom());
+            long to = epochSecond(query.getModifiedTo());
+            BitSet inRange = new BitSet(documents.size());
+            for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+                Document document = documents.get(ordinal);
+                if (document != null && document.modified >= from && document.modified < to) {
+                    inRange.set(ordinal);
+                }
+            }
+            if (matched == null) {
+                matched = inRange;
+            } else {
+                matched.or(inRange);
+            }
+        }
+        if (matched == null) {
+            matched = new BitSet(documents.size());
+            matched.set(0, documents.size());
+        }
+        return matched;
+    }
+
+    private void reset(List<Document> loaded) {
+        documents.clear();
+        ordinals.clear();
+        dictionary.clear();
+        loaded.forEach(this::put);
+    }
+
+    private void put(Document document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.placeId, ordinal);
+        for (String token : document.tokens) {
+            dictionary.postings(token).add(ordinal);
+        }
+    }
+
+    private void delete(Long placeId) {
+        Integer ordinal = ordinals.remove(placeId);
+        if (ordinal != null) {
+            documents.set(ordinal, null);
+        }
+    }
+
+    private static Comparator<Document> comparator(Sort sort) {
+        Comparator<Document> byId = Comparator.comparingLong(document -> document.placeId);
+        if (sort.isUnsorted()) {
+            return byId;
+        }
+        Iterator<Sort.Order> orders = sort.iterator();
+        Sort.Order order = orders.next();
+        if (orders.hasNext()) {
+            return null;
+        }
+        Comparator<Document> comparator;
+        if ("id".equals(order.getProperty())) {
+            comparator = byId;
+        } else if ("modifiedDate".equals(order.getProperty())) {
+            comparator = Comparator.<Document>comparingLong(document -> document.modified).thenComparing(byId);
+        } else {
+            return null;
+        }
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? Long.MIN_VALUE : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Immutable snapshot of the indexed place data.
+     */
+    private static final class Document {
+        private final long placeId;
+        private final PlaceStatus status;
+        private final long modified;
+        private final String[] tokens;
+
+        private Document(long placeId, PlaceStatus status, long modified, String[] tokens) {
+            this.placeId = placeId;
+            this.status = status;
+            this.modified = modified;
+            this.tokens = tokens;
+        }
+
+        private static Document of(PlaceSearchDocumentDto place) {
+            Set<String> tokens = new LinkedHashSet<>();
+            tokens.addAll(SearchQuery.tokenize(place.getAuthorEmail()));
+            tokens.addAll(SearchQuery.tokenize(place.getCategoryName()));
+            tokens.addAll(SearchQuery.tokenize(place.getName()));
+            tokens.addAll(SearchQuery.tokenize(place.getAddress()));
+            return new Document(place.getId(), place.getStatus(), epochSecond(place.getModifiedDate()),
+                tokens.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Distinct words with their postings lists. Words are packed into one buffer, each followed by a separator
+     * which is not a word character, so the words containing a query word are found by scanning the buffer.
+     */
+    private static final class Dictionary {
+        private static final char SEPARATOR = '\n';
+        private final StringBuilder words = new StringBuilder();
+        private final Map<String, Integer> wordIds = new HashMap<>();
+        private final List<Postings> postings = new ArrayList<>();
+        private int[] starts = new int[16];
+
+        private Postings postings(String word) {
+            Integer id = wordIds.get(word);
+            if (id == null) {
+                id = postings.size();
+                wordIds.put(word, id);
+                postings.add(new Postings());
+                if (id == starts.length) {
+                    starts = Arrays.copyOf(starts, id * 2);
+                }
+                starts[id] = words.length();
+                words.append(word).append(SEPARATOR);
+            }
+            return postings.get(id);
+        }
+
+        private void addContaining(String token, BitSet bits) {
+            int at = words.indexOf(token);
+            while (at >= 0) {
+                int id = Arrays.binarySearch(starts, 0, postings.size(), at);
+                if (id < 0) {
+                    id = -id - 2;
+                }
+                postings.get(id).addTo(bits);
+                at = id + 1 < postings.size() ? words.indexOf(token, starts[id + 1]) : -1;
+            }
+        }
+
+        private void clear() {
+            words.setLength(0);
+            wordIds.clear();
+            postings.clear();
+        }
+    }
+
+    /**
+     * Growable list of ordinals of documents which contain a word, ordinals are added in ascending order.
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[2];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        private void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(ordinals[i]);
+            }
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package greencity.service.impl;
 
-import static greencity.constant.AppConstant.CONSTANT_OF_FORMULA_HAVERSINE_KM;
-
 import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.discount.DiscountDto;
+import greencity.dto.filter.FilterClusterDto;
 import greencity.dto.filter.FilterDistanceDto;
 import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.LocationDto;
 import greencity.dto.openhours.OpeningHoursDto;
 import greencity.dto.place.*;
 import greencity.entity.*;
@@ -16,11 +17,21 @@ import greencity.entity.enums.PlaceStatus;
 import greencity.entity.enums.ROLE;
 import greencity.exception.NotFoundException;
 import greencity.exception.PlaceStatusException;
+import greencity.exception.PlaceVersionMismatchException;
+import greencity.mapping.AdminPlaceDtoMapper;
 import greencity.repository.PlaceRepo;
+import greencity.repository.options.KeysetFilter;
 import greencity.repository.options.PlaceFilter;
 import greencity.service.*;
 import greencity.util.DateTimeService;
+import greencity.util.GeoUtils;
+import greencity.util.KeysetCursor;
+import greencity.util.OpeningHoursBitmap;
+import greencity.util.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -29,7 +40,9 @@ import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * The class provides implementation of the {@code PlaceService}.
@@ -39,6 +52,12 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class PlaceServiceImpl implements PlaceService {
     private static final PlaceStatus APPROVED_STATUS = PlaceStatus.APPROVED;
+    private static final String KEYSET_DATE_ATTRIBUTE = "modifiedDate";
+    private static final String BOUNDS_QUERY = "bounds";
+    private static final String STREAM_QUERY = "stream";
+    private static final String PAGE_QUERY = "page";
+    private static final String KEYSET_QUERY = "keyset";
+    private static final String COUNT_QUERY = "count";
     private PlaceRepo placeRepo;
     private ModelMapper modelMapper;
     private CategoryService categoryService;
@@ -48,6 +67,12 @@ public class PlaceServiceImpl implements PlaceService {
     private DiscountService discountService;
     private OpenHoursService openingHoursService;
     private LocationService locationService;
+    private PlaceSpatialIndex placeSpatialIndex;
+    private PlaceSearchIndex placeSearchIndex;
+    private PlaceInfoCache placeInfoCache;
+    private AdminPlaceDtoMapper adminPlaceDtoMapper;
+    private MeterRegistry meterRegistry;
+    private PlatformTransactionManager transactionManager;
 
     /**
      * {@inheritDoc}
@@ -55,14 +80,28 @@ public class PlaceServiceImpl implements PlaceService {
      * @author Roman Zahorui
      */
     @Override
+    @Transactional(readOnly = true)
     public PageableDto getPlacesByStatus(PlaceStatus placeStatus, Pageable pageable) {
         Page<Place> places = placeRepo.findAllByStatusOrderByModifiedDateDesc(placeStatus, pageable);
         List<AdminPlaceDto> list = places.stream()
-            .map(place -> modelMapper.map(place, AdminPlaceDto.class))
+            .map(adminPlaceDtoMapper::convertToDto)
             .collect(Collectors.toList());
         return new PageableDto(list, places.getTotalElements(), places.getPageable().getPageNumber());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<AdminPlaceDto> getPlacesByStatus(PlaceStatus placeStatus, KeysetCursor cursor, int size,
+                                                          boolean withTotal) {
+        FilterPlaceDto filterDto = new FilterPlaceDto();
+        filterDto.setStatus(placeStatus);
+        Long total = withTotal ? placeRepo.countByStatus(placeStatus) : null;
+        return findPageAfter(new PlaceFilter(filterDto), cursor, size, total);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -73,34 +112,56 @@ public class PlaceServiceImpl implements PlaceService {
     public Place save(PlaceAddDto dto, String email) {
         log.info(LogMessage.IN_SAVE, dto.getName(), email);
 
-        Category category = categoryService.findByName(dto.getCategory().getName());
-        Place place = modelMapper.map(dto, Place.class);
+        return saveAll(Collections.singletonList(dto), email).get(0);
+    }
 
-        setUserToPlaceByEmail(email, place);
-        place.setCategory(category);
-        place.setLocation(modelMapper.map(dto.getLocation(), Location.class));
-        saveDiscountWithPlaceAndCategory(place.getDiscounts(), category, place);
-        saveOpeningHoursWithPlace(place.getOpeningHoursList(), place);
-        return placeRepo.save(place);
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public List<Place> saveAll(List<PlaceAddDto> dtos, String email) {
+        log.info(LogMessage.IN_SAVE_ALL, dtos.size(), email);
+
+        User author = userService.findByEmail(email).orElseThrow(
+            () -> new NotFoundException(ErrorMessage.USER_NOT_FOUND_BY_EMAIL));
+        Map<String, Category> categories = categoryService.findAllByNames(dtos.stream()
+            .map(dto -> dto.getCategory().getName())
+            .collect(Collectors.toSet()));
+        Map<String, Specification> specifications = specificationService.findAllByNames(dtos.stream()
+            .flatMap(dto -> dto.getDiscounts().stream())
+            .map(discount -> discount.getSpecification().getName())
+            .collect(Collectors.toSet()));
+        List<Place> places = new ArrayList<>(dtos.size());
+        for (PlaceAddDto dto : dtos) {
+            Category category = categories.get(dto.getCategory().getName());
+            Place place = modelMapper.map(dto, Place.class);
+            setAuthor(author, place);
+            place.setCategory(category);
+            place.setLocation(modelMapper.map(dto.getLocation(), Location.class));
+            saveDiscountWithPlaceAndCategory(place.getDiscounts(), specifications, category, place);
+            saveOpeningHoursWithPlace(place.getOpeningHoursList(), place);
+            place.setOpeningHoursBitmap(OpeningHoursBitmap.of(place.getOpeningHoursList()));
+            places.add(place);
+        }
+        List<Place> savedPlaces = placeRepo.saveAll(places);
+        savedPlaces.forEach(placeSpatialIndex::update);
+        placeSearchIndex.updateAll(savedPlaces.stream().map(Place::getId).collect(Collectors.toList()));
+        return savedPlaces;
     }
 
     /**
-     * Method for getting {@link User} and set this {@link User} to place.
+     * Method for setting {@link User} as author of the place. Places of admins and moderators are approved.
      *
-     * @param email - String, user's email.
-     * @param place - {@link Place} entity.
-     * @return user - {@link User}.
-     * @author Kateryna Horokh
+     * @param author - {@link User} entity.
+     * @param place  - {@link Place} entity.
      */
-    private User setUserToPlaceByEmail(String email, Place place) {
-        User user = userService.findByEmail(email).orElseThrow(
-            () -> new NotFoundException(ErrorMessage.USER_NOT_FOUND_BY_EMAIL));
-        place.setAuthor(user);
+    private void setAuthor(User author, Place place) {
+        place.setAuthor(author);
 
-        if (place.getAuthor().getRole() == ROLE.ROLE_ADMIN || place.getAuthor().getRole() == ROLE.ROLE_MODERATOR) {
+        if (author.getRole() == ROLE.ROLE_ADMIN || author.getRole() == ROLE.ROLE_MODERATOR) {
             place.setStatus(APPROVED_STATUS);
         }
-        return user;
     }
 
     /**
@@ -117,15 +178,16 @@ public class PlaceServiceImpl implements PlaceService {
     /**
      * Method for setting {@link Place} to set of {@link Discount}.
      *
-     * @param discounts - set of {@link Discount}.
-     * @param category  - {@link Category} entity.
-     * @param place     - {@link Place} entity.
+     * @param discounts      - set of {@link Discount}.
+     * @param specifications - {@link Specification}'s by name.
+     * @param category       - {@link Category} entity.
+     * @param place          - {@link Place} entity.
      * @author Kateryna Horokh
      */
-    private void saveDiscountWithPlaceAndCategory(Set<Discount> discounts, Category category, Place place) {
+    private void saveDiscountWithPlaceAndCategory(Set<Discount> discounts, Map<String, Specification> specifications,
+                                                  Category category, Place place) {
         discounts.forEach(disc -> {
-            Specification specification = specificationService.findByName(disc.getSpecification().getName());
-            disc.setSpecification(specification);
+            disc.setSpecification(specifications.get(disc.getSpecification().getName()));
             disc.setPlace(place);
             disc.setCategory(category);
         });
@@ -138,68 +200,69 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Transactional
     @Override
-    public Place update(PlaceUpdateDto dto) {
+    public Place update(PlaceUpdateDto dto, Long version) {
         log.info(LogMessage.IN_UPDATE, dto.getName());
 
-        Category updatedCategory = categoryService.findByName(dto.getCategory().getName());
-        Place updatedPlace = findById(dto.getId());
+        Place updatedPlace = placeRepo.findAndIncrementVersionById(dto.getId())
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + dto.getId()));
+        if (version != null && !version.equals(updatedPlace.getVersion())) {
+            throw new PlaceVersionMismatchException(ErrorMessage.PLACE_VERSION_MISMATCH + updatedPlace.getVersion());
+        }
         locationService.update(updatedPlace.getLocation().getId(), modelMapper.map(dto.getLocation(), Location.class));
+        Category updatedCategory = categoryService.findByName(dto.getCategory().getName());
         updatedPlace.setName(dto.getName());
         updatedPlace.setCategory(updatedCategory);
         placeRepo.save(updatedPlace);
 
-        updateOpening(dto.getOpeningHoursList(), updatedPlace);
-        updateDiscount(dto.getDiscounts(), updatedCategory, updatedPlace);
+        int touchedHours = updateOpening(dto.getOpeningHoursList(), updatedPlace);
+        int touchedDiscounts = updateDiscount(dto.getDiscounts(), updatedCategory, updatedPlace);
+        log.info(LogMessage.PLACE_CHILD_ROWS_UPDATED, updatedPlace.getId(), touchedDiscounts, touchedHours);
+        reindex(updatedPlace);
 
         return updatedPlace;
     }
 
     /**
-     * Method for updating set of {@link Discount} and save with new {@link Category} and {@link Place}.
+     * Method for updating set of {@link Discount} with new {@link Category} and {@link Place}.
+     * Only discounts which differ from the saved ones are written.
      *
      * @param discountDtos    - set of {@link Discount}.
      * @param updatedCategory - {@link Category} entity.
      * @param updatedPlace    - {@link Place} entity.
+     * @return count of inserted, updated and deleted rows.
      * @author Kateryna Horokh
      */
-    private void updateDiscount(Set<DiscountDto> discountDtos, Category updatedCategory, Place updatedPlace) {
+    private int updateDiscount(Set<DiscountDto> discountDtos, Category updatedCategory, Place updatedPlace) {
         log.info(LogMessage.IN_UPDATE_DISCOUNT_FOR_PLACE);
 
-        Set<Discount> discountsOld = discountService.findAllByPlaceId(updatedPlace.getId());
-        discountService.deleteAllByPlaceId(updatedPlace.getId());
-        Set<Discount> discounts = new HashSet<>();
+        Map<String, Specification> specifications = specificationService.findAllByNames(discountDtos.stream()
+            .map(d -> d.getSpecification().getName())
+            .collect(Collectors.toSet()));
+        List<Discount> discounts = new ArrayList<>(discountDtos.size());
         discountDtos.forEach(d -> {
             Discount discount = modelMapper.map(d, Discount.class);
-            Specification specification = specificationService.findByName(d.getSpecification().getName());
-            discount.setPlace(updatedPlace);
             discount.setCategory(updatedCategory);
-            discount.setSpecification(specification);
-            discountService.save(discount);
+            discount.setSpecification(specifications.get(d.getSpecification().getName()));
             discounts.add(discount);
         });
-        discountsOld.addAll(discounts);
+        return discountService.updateAllByPlace(updatedPlace, discounts);
     }
 
     /**
-     * Method for updating set of {@link OpeningHours} and save with new {@link Place}.
+     * Method for updating set of {@link OpeningHours} of the {@link Place}.
+     * Only opening hours which differ from the saved ones are written.
      *
-     * @param hoursUpdateDtoSet - set of {@link Discount}.
+     * @param hoursUpdateDtoSet - set of {@link OpeningHoursDto}.
      * @param updatedPlace      - {@link Place} entity.
+     * @return count of inserted, updated and deleted rows.
      * @author Kateryna Horokh
      */
-    private void updateOpening(Set<OpeningHoursDto> hoursUpdateDtoSet, Place updatedPlace) {
+    private int updateOpening(Set<OpeningHoursDto> hoursUpdateDtoSet, Place updatedPlace) {
         log.info(LogMessage.IN_UPDATE_OPENING_HOURS_FOR_PLACE);
 
-        Set<OpeningHours> openingHoursSetOld = openingHoursService.findAllByPlaceId(updatedPlace.getId());
-        openingHoursService.deleteAllByPlaceId(updatedPlace.getId());
-        Set<OpeningHours> hours = new HashSet<>();
-        hoursUpdateDtoSet.forEach(h -> {
-            OpeningHours openingHours = modelMapper.map(h, OpeningHours.class);
-            openingHours.setPlace(updatedPlace);
-            openingHoursService.save(openingHours);
-            hours.add(openingHours);
-        });
-        openingHoursSetOld.addAll(hours);
+        List<OpeningHours> hours = new ArrayList<>(hoursUpdateDtoSet.size());
+        hoursUpdateDtoSet.forEach(h -> hours.add(modelMapper.map(h, OpeningHours.class)));
+        return openingHoursService.updateAllByPlace(updatedPlace, hours);
     }
 
     /**
@@ -221,12 +284,13 @@ public class PlaceServiceImpl implements PlaceService {
      *
      * @author Nazar Vladyka
      */
+    @Transactional
     @Override
     public Long bulkDelete(List<Long> ids) {
-        List<UpdatePlaceStatusDto> deletedPlaces =
+        BulkUpdatePlaceStatusResultDto result =
             updateStatuses(new BulkUpdatePlaceStatusDto(ids, PlaceStatus.DELETED));
 
-        return (long) deletedPlaces.size();
+        return (long) result.getUpdated().size();
     }
 
     /**
@@ -262,7 +326,20 @@ public class PlaceServiceImpl implements PlaceService {
                 updatable.getId() + ErrorMessage.PLACE_STATUS_NOT_DIFFERENT + updatable.getStatus());
         }
 
-        return modelMapper.map(placeRepo.save(updatable), UpdatePlaceStatusDto.class);
+        UpdatePlaceStatusDto updated = modelMapper.map(placeRepo.save(updatable), UpdatePlaceStatusDto.class);
+        reindex(updatable);
+        return updated;
+    }
+
+    /**
+     * Method updates the place in the spatial and search indexes and drops its cached info.
+     *
+     * @param place - changed {@link Place}.
+     */
+    private void reindex(Place place) {
+        placeSpatialIndex.update(place);
+        placeSearchIndex.updateAll(Collections.singletonList(place.getId()));
+        placeInfoCache.evict(place.getId());
     }
 
     /**
@@ -272,13 +349,57 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Transactional
     @Override
-    public List<UpdatePlaceStatusDto> updateStatuses(BulkUpdatePlaceStatusDto dto) {
-        List<UpdatePlaceStatusDto> updatedPlaces = new ArrayList<>();
-        for (Long id : dto.getIds()) {
-            updatedPlaces.add(updateStatus(id, dto.getStatus()));
+    public BulkUpdatePlaceStatusResultDto updateStatuses(BulkUpdatePlaceStatusDto dto) {
+        PlaceStatus status = dto.getStatus();
+        Set<Long> requestedIds = new LinkedHashSet<>(dto.getIds());
+        log.info(LogMessage.IN_UPDATE_PLACE_STATUSES, requestedIds.size(), status);
+        BulkUpdatePlaceStatusResultDto result = new BulkUpdatePlaceStatusResultDto();
+        if (requestedIds.isEmpty()) {
+            return result;
         }
 
-        return updatedPlaces;
+        Map<Long, PlaceStatus> currentStatuses = new HashMap<>();
+        placeRepo.findAllStatusesByIdIn(requestedIds)
+            .forEach(place -> currentStatuses.put(place.getId(), place.getStatus()));
+        List<Long> updatableIds = new ArrayList<>();
+        List<Long> proposedIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            PlaceStatus current = currentStatuses.get(id);
+            if (current == null) {
+                result.getNotFound().add(id);
+            } else if (current == status) {
+                result.getUnchanged().add(id);
+            } else {
+                updatableIds.add(id);
+                result.getUpdated().add(new UpdatePlaceStatusDto(id, status));
+                if (current == PlaceStatus.PROPOSED) {
+                    proposedIds.add(id);
+                }
+            }
+        }
+        if (updatableIds.isEmpty()) {
+            return result;
+        }
+
+        placeSpatialIndex.updateAll(updatableIds);
+        placeSearchIndex.updateAll(updatableIds);
+        updatableIds.forEach(placeInfoCache::evict);
+        List<Place> proposedPlaces = proposedIds.isEmpty()
+            ? Collections.emptyList() : placeRepo.findAllWithAuthorByIdIn(proposedIds);
+        placeRepo.updateStatuses(updatableIds, status, DateTimeService.getDateTime(AppConstant.UKRAINE_TIMEZONE));
+        TransactionCallbacks.afterCommit(
+            () -> proposedPlaces.forEach(place -> emailService.sendChangePlaceStatusEmail(place, status)));
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getVersionById(Long id) {
+        return placeRepo.findVersionById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -301,13 +422,36 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Override
     public PlaceInfoDto getInfoById(Long id) {
-        Place place =
-            placeRepo
-                .findById(id)
-                .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + id));
-        PlaceInfoDto placeInfoDto = modelMapper.map(place, PlaceInfoDto.class);
-        placeInfoDto.setRate(placeRepo.getAverageRate(id));
-        return placeInfoDto;
+        return getInfoById(id, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A cache hit does not open a transaction, a miss loads the place in its own read-only transaction.
+     */
+    @Override
+    public PlaceInfoDto getInfoById(Long id, Long version) {
+        return placeInfoCache.get(id, version, placeId -> inReadOnlyTransaction(() -> {
+            Place place =
+                placeRepo
+                    .findWithInfoById(placeId)
+                    .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + placeId));
+            PlaceInfoDto placeInfoDto = modelMapper.map(place, PlaceInfoDto.class);
+            placeInfoDto.setRate(placeRepo.getAverageRate(placeId));
+            return placeInfoDto;
+        }));
+    }
+
+    /**
+     * Method runs the action in a read-only transaction, or in the current transaction if there is one.
+     *
+     * @param action - action to run.
+     * @return result of the action.
+     */
+    private <T> T inReadOnlyTransaction(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
     }
 
     /**
@@ -316,9 +460,10 @@ public class PlaceServiceImpl implements PlaceService {
      * @author Kateryna Horokh
      */
     @Override
+    @Transactional(readOnly = true)
     public PlaceUpdateDto getInfoForUpdatingById(Long id) {
         Place place = placeRepo
-            .findById(id)
+            .findForUpdatingById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.PLACE_NOT_FOUND_BY_ID + id));
         PlaceUpdateDto placeUpdateDto = modelMapper.map(place, PlaceUpdateDto.class);
         return placeUpdateDto;
@@ -331,10 +476,71 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Override
     public List<PlaceByBoundsDto> findPlacesByMapsBounds(@Valid FilterPlaceDto filterPlaceDto) {
-        List<Place> list = placeRepo.findAll(new PlaceFilter(filterPlaceDto));
-        return list.stream()
-            .map(place -> modelMapper.map(place, PlaceByBoundsDto.class))
-            .collect(Collectors.toList());
+        if (isFilteredOnlyByBounds(filterPlaceDto)) {
+            return placeSpatialIndex.findByBounds(filterPlaceDto.getMapBoundsDto());
+        }
+        return getPlacesByDistanceFromUser(filterPlaceDto, timeFilterQuery(BOUNDS_QUERY,
+            () -> placeRepo.findAllPlaceByBoundsDto(new PlaceFilter(filterPlaceDto))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPlaceByFilter(FilterPlaceDto filterDto, Consumer<PlaceByBoundsDto> consumer) {
+        if (isFilteredOnlyByBounds(filterDto)) {
+            placeSpatialIndex.findByBounds(filterDto.getMapBoundsDto()).forEach(consumer);
+        } else if (hasDistanceFromUser(filterDto)) {
+            getPlacesByFilter(filterDto).forEach(consumer);
+        } else {
+            PlaceFilter filter = new PlaceFilter(filterDto);
+            List<PlaceByBoundsDto> chunk = Collections.emptyList();
+            do {
+                Long afterId = chunk.isEmpty() ? null : chunk.get(chunk.size() - 1).getId();
+                chunk = timeFilterQuery(STREAM_QUERY, () -> inReadOnlyTransaction(() -> placeRepo
+                    .findAllPlaceByBoundsDtoAfter(filter, afterId, AppConstant.PLACE_STREAM_CHUNK_SIZE)));
+                chunk.forEach(consumer);
+            } while (chunk.size() == AppConstant.PLACE_STREAM_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlaceClustersDto getClusters(FilterClusterDto filterClusterDto) {
+        PlaceClustersDto placeClustersDto = new PlaceClustersDto();
+        if (filterClusterDto.getZoom() > AppConstant.MAX_CLUSTER_ZOOM) {
+            placeClustersDto.setPlaces(placeSpatialIndex.findByBounds(filterClusterDto.getMapBoundsDto()));
+        } else {
+            placeClustersDto.setClusters(placeSpatialIndex.findClusters(filterClusterDto.getMapBoundsDto(),
+                filterClusterDto.getZoom()));
+        }
+        return placeClustersDto;
+    }
+
+    /**
+     * Method checks whether the filter selects approved places by map bounds only,
+     * so it can be answered by {@link PlaceSpatialIndex}.
+     *
+     * @param filterPlaceDto - {@link FilterPlaceDto} DTO.
+     * @return true if only map bounds and approved status are set.
+     */
+    private boolean isFilteredOnlyByBounds(FilterPlaceDto filterPlaceDto) {
+        return filterPlaceDto.getMapBoundsDto() != null
+            && (filterPlaceDto.getStatus() == null || filterPlaceDto.getStatus() == APPROVED_STATUS)
+            && filterPlaceDto.getDiscountDto() == null
+            && filterPlaceDto.getTime() == null
+            && filterPlaceDto.getDistanceFromUserDto() == null
+            && filterPlaceDto.getSearchReg() == null;
+    }
+
+    private boolean hasDistanceFromUser(FilterPlaceDto filterDto) {
+        FilterDistanceDto distanceFromUserDto = filterDto.getDistanceFromUserDto();
+        return distanceFromUserDto != null
+            && distanceFromUserDto.getLat() != null
+            && distanceFromUserDto.getLng() != null
+            && distanceFromUserDto.getDistance() != null;
     }
 
     private List<Long> getPlaceBoundsId(List<PlaceByBoundsDto> listB) {
@@ -372,43 +578,46 @@ public class PlaceServiceImpl implements PlaceService {
      */
     @Override
     public List<PlaceByBoundsDto> getPlacesByFilter(FilterPlaceDto filterDto) {
-        List<Place> list = placeRepo.findAll(new PlaceFilter(filterDto));
-        list = getPlacesByDistanceFromUser(filterDto, list);
-        return list.stream()
-            .map(place -> modelMapper.map(place, PlaceByBoundsDto.class))
-            .collect(Collectors.toList());
+        return getPlacesByDistanceFromUser(filterDto,
+            timeFilterQuery(BOUNDS_QUERY, () -> placeRepo.findAllPlaceByBoundsDto(new PlaceFilter(filterDto))));
     }
 
     /**
-     * Method that filtering places by distance.
+     * Method that filtering places by distance and sorts them from the nearest one.
+     * Places are already pre-filtered by the bounding box in {@link PlaceFilter},
+     * so exact distance is calculated only for places near the user.
      *
      * @param filterDto - {@link FilterPlaceDto} DTO.
-     * @param placeList - {@link List} of {@link Place} that will be filtered.
-     * @return {@link List} of {@link Place} - list of filtered {@link Place}s.
+     * @param placeList - {@link List} of {@link PlaceByBoundsDto} that will be filtered.
+     * @return {@link List} of {@link PlaceByBoundsDto} - list of filtered places sorted by distance.
      * @author Nazar Stasyuk
      */
-    private List<Place> getPlacesByDistanceFromUser(FilterPlaceDto filterDto, List<Place> placeList) {
+    private List<PlaceByBoundsDto> getPlacesByDistanceFromUser(FilterPlaceDto filterDto,
+                                                               List<PlaceByBoundsDto> placeList) {
+        if (!hasDistanceFromUser(filterDto)) {
+            return placeList;
+        }
         FilterDistanceDto distanceFromUserDto = filterDto.getDistanceFromUserDto();
-        if (distanceFromUserDto != null
-            && distanceFromUserDto.getLat() != null
-            && distanceFromUserDto.getLng() != null
-            && distanceFromUserDto.getDistance() != null) {
-            placeList = placeList.stream().filter(place -> {
-                double userLatRad = Math.toRadians(distanceFromUserDto.getLat());
-                double userLngRad = Math.toRadians(distanceFromUserDto.getLng());
-                double placeLatRad = Math.toRadians(place.getLocation().getLat());
-                double placeLngRad = Math.toRadians(place.getLocation().getLng());
-
-                double distance = CONSTANT_OF_FORMULA_HAVERSINE_KM * Math.acos(
-                    Math.cos(userLatRad)
-                        * Math.cos(placeLatRad)
-                        * Math.cos(placeLngRad - userLngRad)
-                        + Math.sin(userLatRad)
-                        * Math.sin(placeLatRad));
-                return distance <= distanceFromUserDto.getDistance();
-            }).collect(Collectors.toList());
+        double userLat = distanceFromUserDto.getLat();
+        double userLng = distanceFromUserDto.getLng();
+        double maxDistance = distanceFromUserDto.getDistance();
+        double[] distances = new double[placeList.size()];
+        Integer[] indexes = new Integer[placeList.size()];
+        int count = 0;
+        for (int i = 0; i < placeList.size(); i++) {
+            LocationDto location = placeList.get(i).getLocation();
+            double distance = GeoUtils.distanceInKm(userLat, userLng, location.getLat(), location.getLng());
+            if (distance <= maxDistance) {
+                distances[i] = distance;
+                indexes[count++] = i;
+            }
         }
-        return placeList;
+        Arrays.sort(indexes, 0, count, Comparator.comparingDouble(i -> distances[i]));
+        List<PlaceByBoundsDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(placeList.get(indexes[i]));
+        }
+        return result;
     }
 
     /**
@@ -417,11 +626,26 @@ public class PlaceServiceImpl implements PlaceService {
      * @author Rostyslav Khasanov
      */
     @Override
+    @Transactional(readOnly = true)
     public PageableDto<AdminPlaceDto> filterPlaceBySearchPredicate(FilterPlaceDto filterDto, Pageable pageable) {
-        Page<Place> list = placeRepo.findAll(new PlaceFilter(filterDto), pageable);
+        Optional<Page<Long>> foundIds = isFilteredOnlyBySearch(filterDto)
+            ? placeSearchIndex.search(filterDto.getSearchReg(), filterDto.getStatus(), pageable)
+            : Optional.empty();
+        if (foundIds.isPresent()) {
+            Page<Long> ids = foundIds.get();
+            Map<Long, Place> places = new HashMap<>();
+            placeRepo.findAllByIdIn(ids.getContent()).forEach(place -> places.put(place.getId(), place));
+            List<AdminPlaceDto> adminPlaceDtos = ids.getContent().stream()
+                .map(places::get)
+                .filter(Objects::nonNull)
+                .map(adminPlaceDtoMapper::convertToDto)
+                .collect(Collectors.toList());
+            return new PageableDto<>(adminPlaceDtos, ids.getTotalElements(), ids.getPageable().getPageNumber());
+        }
+        Page<Place> list = timeFilterQuery(PAGE_QUERY, () -> placeRepo.findAll(new PlaceFilter(filterDto), pageable));
         List<AdminPlaceDto> adminPlaceDtos =
             list.getContent().stream()
-                .map(user -> modelMapper.map(user, AdminPlaceDto.class))
+                .map(adminPlaceDtoMapper::convertToDto)
                 .collect(Collectors.toList());
         return new PageableDto<AdminPlaceDto>(
             adminPlaceDtos,
@@ -429,6 +653,72 @@ public class PlaceServiceImpl implements PlaceService {
             list.getPageable().getPageNumber());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<AdminPlaceDto> filterPlaceBySearchPredicate(FilterPlaceDto filterDto, KeysetCursor cursor,
+                                                                     int size, boolean withTotal) {
+        Long total = withTotal ? timeFilterQuery(COUNT_QUERY, () -> placeRepo.count(new PlaceFilter(filterDto))) : null;
+        return findPageAfter(new PlaceFilter(filterDto), cursor, size, total);
+    }
+
+    /**
+     * Method selects one place more than the page size to know whether there is a next page,
+     * so neither offset nor count query is needed.
+     *
+     * @param filter - {@link PlaceFilter} of places.
+     * @param cursor - position of the last place of the previous page, {@code null} for the first page.
+     * @param size   - max count of places in the page.
+     * @param total  - count of all places or {@code null}.
+     * @return {@link CursorPageDto} of {@link AdminPlaceDto}.
+     */
+    private CursorPageDto<AdminPlaceDto> findPageAfter(PlaceFilter filter, KeysetCursor cursor, int size,
+                                                       Long total) {
+        int limit = Math.max(1, Math.min(size, AppConstant.MAX_PAGE_SIZE));
+        List<Place> places = timeFilterQuery(KEYSET_QUERY, () -> placeRepo.findAll(
+            filter.and(new KeysetFilter<>(KEYSET_DATE_ATTRIBUTE, cursor)),
+            KeysetFilter.sort(KEYSET_DATE_ATTRIBUTE), limit + 1));
+        String nextCursor = null;
+        if (places.size() > limit) {
+            places = places.subList(0, limit);
+            Place last = places.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getModifiedDate(), last.getId()).encode();
+        }
+        List<AdminPlaceDto> adminPlaceDtos = places.stream()
+            .map(adminPlaceDtoMapper::convertToDto)
+            .collect(Collectors.toList());
+        return new CursorPageDto<>(adminPlaceDtos, nextCursor, total);
+    }
+
+    /**
+     * Method records time of the query by {@link PlaceFilter} to the timer tagged by the kind of the query.
+     *
+     * @param query    - kind of the query.
+     * @param supplier - runs the query.
+     * @return result of the query.
+     */
+    private <T> T timeFilterQuery(String query, Supplier<T> supplier) {
+        return meterRegistry.timer(AppConstant.METRIC_PLACE_FILTER_QUERY, AppConstant.METRIC_TAG_QUERY, query)
+            .record(supplier);
+    }
+
+    /**
+     * Method checks whether the filter selects places by search string and status only,
+     * so it can be answered by {@link PlaceSearchIndex}.
+     *
+     * @param filterDto - {@link FilterPlaceDto} DTO.
+     * @return true if only search string and status are set.
+     */
+    private boolean isFilteredOnlyBySearch(FilterPlaceDto filterDto) {
+        return filterDto.getSearchReg() != null
+            && filterDto.getMapBoundsDto() == null
+            && filterDto.getDiscountDto() == null
+            && filterDto.getTime() == null
+            && filterDto.getDistanceFromUserDto() == null;
+    }
+
     /**
      * {@inheritDoc}
      *
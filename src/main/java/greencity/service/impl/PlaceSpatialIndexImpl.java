@@ -0,0 +1,412 @@
+package greencity.service.impl;
+
+import greencity.constant.AppConstant;
+import greencity.constant.LogMessage;
+import greencity.dto.location.LocationDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.entity.Location;
+import greencity.entity.Place;
+import greencity.entity.enums.PlaceStatus;
+import greencity.repository.PlaceRepo;
+import greencity.service.PlaceSpatialIndex;
+import greencity.util.GeoUtils;
+import greencity.util.PeriodicTask;
+import greencity.util.TransactionCallbacks;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * The class provides implementation of the {@code PlaceSpatialIndex} as a uniform lat/lng grid.
+ * Every cell keeps places which locations fall into it, so a bounds query only visits cells
+ * overlapped by the bounds instead of scanning all places.
+ * For clustering the index also keeps a pyramid of Web Mercator grids, one per zoom level, where a cell is
+ * a quarter of a map tile side and holds only count and coordinate sums of its places. A cell of a level
+ * is split into four cells of the next level, so every change of a place updates one cell per level.
+ * The index is rebuilt periodically, so places changed by other instances or directly in the database
+ * are picked up after the rebuild delay.
+ */
+@Slf4j
+@Service
+public class PlaceSpatialIndexImpl implements PlaceSpatialIndex {
+    private static final double CELL_SIZE_DEGREES = 0.05;
+    private static final long COLUMNS = (long) Math.ceil(360 / CELL_SIZE_DEGREES) + 1;
+    private static final int CLUSTER_CELLS_PER_TILE_SHIFT = 2;
+    private final PlaceRepo placeRepo;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new HashMap<>();
+    private final List<Map<Long, Cluster>> clusterLevels = new ArrayList<>();
+    private final PeriodicTask rebuildTask = new PeriodicTask("place-spatial-index-");
+    private Set<Long> changedWhileRebuilding;
+
+    @Value("${placeSpatialIndexRebuildDelayInMillis:600000}")
+    private long rebuildDelayMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param placeRepo - {@link PlaceRepo} used to load places on rebuild.
+     */
+    public PlaceSpatialIndexImpl(PlaceRepo placeRepo) {
+        this.placeRepo = placeRepo;
+        for (int zoom = 0; zoom <= AppConstant.MAX_CLUSTER_ZOOM; zoom++) {
+            clusterLevels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Builds the index when the application is ready and starts rebuilding it periodically on its own thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        rebuildTask.start(this::rebuild, rebuildDelayMillis);
+    }
+
+    /**
+     * Stops rebuilding the index.
+     */
+    @PreDestroy
+    public void stop() {
+        rebuildTask.stop();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Places changed while the index was being loaded are reloaded after the rebuild,
+     * as the loaded data may miss their changes.
+     */
+    @Override
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Entry> loaded = null;
+        Set<Long> changed;
+        try {
+            loaded = entriesOf(placeRepo.findAllPlaceByBoundsDtoByStatus(PlaceStatus.APPROVED));
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded != null) {
+                    entries.clear();
+                    cells.clear();
+                    clusterLevels.forEach(Map::clear);
+                    loaded.forEach(this::put);
+                }
+                changed = changedWhileRebuilding;
+                changedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (!changed.isEmpty()) {
+            reload(new ArrayList<>(changed));
+        }
+        log.info(LogMessage.IN_REBUILD_PLACE_SPATIAL_INDEX, loaded.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Place place) {
+        Long placeId = place.getId();
+        Entry entry = place.getStatus() == PlaceStatus.APPROVED ? Entry.of(place) : null;
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(placeId);
+                if (entry != null) {
+                    put(entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAll(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(placeIds);
+        TransactionCallbacks.afterCommit(() -> reload(ids));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long placeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(placeId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PlaceByBoundsDto> findByBounds(MapBoundsDto bounds) {
+        double southWestLat = bounds.getSouthWestLat();
+        double southWestLng = bounds.getSouthWestLng();
+        double northEastLat = bounds.getNorthEastLat();
+        double northEastLng = bounds.getNorthEastLng();
+        List<Entry> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            long fromRow = row(southWestLat);
+            long toRow = row(northEastLat);
+            long fromColumn = column(southWestLng);
+            long toColumn = column(northEastLng);
+            long cellCount = Math.max(0, toRow - fromRow + 1) * Math.max(0, toColumn - fromColumn + 1);
+            if (cellCount > cells.size()) {
+                collect(entries.values(), southWestLat, southWestLng, northEastLat, northEastLng, found);
+            } else {
+                for (long row = fromRow; row <= toRow; row++) {
+                    for (long column = fromColumn; column <= toColumn; column++) {
+                        Map<Long, Entry> cell = cells.get(row * COLUMNS + column);
+                        if (cell != null) {
+                            collect(cell.values(), southWestLat, southWestLng, northEastLat, northEastLng, found);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort(Comparator.comparingLong(entry -> entry.placeId));
+        List<PlaceByBoundsDto> result = new ArrayList<>(found.size());
+        found.forEach(entry -> result.add(entry.toDto()));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PlaceClusterDto> findClusters(MapBoundsDto bounds, int zoom) {
+        int level = Math.max(0, Math.min(zoom, AppConstant.MAX_CLUSTER_ZOOM));
+        long side = clusterSide(level);
+        long fromRow = clusterCell(GeoUtils.mercatorY(bounds.getNorthEastLat()), side);
+        long toRow = clusterCell(GeoUtils.mercatorY(bounds.getSouthWestLat()), side);
+        long fromColumn = clusterCell(GeoUtils.mercatorX(bounds.getSouthWestLng()), side);
+        long toColumn = clusterCell(GeoUtils.mercatorX(bounds.getNorthEastLng()), side);
+        SortedMap<Long, PlaceClusterDto> found = new TreeMap<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cluster> clusters = clusterLevels.get(level);
+            long cellCount = Math.max(0, toRow - fromRow + 1) * Math.max(0, toColumn - fromColumn + 1);
+            if (cellCount > clusters.size()) {
+                clusters.forEach((key, cluster) -> {
+                    long row = key / side;
+                    long column = key % side;
+                    if (row >= fromRow && row <= toRow && column >= fromColumn && column <= toColumn) {
+                        found.put(key, cluster.toDto());
+                    }
+                });
+            } else {
+                for (long row = fromRow; row <= toRow; row++) {
+                    for (long column = fromColumn; column <= toColumn; column++) {
+                        Cluster cluster = clusters.get(row * side + column);
+                        if (cluster != null) {
+                            found.put(row * side + column, cluster.toDto());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Collection<Entry> candidates, double southWestLat, double southWestLng,
+                         double northEastLat, double northEastLng, List<Entry> found) {
+        for (Entry entry : candidates) {
+            if (entry.lat >= southWestLat && entry.lat <= northEastLat
+                && entry.lng >= southWestLng && entry.lng <= northEastLng) {
+                found.add(entry);
+            }
+        }
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.placeId, entry);
+        cells.computeIfAbsent(entry.cell, cell -> new HashMap<>()).put(entry.placeId, entry);
+        for (int level = 0; level < clusterLevels.size(); level++) {
+            clusterLevels.get(level).computeIfAbsent(entry.clusterKey(level), key -> new Cluster()).add(entry, 1);
+        }
+    }
+
+    private void reload(List<Long> ids) {
+        List<Entry> loaded = entriesOf(placeRepo.findAllPlaceByBoundsDtoByIdInAndStatus(ids, PlaceStatus.APPROVED));
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::delete);
+            loaded.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Long placeId) {
+        if (changedWhileRebuilding != null) {
+            changedWhileRebuilding.add(placeId);
+        }
+        Entry entry = entries.remove(placeId);
+        if (entry == null) {
+            return;
+        }
+        Map<Long, Entry> cell = cells.get(entry.cell);
+        cell.remove(placeId);
+        if (cell.isEmpty()) {
+            cells.remove(entry.cell);
+        }
+        for (int level = 0; level < clusterLevels.size(); level++) {
+            long key = entry.clusterKey(level);
+            Map<Long, Cluster> clusters = clusterLevels.get(level);
+            Cluster cluster = clusters.get(key);
+            cluster.add(entry, -1);
+            if (cluster.count == 0) {
+                clusters.remove(key);
+            }
+        }
+    }
+
+    private static List<Entry> entriesOf(List<PlaceByBoundsDto> places) {
+        List<Entry> loaded = new ArrayList<>(places.size());
+        for (PlaceByBoundsDto place : places) {
+            Entry entry = Entry.of(place);
+            if (entry != null) {
+                loaded.add(entry);
+            }
+        }
+        return loaded;
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90) / CELL_SIZE_DEGREES);
+    }
+
+    private static long column(double lng) {
+        return (long) Math.floor((lng + 180) / CELL_SIZE_DEGREES);
+    }
+
+    private static long clusterSide(int level) {
+        return 1L << (level + CLUSTER_CELLS_PER_TILE_SHIFT);
+    }
+
+    private static long clusterCell(double mercator, long side) {
+        return Math.min(side - 1, (long) (mercator * side));
+    }
+
+    /**
+     * Immutable snapshot of the indexed place data.
+     */
+    private static final class Entry {
+        private final long placeId;
+        private final String name;
+        private final Long locationId;
+        private final double lat;
+        private final double lng;
+        private final String address;
+        private final long cell;
+        private final double mercatorX;
+        private final double mercatorY;
+
+        private Entry(long placeId, String name, Long locationId, double lat, double lng, String address) {
+            this.placeId = placeId;
+            this.name = name;
+            this.locationId = locationId;
+            this.lat = lat;
+            this.lng = lng;
+            this.address = address;
+            this.cell = row(lat) * COLUMNS + column(lng);
+            this.mercatorX = GeoUtils.mercatorX(lng);
+            this.mercatorY = GeoUtils.mercatorY(lat);
+        }
+
+        private long clusterKey(int level) {
+            long side = clusterSide(level);
+            return clusterCell(mercatorY, side) * side + clusterCell(mercatorX, side);
+        }
+
+        private static Entry of(Place place) {
+            Location location = place.getLocation();
+            if (place.getId() == null || location == null || location.getLat() == null
+                || location.getLng() == null) {
+                return null;
+            }
+            return new Entry(place.getId(), place.getName(), location.getId(),
+                location.getLat(), location.getLng(), location.getAddress());
+        }
+
+        private static Entry of(PlaceByBoundsDto place) {
+            LocationDto location = place.getLocation();
+            if (location == null || location.getLat() == null || location.getLng() == null) {
+                return null;
+            }
+            return new Entry(place.getId(), place.getName(), location.getId(),
+                location.getLat(), location.getLng(), location.getAddress());
+        }
+
+        private PlaceByBoundsDto toDto() {
+            return new PlaceByBoundsDto(placeId, name, new LocationDto(locationId, lat, lng, address));
+        }
+    }
+
+    /**
+     * Count and coordinate sums of places in a cell of a zoom level.
+     */
+    private static final class Cluster {
+        private int count;
+        private double latSum;
+        private double lngSum;
+
+        private void add(Entry entry, int sign) {
+            count += sign;
+            latSum += sign * entry.lat;
+            lngSum += sign * entry.lng;
+        }
+
+        private PlaceClusterDto toDto() {
+            return new PlaceClusterDto(latSum / count, lngSum / count, count);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package greencity.service.impl;
+
+import greencity.constant.ErrorMessage;
+import greencity.constant.LogMessage;
+import greencity.entity.Place;
+import greencity.entity.Rate;
+import greencity.exception.NotFoundException;
+import greencity.repository.PlaceRepo;
+import greencity.repository.RateRepo;
+import greencity.service.PlaceInfoCache;
+import greencity.service.RateService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service implementation for Rate entity. Rating aggregates of the place are changed by one atomic update
+ * in the same transaction as the rate, so they never need to be recomputed from the {@code Rate} table.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class RateServiceImpl implements RateService {
+    private RateRepo rateRepo;
+    private PlaceRepo placeRepo;
+    private PlaceInfoCache placeInfoCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Rate save(Rate rate) {
+        log.info(LogMessage.IN_SAVE, rate);
+        Rate saved = rateRepo.save(rate);
+        updateRating(saved.getPlace(), 1, saved.getRate());
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Rate update(Long id, Byte value) {
+        log.info(LogMessage.IN_UPDATE, id);
+        Rate rate = findByIdForUpdate(id);
+        int delta = value - rate.getRate();
+        rate.setRate(value);
+        Rate updated = rateRepo.save(rate);
+        updateRating(updated.getPlace(), 0, delta);
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        log.info(LogMessage.IN_DELETE_BY_ID, id);
+        Rate rate = findByIdForUpdate(id);
+        rateRepo.delete(rate);
+        updateRating(rate.getPlace(), -1, -rate.getRate());
+    }
+
+    private Rate findByIdForUpdate(Long id) {
+        return rateRepo.findByIdForUpdate(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.RATE_NOT_FOUND_BY_ID + id));
+    }
+
+    private void updateRating(Place place, int countDelta, long sumDelta) {
+        if (place == null || place.getId() == null) {
+            return;
+        }
+        placeRepo.updateRating(place.getId(), countDelta, sumDelta);
+        placeInfoCache.evict(place.getId());
+    }
+}
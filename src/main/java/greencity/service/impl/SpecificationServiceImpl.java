@@ -1,17 +1,28 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
+import greencity.dto.ETaggedListDto;
 import greencity.dto.specification.SpecificationNameDto;
 import greencity.entity.Specification;
 import greencity.exception.NotFoundException;
+import greencity.mapping.SpecificationNameDtoMapper;
 import greencity.repository.SpecificationRepo;
 import greencity.service.SpecificationService;
+import greencity.util.ETagUtils;
+import greencity.util.ReferenceDataCache;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,7 +33,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class SpecificationServiceImpl implements SpecificationService {
     private SpecificationRepo specificationRepo;
-    private ModelMapper modelMapper;
+    private SpecificationNameDtoMapper specificationNameDtoMapper;
+    private final ReferenceDataCache<Specifications> specifications =
+        new ReferenceDataCache<>(this::loadSpecifications, AppConstant.REFERENCE_DATA_TIME_TO_LIVE_SECONDS);
 
     /**
      * {@inheritDoc}
@@ -33,7 +46,9 @@ public class SpecificationServiceImpl implements SpecificationService {
     public Specification save(Specification specification) {
         log.info(LogMessage.IN_SAVE, specification);
 
-        return specificationRepo.save(specification);
+        Specification saved = specificationRepo.save(specification);
+        specifications.invalidate();
+        return saved;
     }
 
     /**
@@ -73,6 +88,7 @@ public class SpecificationServiceImpl implements SpecificationService {
         log.info(LogMessage.IN_DELETE_BY_ID, id);
 
         specificationRepo.delete(findById(id));
+        specifications.invalidate();
         return id;
     }
 
@@ -83,7 +99,54 @@ public class SpecificationServiceImpl implements SpecificationService {
      */
     @Override
     public Specification findByName(String name) {
-        return specificationRepo.findByName(name);
+        Long id = specifications.get().idsByName.get(name);
+        if (id != null) {
+            Optional<Specification> cached = specificationRepo.findById(id)
+                .filter(specification -> name.equals(specification.getName()));
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        Specification specification = specificationRepo.findByName(name);
+        if (id != null || specification != null) {
+            specifications.invalidate();
+        }
+        return specification;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Specification> findAllByNames(Collection<String> names) {
+        Map<String, Long> idsByName = specifications.get().idsByName;
+        Map<Long, String> cachedNamesById = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                cachedNamesById.put(id, name);
+            } else {
+                missing.add(name);
+            }
+        }
+        Map<String, Specification> found = new HashMap<>();
+        if (!cachedNamesById.isEmpty()) {
+            specificationRepo.findAllById(cachedNamesById.keySet()).stream()
+                .filter(specification -> specification.getName().equals(cachedNamesById.get(specification.getId())))
+                .forEach(specification -> found.put(specification.getName(), specification));
+        }
+        boolean stale = found.size() < cachedNamesById.size();
+        cachedNamesById.values().stream().filter(name -> !found.containsKey(name)).forEach(missing::add);
+        if (!missing.isEmpty()) {
+            List<Specification> selected = specificationRepo.findAllByNameIn(missing);
+            selected.forEach(specification -> found.put(specification.getName(), specification));
+            stale = stale || !selected.isEmpty();
+        }
+        if (stale) {
+            specifications.invalidate();
+        }
+        return found;
     }
 
     /**
@@ -92,10 +155,35 @@ public class SpecificationServiceImpl implements SpecificationService {
      * @author Kateryna Horokh
      */
     @Override
-    public List<SpecificationNameDto> findAllSpecificationDto() {
-        List<Specification> specifications = findAll();
-        return specifications.stream()
-            .map(specification -> modelMapper.map(specification, SpecificationNameDto.class))
+    public ETaggedListDto<SpecificationNameDto> findAllSpecificationDto() {
+        Specifications current = specifications.get();
+        return new ETaggedListDto<>(current.dtos, current.entityTag);
+    }
+
+    private Specifications loadSpecifications() {
+        List<Specification> all = findAll();
+        Map<String, Long> idsByName = new HashMap<>();
+        all.forEach(specification -> idsByName.put(specification.getName(), specification.getId()));
+        List<SpecificationNameDto> dtos = all.stream()
+            .map(specificationNameDtoMapper::convertToDto)
             .collect(Collectors.toList());
+        return new Specifications(Collections.unmodifiableList(dtos), ETagUtils.ofContent(dtos), idsByName);
+    }
+
+    /**
+     * Cached specifications as dto's with their entity tag and ids of specifications by name. A cached id
+     * is always loaded by primary key, so a specification deleted meanwhile is not returned as an unchecked
+     * reference.
+     */
+    private static final class Specifications {
+        private final List<SpecificationNameDto> dtos;
+        private final String entityTag;
+        private final Map<String, Long> idsByName;
+
+        private Specifications(List<SpecificationNameDto> dtos, String entityTag, Map<String, Long> idsByName) {
+            this.dtos = dtos;
+            this.entityTag = entityTag;
+            this.idsByName = idsByName;
+        }
     }
 }
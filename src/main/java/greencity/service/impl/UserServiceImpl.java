@@ -1,7 +1,9 @@
 package greencity.service.impl;
 
+import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.filter.FilterUserDto;
 import greencity.dto.user.RoleDto;
@@ -12,9 +14,14 @@ import greencity.entity.User;
 import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
 import greencity.exception.*;
+import greencity.mapping.UserForListDtoMapper;
 import greencity.repository.UserRepo;
+import greencity.repository.options.KeysetFilter;
 import greencity.repository.options.UserFilter;
+import greencity.security.jwt.JwtAuthenticationCache;
+import greencity.service.LastVisitTracker;
 import greencity.service.UserService;
+import greencity.util.KeysetCursor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 /**
@@ -33,6 +41,8 @@ import org.springframework.stereotype.Service;
 @Service
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final String KEYSET_DATE_ATTRIBUTE = "dateOfRegistration";
+
     /**
      * Autowired repository.
      */
@@ -43,6 +53,21 @@ public class UserServiceImpl implements UserService {
      */
     private ModelMapper modelMapper;
 
+    /**
+     * Autowired mapper for user lists.
+     */
+    private UserForListDtoMapper userForListDtoMapper;
+
+    /**
+     * Autowired cache of authenticated tokens.
+     */
+    private JwtAuthenticationCache authenticationCache;
+
+    /**
+     * Autowired accumulator of last visits.
+     */
+    private LastVisitTracker lastVisitTracker;
+
     /**
      * {@inheritDoc}
      */
@@ -71,7 +96,7 @@ public class UserServiceImpl implements UserService {
         Page<User> users = repo.findAll(pageable);
         List<UserForListDto> userForListDtos =
             users.getContent().stream()
-                .map(user -> modelMapper.map(user, UserForListDto.class))
+                .map(userForListDtoMapper::convertToDto)
                 .collect(Collectors.toList());
         return new PageableDto<UserForListDto>(
             userForListDtos,
@@ -79,6 +104,15 @@ public class UserServiceImpl implements UserService {
             users.getPageable().getPageNumber());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<UserForListDto> findByPage(KeysetCursor cursor, int size, boolean withTotal) {
+        Long total = withTotal ? repo.count() : null;
+        return findPageAfter(new KeysetFilter<>(KEYSET_DATE_ATTRIBUTE, cursor), size, total);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -86,6 +120,7 @@ public class UserServiceImpl implements UserService {
     public void deleteById(Long id) {
         User user = findById(id);
         repo.delete(user);
+        authenticationCache.evictByUserId(id);
     }
 
     /**
@@ -116,7 +151,9 @@ public class UserServiceImpl implements UserService {
         checkUpdatableUser(id, email);
         User user = findById(id);
         user.setRole(role);
-        return modelMapper.map(repo.save(user), UserRoleDto.class);
+        UserRoleDto updated = modelMapper.map(repo.save(user), UserRoleDto.class);
+        authenticationCache.evictByUserId(id);
+        return updated;
     }
 
     /**
@@ -128,7 +165,9 @@ public class UserServiceImpl implements UserService {
         accessForUpdateUserStatus(id, email);
         User user = findById(id);
         user.setUserStatus(userStatus);
-        return modelMapper.map(repo.save(user), UserStatusDto.class);
+        UserStatusDto updated = modelMapper.map(repo.save(user), UserStatusDto.class);
+        authenticationCache.evictByUserId(id);
+        return updated;
     }
 
     /**
@@ -144,10 +183,9 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User updateLastVisit(User user) {
-        User updatable = findById(user.getId());
-        log.info(updatable.getLastVisit() + "s");
-        updatable.setLastVisit(LocalDateTime.now());
-        return repo.save(updatable);
+        lastVisitTracker.recordVisit(user.getId());
+        user.setLastVisit(LocalDateTime.now());
+        return user;
     }
 
     /**
@@ -157,7 +195,7 @@ public class UserServiceImpl implements UserService {
         Page<User> users = repo.findAll(new UserFilter(filterUserDto), pageable);
         List<UserForListDto> userForListDtos =
             users.getContent().stream()
-                .map(user -> modelMapper.map(user, UserForListDto.class))
+                .map(userForListDtoMapper::convertToDto)
                 .collect(Collectors.toList());
         return new PageableDto<UserForListDto>(
             userForListDtos,
@@ -165,6 +203,41 @@ public class UserServiceImpl implements UserService {
             users.getPageable().getPageNumber());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<UserForListDto> getUsersByFilter(FilterUserDto filterUserDto, KeysetCursor cursor,
+                                                          int size, boolean withTotal) {
+        Long total = withTotal ? repo.count(new UserFilter(filterUserDto)) : null;
+        return findPageAfter(new UserFilter(filterUserDto).and(new KeysetFilter<>(KEYSET_DATE_ATTRIBUTE, cursor)),
+            size, total);
+    }
+
+    /**
+     * Method selects one user more than the page size to know whether there is a next page,
+     * so neither offset nor count query is needed.
+     *
+     * @param specification specification of users which go after the cursor.
+     * @param size          max count of users in the page.
+     * @param total         count of all users or {@code null}.
+     * @return {@link CursorPageDto} of {@link UserForListDto}.
+     */
+    private CursorPageDto<UserForListDto> findPageAfter(Specification<User> specification, int size, Long total) {
+        int limit = Math.max(1, Math.min(size, AppConstant.MAX_PAGE_SIZE));
+        List<User> users = repo.findAll(specification, KeysetFilter.sort(KEYSET_DATE_ATTRIBUTE), limit + 1);
+        String nextCursor = null;
+        if (users.size() > limit) {
+            users = users.subList(0, limit);
+            User last = users.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getDateOfRegistration(), last.getId()).encode();
+        }
+        List<UserForListDto> userForListDtos = users.stream()
+            .map(userForListDtoMapper::convertToDto)
+            .collect(Collectors.toList());
+        return new CursorPageDto<>(userForListDtos, nextCursor, total);
+    }
+
     /**
      * Method which check that, if admin/moderator update role/status of himself, then throw exception.
      *
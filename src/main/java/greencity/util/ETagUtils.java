@@ -0,0 +1,69 @@
+package greencity.util;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Entity tags of HTTP responses. A tag of an entity is made of its version, it changes with every change
+ * of the entity, so the entity does not have to be loaded to check it. A tag of a list is a hash of its content,
+ * it is made once when the list is cached. Weak tags are accepted as well, as proxies compressing responses
+ * make tags weak.
+ */
+public final class ETagUtils {
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final char QUOTE = '"';
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Makes entity tag of the version.
+     *
+     * @param version - version of the entity.
+     * @return quoted version.
+     */
+    public static String ofVersion(Long version) {
+        return QUOTE + String.valueOf(version) + QUOTE;
+    }
+
+    /**
+     * Makes a strong entity tag of the content of dto's. The dto's must have {@code toString()} which
+     * includes all their fields, e.g. generated by Lombok.
+     *
+     * @param dtos - response body.
+     * @return quoted hash of the content.
+     */
+    public static String ofContent(Iterable<?> dtos) {
+        StringBuilder content = new StringBuilder();
+        dtos.forEach(dto -> content.append(dto).append('\n'));
+        return QUOTE + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + QUOTE;
+    }
+
+    /**
+     * Parses version of the {@code If-Match} header made by {@link #ofVersion(Long)}.
+     *
+     * @param ifMatch - value of the header, may be {@code null}.
+     * @return version or {@code null} if the header is absent or matches any version.
+     * @throws BadRequestException if the header is not a single entity tag of a version.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().isEmpty() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 2 || tag.charAt(0) != QUOTE || tag.charAt(tag.length() - 1) != QUOTE) {
+            throw new BadRequestException(ErrorMessage.BAD_ENTITY_TAG + ifMatch);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorMessage.BAD_ENTITY_TAG + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package greencity.util;
+
+import static greencity.constant.AppConstant.CONSTANT_OF_FORMULA_HAVERSINE_KM;
+
+public final class GeoUtils {
+    private static final double MAX_LATITUDE = 90;
+    private static final double MAX_LONGITUDE = 180;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Calculates great-circle distance between two points by the haversine formula.
+     *
+     * @param lat1 - latitude of the first point in degrees.
+     * @param lng1 - longitude of the first point in degrees.
+     * @param lat2 - latitude of the second point in degrees.
+     * @param lng2 - longitude of the second point in degrees.
+     * @return distance in kilometers.
+     */
+    public static double distanceInKm(double lat1, double lng1, double lat2, double lng2) {
+        double sinHalfLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinHalfLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        double a = sinHalfLat * sinHalfLat
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinHalfLng * sinHalfLng;
+        return 2 * CONSTANT_OF_FORMULA_HAVERSINE_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Calculates latitude half-size in degrees of the box containing a circle with the given radius.
+     *
+     * @param distance - circle radius in kilometers.
+     * @return latitude delta in degrees.
+     */
+    public static double latitudeDelta(double distance) {
+        return Math.toDegrees(distance / CONSTANT_OF_FORMULA_HAVERSINE_KM);
+    }
+
+    /**
+     * Calculates longitude half-size in degrees of the box containing a circle with the given radius.
+     * Returns {@link Double#NaN} when the circle reaches a pole or crosses the antimeridian,
+     * then the box can not be restricted by longitude.
+     *
+     * @param lat      - latitude of the circle center in degrees.
+     * @param lng      - longitude of the circle center in degrees.
+     * @param distance - circle radius in kilometers.
+     * @return longitude delta in degrees or {@link Double#NaN}.
+     */
+    public static double longitudeDelta(double lat, double lng, double distance) {
+        double latDelta = latitudeDelta(distance);
+        if (Math.abs(lat) + latDelta >= MAX_LATITUDE) {
+            return Double.NaN;
+        }
+        double sinDelta = Math.sin(distance / CONSTANT_OF_FORMULA_HAVERSINE_KM) / Math.cos(Math.toRadians(lat));
+        double lngDelta = sinDelta >= 1 ? MAX_LONGITUDE : Math.toDegrees(Math.asin(sinDelta));
+        if (lng - lngDelta < -MAX_LONGITUDE || lng + lngDelta > MAX_LONGITUDE) {
+            return Double.NaN;
+        }
+        return lngDelta;
+    }
+
+    /**
+     * Projects longitude to the Web Mercator x coordinate used by map tiles.
+     *
+     * @param lng - longitude in degrees.
+     * @return x from 0 at the west edge of the map to 1 at the east edge.
+     */
+    public static double mercatorX(double lng) {
+        return Math.min(1, Math.max(0, (lng + MAX_LONGITUDE) / (2 * MAX_LONGITUDE)));
+    }
+
+    /**
+     * Projects latitude to the Web Mercator y coordinate used by map tiles.
+     * Latitudes beyond the square map are clamped to its edges.
+     *
+     * @param lat - latitude in degrees.
+     * @return y from 0 at the north edge of the map to 1 at the south edge.
+     */
+    public static double mercatorY(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.min(MAX_MERCATOR_LATITUDE, Math.max(-MAX_MERCATOR_LATITUDE, lat))));
+        return Math.min(1, Math.max(0, 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)));
+    }
+}
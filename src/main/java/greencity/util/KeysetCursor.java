@@ -0,0 +1,68 @@
+package greencity.util;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Position in a list ordered by date and id descending. The next page contains rows which go strictly
+ * after the position, so it is selected by an index range instead of skipping an offset.
+ * Rows without date go after all dated ones, as databases put nulls last in descending order.
+ * The position is passed to clients as an opaque URL-safe token.
+ */
+@Getter
+@EqualsAndHashCode
+public final class KeysetCursor {
+    private static final char SEPARATOR = ',';
+    private final LocalDateTime date;
+    private final Long id;
+
+    /**
+     * Constructor.
+     *
+     * @param date - date of the last row of the page, may be {@code null}.
+     * @param id   - id of the last row of the page.
+     */
+    public KeysetCursor(LocalDateTime date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * Encodes the position to the token.
+     *
+     * @return opaque token.
+     */
+    public String encode() {
+        String value = (date == null ? "" : date.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the token returned by {@link #encode()}.
+     *
+     * @param token - opaque token.
+     * @return decoded {@link KeysetCursor} or {@code null} if the token is {@code null} or empty,
+     *     which means the first page.
+     * @throws BadRequestException if the token is malformed.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            String date = value.substring(0, separator);
+            return new KeysetCursor(date.isEmpty() ? null : LocalDateTime.parse(date),
+                Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorMessage.BAD_PAGE_CURSOR + token);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package greencity.util;
+
+import greencity.entity.BreakTime;
+import greencity.entity.OpeningHours;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * Weekly opening hours of a place compiled into one bit per minute of the week, starting from Monday 00:00.
+ * Bit {@code i} is stored in byte {@code i / 8} as {@code 1 << (i % 8)}.
+ * A place is open in the minute if the minute is in {@code [openTime, closeTime)} of the day
+ * and not in {@code [startTime, endTime)} of the break, so checking any time inside the minute
+ * gives the same result as comparing the time with opening hours.
+ */
+public final class OpeningHoursBitmap {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int LENGTH = DAYS_PER_WEEK * MINUTES_PER_DAY / Byte.SIZE;
+
+    private OpeningHoursBitmap() {
+    }
+
+    /**
+     * Compiles opening hours and their breaks to the bitmap.
+     *
+     * @param openingHours - {@link OpeningHours} of a place, may be {@code null}.
+     * @return bitmap of {@link #LENGTH} bytes.
+     */
+    public static byte[] of(Collection<OpeningHours> openingHours) {
+        byte[] bitmap = new byte[LENGTH];
+        if (openingHours == null) {
+            return bitmap;
+        }
+        for (OpeningHours hours : openingHours) {
+            if (hours.getWeekDay() == null || hours.getOpenTime() == null || hours.getCloseTime() == null) {
+                continue;
+            }
+            int dayStart = (hours.getWeekDay().getValue() - 1) * MINUTES_PER_DAY;
+            set(bitmap, dayStart + minuteOfDay(hours.getOpenTime()), dayStart + minuteOfDay(hours.getCloseTime()),
+                true);
+        }
+        for (OpeningHours hours : openingHours) {
+            BreakTime breakTime = hours.getBreakTime();
+            if (hours.getWeekDay() == null || breakTime == null || breakTime.getStartTime() == null
+                || breakTime.getEndTime() == null) {
+                continue;
+            }
+            int dayStart = (hours.getWeekDay().getValue() - 1) * MINUTES_PER_DAY;
+            set(bitmap, dayStart + minuteOfDay(breakTime.getStartTime()),
+                dayStart + minuteOfDay(breakTime.getEndTime()), false);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Checks whether the place is open at the given time.
+     *
+     * @param bitmap - bitmap built by {@link #of(Collection)}, may be {@code null}.
+     * @param day    - day of week.
+     * @param time   - time of the day.
+     * @return true if the bit of the minute is set.
+     */
+    public static boolean isOpen(byte[] bitmap, DayOfWeek day, LocalTime time) {
+        if (bitmap == null || bitmap.length != LENGTH) {
+            return false;
+        }
+        int minute = minuteOfWeek(day, time);
+        return (bitmap[minute / Byte.SIZE] & (1 << (minute % Byte.SIZE))) != 0;
+    }
+
+    /**
+     * Returns index of the minute in the week.
+     *
+     * @param day  - day of week.
+     * @param time - time of the day.
+     * @return index of the bit, from 0 to {@code 7 * 24 * 60 - 1}.
+     */
+    public static int minuteOfWeek(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay(time);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static void set(byte[] bitmap, int from, int to, boolean value) {
+        for (int minute = from; minute < to; minute++) {
+            if (value) {
+                bitmap[minute / Byte.SIZE] |= 1 << (minute % Byte.SIZE);
+            } else {
+                bitmap[minute / Byte.SIZE] &= ~(1 << (minute % Byte.SIZE));
+            }
+        }
+    }
+}
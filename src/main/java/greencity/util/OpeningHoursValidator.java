@@ -0,0 +1,36 @@
+package greencity.util;
+
+import greencity.constant.ErrorMessage;
+import greencity.entity.BreakTime;
+import greencity.entity.OpeningHours;
+import greencity.exception.BadRequestException;
+
+/**
+ * Checks that the close time of {@link OpeningHours} is not earlier than the open time
+ * and that the break is inside the opening hours. Missing times are left to the column constraints.
+ */
+public final class OpeningHoursValidator {
+    private OpeningHoursValidator() {
+    }
+
+    /**
+     * Validates opening hours and their break.
+     *
+     * @param hours - {@link OpeningHours} to validate.
+     * @throws BadRequestException if the close time is earlier than the open time or the break
+     *                             is not inside the opening hours.
+     */
+    public static void validate(OpeningHours hours) {
+        if (hours.getOpenTime() == null || hours.getCloseTime() == null) {
+            return;
+        }
+        if (hours.getOpenTime().getHour() > hours.getCloseTime().getHour()) {
+            throw new BadRequestException(ErrorMessage.CLOSE_TIME_LATE_THAN_OPEN_TIME);
+        }
+        BreakTime breakTime = hours.getBreakTime();
+        if (breakTime != null && !(breakTime.getStartTime().getHour() > hours.getOpenTime().getHour()
+            && breakTime.getEndTime().getHour() < hours.getCloseTime().getHour())) {
+            throw new BadRequestException(ErrorMessage.WRONG_BREAK_TIME);
+        }
+    }
+}
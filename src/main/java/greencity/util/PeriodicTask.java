@@ -0,0 +1,50 @@
+package greencity.util;
+
+import greencity.constant.LogMessage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Task which runs with a fixed delay on its own thread, so a long run does not hold back
+ * the tasks of the shared {@code @Scheduled} thread. A failed run is logged and the task runs again
+ * after the delay.
+ */
+@Slf4j
+public final class PeriodicTask {
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Constructor. The thread is created when the task is started.
+     *
+     * @param threadNamePrefix - prefix of the name of the thread.
+     */
+    public PeriodicTask(String threadNamePrefix) {
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Runs the task periodically, the first run is after the delay.
+     *
+     * @param task        - task to run.
+     * @param delayMillis - delay between the end of a run and the start of the next one.
+     */
+    public void start(Runnable task, long delayMillis) {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error(LogMessage.IN_PERIODIC_TASK_FAILED, e.getMessage(), e);
+            }
+        }, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the task, a run in progress is interrupted.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,236 @@
+package greencity.util;
+
+import greencity.dto.location.LocationDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format of map markers. The payload is:
+ * <ul>
+ * <li>format version byte;</li>
+ * <li>string table: count and UTF-8 strings, every name and address is stored once;</li>
+ * <li>markers: count and for every marker a header with the name reference and location flags,
+ * id delta, location id delta, latitude and longitude deltas in millionths of a degree
+ * and the address reference.</li>
+ * </ul>
+ * Numbers are varints, signed ones are zigzag encoded, string references are table index plus one
+ * or zero for {@code null}. Markers sorted by id which are close to each other take a few bytes per number.
+ * Coordinates are rounded to {@link #COORDINATE_SCALE}, about 0.1 meter.
+ */
+public final class PlaceMarkerCodec {
+    public static final double COORDINATE_SCALE = 1e6;
+    private static final int VERSION = 1;
+    private static final int HAS_LOCATION = 1;
+    private static final int HAS_LOCATION_ID = 2;
+    private static final int FLAG_BITS = 2;
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private PlaceMarkerCodec() {
+    }
+
+    /**
+     * Encodes markers. A location without latitude or longitude is not encoded.
+     *
+     * @param places - list of {@link PlaceByBoundsDto} with not {@code null} ids.
+     * @param out    - stream to write to, it is not closed.
+     * @throws IOException if the stream fails.
+     */
+    public static void encode(List<PlaceByBoundsDto> places, OutputStream out) throws IOException {
+        Map<String, Integer> references = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Buffer markers = new Buffer(places.size() * 12);
+        long previousId = 0;
+        long previousLocationId = 0;
+        long previousLat = 0;
+        long previousLng = 0;
+        for (PlaceByBoundsDto place : places) {
+            LocationDto location = place.getLocation();
+            boolean hasLocation = location != null && location.getLat() != null && location.getLng() != null;
+            boolean hasLocationId = hasLocation && location.getId() != null;
+            int flags = (hasLocation ? HAS_LOCATION : 0) | (hasLocationId ? HAS_LOCATION_ID : 0);
+            markers.writeVarint((long) reference(place.getName(), references, strings) << FLAG_BITS | flags);
+            markers.writeSignedVarint(place.getId() - previousId);
+            previousId = place.getId();
+            if (!hasLocation) {
+                continue;
+            }
+            if (hasLocationId) {
+                markers.writeSignedVarint(location.getId() - previousLocationId);
+                previousLocationId = location.getId();
+            }
+            long lat = Math.round(location.getLat() * COORDINATE_SCALE);
+            long lng = Math.round(location.getLng() * COORDINATE_SCALE);
+            markers.writeSignedVarint(lat - previousLat);
+            markers.writeSignedVarint(lng - previousLng);
+            previousLat = lat;
+            previousLng = lng;
+            markers.writeVarint(reference(location.getAddress(), references, strings));
+        }
+        Buffer header = new Buffer(64 + strings.size() * 32);
+        header.write(VERSION);
+        header.writeVarint(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            header.writeVarint(bytes.length);
+            header.write(bytes);
+        }
+        header.writeVarint(places.size());
+        header.writeTo(out);
+        markers.writeTo(out);
+    }
+
+    /**
+     * Decodes markers encoded by {@link #encode(List, OutputStream)}.
+     *
+     * @param in - stream to read from, it is not closed.
+     * @return list of {@link PlaceByBoundsDto}.
+     * @throws IOException if the stream fails or the payload is malformed.
+     */
+    public static List<PlaceByBoundsDto> decode(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int version = data.read();
+        if (version != VERSION) {
+            throw new IOException("Unsupported markers format version " + version);
+        }
+        int stringCount = readSize(data);
+        List<String> strings = new ArrayList<>(Math.min(stringCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readSize(data)];
+            data.readFully(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        int size = readSize(data);
+        List<PlaceByBoundsDto> places = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        long id = 0;
+        long locationId = 0;
+        long lat = 0;
+        long lng = 0;
+        for (int i = 0; i < size; i++) {
+            long header = readVarint(data);
+            String name = string(strings, header >>> FLAG_BITS);
+            id += readSignedVarint(data);
+            LocationDto location = null;
+            if ((header & HAS_LOCATION) != 0) {
+                Long currentLocationId = null;
+                if ((header & HAS_LOCATION_ID) != 0) {
+                    locationId += readSignedVarint(data);
+                    currentLocationId = locationId;
+                }
+                lat += readSignedVarint(data);
+                lng += readSignedVarint(data);
+                location = new LocationDto(currentLocationId, lat / COORDINATE_SCALE, lng / COORDINATE_SCALE,
+                    string(strings, readVarint(data)));
+            }
+            places.add(new PlaceByBoundsDto(id, name, location));
+        }
+        return places;
+    }
+
+    private static int reference(String string, Map<String, Integer> references, List<String> strings) {
+        if (string == null) {
+            return 0;
+        }
+        Integer reference = references.get(string);
+        if (reference == null) {
+            strings.add(string);
+            reference = strings.size();
+            references.put(string, reference);
+        }
+        return reference;
+    }
+
+    private static String string(List<String> strings, long reference) throws IOException {
+        if (reference == 0) {
+            return null;
+        }
+        if (reference > strings.size()) {
+            throw new IOException("Unknown string reference " + reference);
+        }
+        return strings.get((int) reference - 1);
+    }
+
+    private static int readSize(DataInputStream in) throws IOException {
+        long size = readVarint(in);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too large size " + size);
+        }
+        return (int) size;
+    }
+
+    private static long readSignedVarint(InputStream in) throws IOException {
+        long value = readVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Byte buffer with varint writers, unlike {@link ByteArrayOutputStream} it is not synchronized.
+     */
+    private static final class Buffer {
+        private byte[] bytes;
+        private int size;
+
+        private Buffer(int capacity) {
+            bytes = new byte[Math.max(16, capacity)];
+        }
+
+        private void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        private void write(byte[] b) {
+            ensureCapacity(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        private void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> (Long.SIZE - 1)));
+        }
+
+        private void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package greencity.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link BoundedCache} which loads missing values by a loader and keeps them for the time to live.
+ * Values are evicted after the current transaction commits. A value loaded while the cache was invalidated
+ * may be stale, so it is returned but not cached.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ReadThroughCache<K, V> extends BoundedCache<K, V> {
+    private final long timeToLiveInMillis;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize            - max count of entries, must be positive.
+     * @param timeToLiveInMillis - time after which a value is loaded again.
+     */
+    public ReadThroughCache(int maxSize, long timeToLiveInMillis) {
+        super(maxSize);
+        this.timeToLiveInMillis = timeToLiveInMillis;
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it if there is no value.
+     *
+     * @param key    - key of the value.
+     * @param loader - loads the value by key.
+     * @return cached or loaded value.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return get(key, value -> true, loader);
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it if there is no value or the cached one can not be used.
+     *
+     * @param key    - key of the value.
+     * @param usable - checks whether the cached value can be returned.
+     * @param loader - loads the value by key.
+     * @return cached or loaded value.
+     */
+    public V get(K key, Predicate<? super V> usable, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null && usable.test(cached)) {
+            return cached;
+        }
+        long invalidationsBeforeLoad = invalidations.get();
+        V loaded = loader.apply(key);
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            put(key, loaded, System.currentTimeMillis() + timeToLiveInMillis);
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the value after the current transaction commits, or immediately if there is no transaction.
+     * A {@code null} key is ignored.
+     *
+     * @param key - key of the value.
+     */
+    public void evictAfterCommit(K key) {
+        if (key == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            remove(key);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package greencity.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe lazily loaded snapshot of rarely changed data. The snapshot is reloaded when it is older than
+ * the time to live or after {@link #invalidate()}, so changes made by other application instances are
+ * picked up as well.
+ *
+ * @param <T> snapshot type
+ */
+public class ReferenceDataCache<T> {
+    private final Supplier<T> loader;
+    private final long timeToLiveNanos;
+    private final Object loadLock = new Object();
+    private volatile Snapshot<T> snapshot;
+    private volatile long generation;
+
+    /**
+     * Constructor.
+     *
+     * @param loader            - loads the snapshot from the database.
+     * @param timeToLiveSeconds - max age of the snapshot in seconds.
+     */
+    public ReferenceDataCache(Supplier<T> loader, long timeToLiveSeconds) {
+        this.loader = loader;
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+    }
+
+    /**
+     * Returns the current snapshot, loading it if it is missing or expired.
+     *
+     * @return snapshot.
+     */
+    public T get() {
+        Snapshot<T> current = snapshot;
+        if (current != null && !current.isExpired(timeToLiveNanos)) {
+            return current.value;
+        }
+        synchronized (loadLock) {
+            current = snapshot;
+            if (current != null && !current.isExpired(timeToLiveNanos)) {
+                return current.value;
+            }
+            long loadedGeneration = generation;
+            T value = loader.get();
+            if (loadedGeneration == generation) {
+                snapshot = new Snapshot<>(value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Drops the snapshot after the current transaction commits, or immediately if there is no transaction.
+     * A snapshot which is being loaded concurrently is not kept.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(() -> {
+            generation++;
+            snapshot = null;
+        });
+    }
+
+    private static final class Snapshot<T> {
+        private final T value;
+        private final long loadedAt = System.nanoTime();
+
+        private Snapshot(T value) {
+            this.value = value;
+        }
+
+        private boolean isExpired(long timeToLiveNanos) {
+            return System.nanoTime() - loadedAt > timeToLiveNanos;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package greencity.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/**
+ * Parsed admin search string. The string may be a SQL LIKE pattern, so its wildcards are ignored.
+ * Besides words the string can be a date in {@code yyyy}, {@code yyyy-MM}, {@code yyyy-MM-dd}, {@code MM.yyyy}
+ * or {@code dd.MM.yyyy} format, which describes the range of modification dates {@code [modifiedFrom, modifiedTo)}.
+ */
+@Getter
+public final class SearchQuery {
+    private static final Pattern WILDCARDS = Pattern.compile("[%_]+");
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+    private static final Pattern YEAR_MONTH = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern DOTTED_MONTH_YEAR = Pattern.compile("\\d{2}\\.\\d{4}");
+    private static final Pattern DOTTED_DATE = Pattern.compile("\\d{2}\\.\\d{2}\\.\\d{4}");
+    private static final DateTimeFormatter DOTTED_MONTH_YEAR_FORMAT = DateTimeFormatter.ofPattern("MM.yyyy");
+    private static final DateTimeFormatter DOTTED_DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private final List<String> tokens;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+
+    private SearchQuery(List<String> tokens, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        this.tokens = tokens;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+    }
+
+    /**
+     * Parses the search string.
+     *
+     * @param searchReg - search string, may be {@code null}.
+     * @return parsed {@link SearchQuery}.
+     */
+    public static SearchQuery parse(String searchReg) {
+        if (searchReg == null) {
+            return new SearchQuery(Collections.emptyList(), null, null);
+        }
+        String text = WILDCARDS.matcher(searchReg).replaceAll(" ").trim();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        try {
+            LocalDate date = null;
+            YearMonth month = null;
+            if (DATE.matcher(text).matches()) {
+                date = LocalDate.parse(text);
+            } else if (DOTTED_DATE.matcher(text).matches()) {
+                date = LocalDate.parse(text, DOTTED_DATE_FORMAT);
+            } else if (YEAR_MONTH.matcher(text).matches()) {
+                month = YearMonth.parse(text);
+            } else if (DOTTED_MONTH_YEAR.matcher(text).matches()) {
+                month = YearMonth.parse(text, DOTTED_MONTH_YEAR_FORMAT);
+            }
+            if (date != null) {
+                from = date.atStartOfDay();
+                to = date.plusDays(1).atStartOfDay();
+            } else if (month != null) {
+                from = month.atDay(1).atStartOfDay();
+                to = month.plusMonths(1).atDay(1).atStartOfDay();
+            } else if (YEAR.matcher(text).matches()) {
+                Year year = Year.parse(text);
+                from = year.atDay(1).atStartOfDay();
+                to = year.plusYears(1).atDay(1).atStartOfDay();
+            }
+        } catch (DateTimeParseException e) {
+            from = null;
+            to = null;
+        }
+        return new SearchQuery(tokenize(text), from, to);
+    }
+
+    /**
+     * Splits the text into lower-cased words of letters and digits.
+     *
+     * @param text - text to split, may be {@code null}.
+     * @return list of words.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean wordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Checks whether the search string is a date.
+     *
+     * @return true if {@code modifiedFrom} and {@code modifiedTo} are set.
+     */
+    public boolean hasDateRange() {
+        return modifiedFrom != null;
+    }
+}
@@ -0,0 +1,100 @@
+package greencity.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import greencity.constant.AppConstant;
+import greencity.service.DiscountService;
+import greencity.service.EmailDispatcher;
+import greencity.service.OpenHoursService;
+import greencity.service.impl.FavoritePlaceIdCacheImpl;
+import greencity.service.impl.LastVisitTrackerImpl;
+import greencity.service.impl.PlaceInfoCacheImpl;
+import io.micrometer.core.instrument.search.RequiredSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MetricsConfigTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlaceInfoCacheImpl placeInfoCache = new PlaceInfoCacheImpl(1, 60000);
+    private final FavoritePlaceIdCacheImpl favoritePlaceIdCache = new FavoritePlaceIdCacheImpl(16, 60000);
+    private final LastVisitTrackerImpl lastVisitTracker = new LastVisitTrackerImpl(new JdbcTemplate() {
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            return new int[batchArgs.size()];
+        }
+    }, meterRegistry);
+
+    @Mock
+    private EmailDispatcher emailDispatcher;
+
+    @Mock
+    private DiscountService discountService;
+
+    @Mock
+    private OpenHoursService openHoursService;
+
+    @Before
+    public void bind() {
+        new MetricsConfig()
+            .greenCityMeterBinder(emailDispatcher, discountService, openHoursService, placeInfoCache,
+                favoritePlaceIdCache, lastVisitTracker)
+            .bindTo(meterRegistry);
+    }
+
+    @Test
+    public void emailAndChildRowMetricsReadServiceCountsTest() {
+        when(emailDispatcher.getQueueSize()).thenReturn(3);
+        when(emailDispatcher.getSentCount()).thenReturn(5L);
+        when(discountService.getUpdatedRowCount()).thenReturn(7L);
+
+        assertEquals(3, meterRegistry.get(AppConstant.METRIC_EMAIL_QUEUE_SIZE).gauge().value(), 0);
+        assertEquals(5, meterRegistry.get(AppConstant.METRIC_EMAIL_MESSAGES)
+            .tag(AppConstant.METRIC_TAG_STATE, "sent").functionCounter().count(), 0);
+        assertEquals(7, meterRegistry.get(AppConstant.METRIC_PLACE_CHILD_ROWS_UPDATED)
+            .tag(AppConstant.METRIC_TAG_CHILD, "discount").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void cacheMetricsReadCacheCountsTest() {
+        placeInfoCache.getCache().put(1L, null);
+        placeInfoCache.getCache().put(2L, null);
+        placeInfoCache.getCache().get(3L);
+        favoritePlaceIdCache.get("nazar@gmail.com", email -> Collections.singleton(1L));
+        favoritePlaceIdCache.get("nazar@gmail.com", email -> Collections.singleton(1L));
+
+        assertEquals(1, cacheMetric(AppConstant.METRIC_CACHE_SIZE, "place_info").gauge().value(), 0);
+        assertEquals(1, cacheMetric(AppConstant.METRIC_CACHE_EVICTIONS, "place_info").functionCounter().count(), 0);
+        assertEquals(1, cacheMetric(AppConstant.METRIC_CACHE_GETS, "place_info")
+            .tag(AppConstant.METRIC_TAG_RESULT, "miss").functionCounter().count(), 0);
+        assertEquals(1, cacheMetric(AppConstant.METRIC_CACHE_GETS, "favorite_place_id")
+            .tag(AppConstant.METRIC_TAG_RESULT, "hit").functionCounter().count(), 0);
+        assertEquals(1, cacheMetric(AppConstant.METRIC_CACHE_GETS, "favorite_place_id")
+            .tag(AppConstant.METRIC_TAG_RESULT, "miss").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void lastVisitMetricsReadPendingCountAndTimeFlushesTest() {
+        lastVisitTracker.recordVisit(1L);
+        lastVisitTracker.recordVisit(2L);
+
+        assertEquals(2, meterRegistry.get(AppConstant.METRIC_LAST_VISIT_PENDING).gauge().value(), 0);
+
+        lastVisitTracker.flush();
+
+        assertEquals(0, meterRegistry.get(AppConstant.METRIC_LAST_VISIT_PENDING).gauge().value(), 0);
+        assertEquals(1, meterRegistry.get(AppConstant.METRIC_LAST_VISIT_FLUSH).timer().count());
+    }
+
+    private RequiredSearch cacheMetric(String name, String cache) {
+        return meterRegistry.get(name).tag(AppConstant.METRIC_TAG_CACHE, cache);
+    }
+}
@@ -0,0 +1,56 @@
+package greencity.config;
+
+import static org.junit.Assert.assertEquals;
+
+import greencity.constant.AppConstant;
+import greencity.dto.category.CategoryDto;
+import greencity.entity.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.modelmapper.TypeToken;
+
+public class TimedModelMapperTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TimedModelMapper modelMapper = new TimedModelMapper(meterRegistry);
+    private final Category category = Category.builder().id(1L).name("Food").build();
+
+    @Test
+    public void mapToClassRecordsTimerOfDestinationTypeTest() {
+        modelMapper.map(category, CategoryDto.class);
+        CategoryDto categoryDto = modelMapper.map(category, CategoryDto.class);
+
+        assertEquals("Food", categoryDto.getName());
+        assertEquals(2, mapCount("CategoryDto"));
+    }
+
+    @Test
+    public void mapToGenericTypeRecordsTimerOfTypeNameTest() {
+        Type type = new TypeToken<List<CategoryDto>>() {
+        }.getType();
+
+        List<CategoryDto> categories = modelMapper.map(Collections.singletonList(category), type);
+
+        assertEquals(1, categories.size());
+        assertEquals(1, mapCount(type.getTypeName()));
+    }
+
+    @Test
+    public void mapToObjectRecordsTimerOfDestinationClassTest() {
+        CategoryDto categoryDto = new CategoryDto();
+
+        modelMapper.map(category, categoryDto);
+
+        assertEquals("Food", categoryDto.getName());
+        assertEquals(1, mapCount("CategoryDto"));
+    }
+
+    private long mapCount(String type) {
+        return meterRegistry.get(AppConstant.METRIC_MODEL_MAPPER_MAP)
+            .tag(AppConstant.METRIC_TAG_TYPE, type)
+            .timer()
+            .count();
+    }
+}
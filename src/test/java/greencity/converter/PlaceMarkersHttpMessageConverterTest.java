@@ -0,0 +1,65 @@
+package greencity.converter;
+
+import static greencity.converter.PlaceMarkersHttpMessageConverter.PLACE_MARKERS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.util.PlaceMarkerCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+public class PlaceMarkersHttpMessageConverterTest {
+    private static final Type PLACES = new ParameterizedTypeReference<List<PlaceByBoundsDto>>() {
+    }.getType();
+    private static final Type CLUSTERS = new ParameterizedTypeReference<List<PlaceClusterDto>>() {
+    }.getType();
+
+    private PlaceMarkersHttpMessageConverter converter = new PlaceMarkersHttpMessageConverter();
+
+    @Test
+    public void canWriteOnlyPlaceListsTest() {
+        assertTrue(converter.canWrite(PLACES, ArrayList.class, PLACE_MARKERS));
+        assertTrue(converter.canWrite(PLACES, ArrayList.class, MediaType.ALL));
+        assertFalse(converter.canWrite(PLACES, ArrayList.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(CLUSTERS, ArrayList.class, PLACE_MARKERS));
+        assertFalse(converter.canWrite(ArrayList.class, ArrayList.class, PLACE_MARKERS));
+        assertFalse(converter.canWrite(null, ArrayList.class, PLACE_MARKERS));
+    }
+
+    @Test
+    public void writeTest() throws IOException {
+        List<PlaceByBoundsDto> places =
+            Collections.singletonList(new PlaceByBoundsDto(1L, "place", 1L, 49.84, 24.03, "address"));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpHeaders headers = new HttpHeaders();
+
+        converter.write(places, PLACES, PLACE_MARKERS, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+
+        assertEquals(PLACE_MARKERS, headers.getContentType());
+        assertEquals(places, PlaceMarkerCodec.decode(new ByteArrayInputStream(body.toByteArray())));
+    }
+}
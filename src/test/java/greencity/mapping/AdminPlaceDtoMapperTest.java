@@ -0,0 +1,70 @@
+package greencity.mapping;
+
+import static org.junit.Assert.assertEquals;
+
+import greencity.config.MapperConfig;
+import greencity.dto.place.AdminPlaceDto;
+import greencity.dto.user.UserForListDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.entity.enums.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import org.junit.Test;
+import org.modelmapper.ModelMapper;
+
+public class AdminPlaceDtoMapperTest {
+    private ModelMapper modelMapper = new MapperConfig().getModelMapper(new SimpleMeterRegistry());
+
+    private AdminPlaceDtoMapper adminPlaceDtoMapper = new AdminPlaceDtoMapper(
+        new LocationDtoMapper(), new CategoryDtoMapper(), new OpenHoursDtoMapper(), new PlaceAuthorDtoMapper());
+
+    private User user = User.builder()
+        .id(1L)
+        .firstName("Nazar")
+        .lastName("Stasyuk")
+        .email("nazar@gmail.com")
+        .role(ROLE.ROLE_USER)
+        .userStatus(UserStatus.ACTIVATED)
+        .lastVisit(LocalDateTime.of(2019, 10, 1, 12, 0))
+        .dateOfRegistration(LocalDateTime.of(2019, 9, 1, 12, 0))
+        .build();
+
+    @Test
+    public void convertToDtoMatchesModelMapperTest() {
+        OpeningHours openingHours = OpeningHours.builder()
+            .id(2L)
+            .openTime(LocalTime.of(10, 0))
+            .closeTime(LocalTime.of(20, 0))
+            .weekDay(DayOfWeek.MONDAY)
+            .build();
+        Place place = Place.builder()
+            .id(3L)
+            .name("Forum")
+            .location(Location.builder().id(4L).lat(49.84).lng(24.03).address("Pid Dubom St, 7B").build())
+            .category(Category.builder().id(5L).name("Shop").build())
+            .openingHoursList(Collections.singleton(openingHours))
+            .author(user)
+            .status(PlaceStatus.APPROVED)
+            .modifiedDate(LocalDateTime.of(2019, 10, 2, 14, 30))
+            .build();
+
+        assertEquals(modelMapper.map(place, AdminPlaceDto.class), adminPlaceDtoMapper.convertToDto(place));
+    }
+
+    @Test
+    public void convertToDtoWithoutAssociationsTest() {
+        Place place = Place.builder().id(3L).name("Forum").status(PlaceStatus.PROPOSED).build();
+
+        assertEquals(modelMapper.map(place, AdminPlaceDto.class), adminPlaceDtoMapper.convertToDto(place));
+    }
+
+    @Test
+    public void userForListDtoMatchesModelMapperTest() {
+        assertEquals(modelMapper.map(user, UserForListDto.class), new UserForListDtoMapper().convertToDto(user));
+    }
+}
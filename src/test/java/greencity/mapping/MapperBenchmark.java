@@ -0,0 +1,126 @@
+package greencity.mapping;
+
+import greencity.config.MapperConfig;
+import greencity.dto.place.AdminPlaceDto;
+import greencity.dto.user.UserForListDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.entity.enums.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares mapping of the list dto's by the {@link Mapper} implementations and by the configured
+ * {@link ModelMapper}. Every operation is one mapped object, so run it with {@code -prof gc} to get
+ * {@code gc.alloc.rate.norm} in bytes per mapped object.
+ * Run it by {@code org.openjdk.jmh.Main} with the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+    private static final int LIST_SIZE = 100;
+
+    private ModelMapper modelMapper;
+    private AdminPlaceDtoMapper adminPlaceDtoMapper;
+    private UserForListDtoMapper userForListDtoMapper;
+    private List<Place> places;
+    private List<User> users;
+
+    /**
+     * Creates the mappers and the entities of one page.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = new MapperConfig().getModelMapper(new SimpleMeterRegistry());
+        adminPlaceDtoMapper = new AdminPlaceDtoMapper(
+            new LocationDtoMapper(), new CategoryDtoMapper(), new OpenHoursDtoMapper(), new PlaceAuthorDtoMapper());
+        userForListDtoMapper = new UserForListDtoMapper();
+        places = new ArrayList<>(LIST_SIZE);
+        users = new ArrayList<>(LIST_SIZE);
+        for (long i = 1; i <= LIST_SIZE; i++) {
+            User user = User.builder()
+                .id(i)
+                .firstName("first" + i)
+                .lastName("last" + i)
+                .email("user" + i + "@gmail.com")
+                .role(ROLE.ROLE_USER)
+                .userStatus(UserStatus.ACTIVATED)
+                .lastVisit(LocalDateTime.of(2019, 10, 1, 12, 0))
+                .dateOfRegistration(LocalDateTime.of(2019, 9, 1, 12, 0))
+                .build();
+            users.add(user);
+            places.add(Place.builder()
+                .id(i)
+                .name("place" + i)
+                .location(Location.builder().id(i).lat(49.84).lng(24.03).address("address" + i).build())
+                .category(Category.builder().id(1L).name("Shop").build())
+                .openingHoursList(Collections.singleton(OpeningHours.builder()
+                    .id(i)
+                    .openTime(LocalTime.of(10, 0))
+                    .closeTime(LocalTime.of(20, 0))
+                    .weekDay(DayOfWeek.MONDAY)
+                    .build()))
+                .author(user)
+                .status(PlaceStatus.APPROVED)
+                .modifiedDate(LocalDateTime.of(2019, 10, 2, 14, 30))
+                .build());
+        }
+    }
+
+    /**
+     * Maps places by {@link AdminPlaceDtoMapper}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LIST_SIZE)
+    public List<AdminPlaceDto> adminPlaceDtoMapper() {
+        List<AdminPlaceDto> dtos = new ArrayList<>(LIST_SIZE);
+        places.forEach(place -> dtos.add(adminPlaceDtoMapper.convertToDto(place)));
+        return dtos;
+    }
+
+    /**
+     * Maps places by {@link ModelMapper}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LIST_SIZE)
+    public List<AdminPlaceDto> adminPlaceModelMapper() {
+        List<AdminPlaceDto> dtos = new ArrayList<>(LIST_SIZE);
+        places.forEach(place -> dtos.add(modelMapper.map(place, AdminPlaceDto.class)));
+        return dtos;
+    }
+
+    /**
+     * Maps users by {@link UserForListDtoMapper}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LIST_SIZE)
+    public List<UserForListDto> userForListDtoMapper() {
+        List<UserForListDto> dtos = new ArrayList<>(LIST_SIZE);
+        users.forEach(user -> dtos.add(userForListDtoMapper.convertToDto(user)));
+        return dtos;
+    }
+
+    /**
+     * Maps users by {@link ModelMapper}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LIST_SIZE)
+    public List<UserForListDto> userForListModelMapper() {
+        List<UserForListDto> dtos = new ArrayList<>(LIST_SIZE);
+        users.forEach(user -> dtos.add(modelMapper.map(user, UserForListDto.class)));
+        return dtos;
+    }
+}
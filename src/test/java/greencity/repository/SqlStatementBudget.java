@@ -0,0 +1,21 @@
+package greencity.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares max count of SQL statements which the code measured by {@link SqlStatementBudgetRule}
+ * in the annotated test may execute.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SqlStatementBudget {
+    /**
+     * Max count of SQL statements.
+     *
+     * @return count of statements.
+     */
+    int value();
+}
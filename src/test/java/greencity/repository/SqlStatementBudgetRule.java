@@ -0,0 +1,43 @@
+package greencity.repository;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Fails the test when the measured code executes more SQL statements than the {@link SqlStatementBudget}
+ * of the test method allows. Statements are counted by {@link SqlStatementCounter}, so N+1 loads
+ * of a fetch plan which misses an association are caught as soon as they appear.
+ */
+public class SqlStatementBudgetRule implements TestRule {
+    private SqlStatementBudget budget;
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        budget = description.getAnnotation(SqlStatementBudget.class);
+        return base;
+    }
+
+    /**
+     * Runs the action and checks count of SQL statements executed by it.
+     *
+     * @param action code to measure.
+     * @param <T>    type of the result.
+     * @return result of the action.
+     */
+    public <T> T measure(Supplier<T> action) {
+        if (budget == null) {
+            throw new IllegalStateException("Test method has no @SqlStatementBudget");
+        }
+        SqlStatementCounter.reset();
+        T result = action.get();
+        List<String> statements = SqlStatementCounter.getStatements();
+        assertTrue(statements.size() + " SQL statements exceed the budget of " + budget.value() + ":\n"
+            + String.join("\n", statements), statements.size() <= budget.value());
+        return result;
+    }
+}
@@ -0,0 +1,36 @@
+package greencity.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records SQL statements prepared by Hibernate. Register it with the
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} property.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets recorded statements.
+     */
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Returns statements recorded since the last {@link #reset()}.
+     *
+     * @return list of SQL statements.
+     */
+    public static List<String> getStatements() {
+        return new ArrayList<>(STATEMENTS);
+    }
+}
@@ -0,0 +1,250 @@
+package greencity.repository.options;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import greencity.dto.category.CategoryDto;
+import greencity.dto.filter.FilterDiscountDto;
+import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.specification.SpecificationDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.repository.PlaceRepo;
+import greencity.util.OpeningHoursBitmap;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@TestPropertySource(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "greencity.repository.options.PlaceFilterTest$SqlRecorder"
+})
+public class PlaceFilterTest {
+    private static final Pattern JOIN = Pattern.compile("\\bjoin\\b");
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PlaceRepo placeRepo;
+    private Long kyivId;
+    private Long lvivId;
+
+    @Before
+    public void init() {
+        User author = entityManager.persist(User.builder()
+            .firstName("Nazar")
+            .lastName("Stasyuk")
+            .email("author@gmail.com")
+            .role(ROLE.ROLE_ADMIN)
+            .lastVisit(LocalDateTime.now())
+            .dateOfRegistration(LocalDateTime.now())
+            .build());
+        Category food = entityManager.persist(Category.builder().name("Food").build());
+        Category drinks = entityManager.persist(Category.builder().name("Drinks").build());
+        Specification salad = entityManager.persist(Specification.builder().name("Salad").build());
+        Place kyiv = persistPlace("Forum", author, food, 50.45, 30.52, "Kyiv, Khreshchatyk 1");
+        Place lviv = persistPlace("Cafe", author, food, 49.84, 24.03, "Lviv, Rynok 1");
+        persistDiscount(kyiv, food, salad, 10);
+        persistDiscount(kyiv, food, salad, 20);
+        persistDiscount(kyiv, drinks, salad, 30);
+        persistDiscount(lviv, drinks, salad, 10);
+        kyivId = kyiv.getId();
+        lvivId = lviv.getId();
+        entityManager.flush();
+        entityManager.clear();
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    public void filterByBoundsAndSearchJoinsEveryAttributeOnce() {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setMapBoundsDto(new MapBoundsDto(51.0, 31.0, 50.0, 30.0));
+        filterPlaceDto.setSearchReg("%Kyiv%");
+
+        List<Place> places = placeRepo.findAll(new PlaceFilter(filterPlaceDto));
+
+        assertEquals(1, places.size());
+        assertEquals("Forum", places.get(0).getName());
+        String sql = firstSelect();
+        assertEquals(3, count(JOIN, sql));
+        assertFalse(sql.contains("group by"));
+    }
+
+    @Test
+    public void searchSelectsPlacesOfGivenStatusOrApprovedOnes() {
+        entityManager.find(Place.class, lvivId).setStatus(PlaceStatus.PROPOSED);
+        entityManager.flush();
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setSearchReg("%Rynok%");
+
+        List<Place> approved = placeRepo.findAll(new PlaceFilter(filterPlaceDto));
+        filterPlaceDto.setStatus(PlaceStatus.PROPOSED);
+        List<Place> proposedPlaces = placeRepo.findAll(new PlaceFilter(filterPlaceDto));
+
+        assertTrue(approved.isEmpty());
+        assertEquals(1, proposedPlaces.size());
+        assertEquals(lvivId, proposedPlaces.get(0).getId());
+    }
+
+    @Test
+    public void filterByTimeChecksOpeningHoursBitmap() {
+        entityManager.find(Place.class, kyivId).setOpeningHoursBitmap(OpeningHoursBitmap.of(Collections.singletonList(
+            OpeningHours.builder()
+                .weekDay(DayOfWeek.MONDAY)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(18, 0))
+                .breakTime(BreakTime.builder().startTime(LocalTime.of(13, 0)).endTime(LocalTime.of(14, 0)).build())
+                .build())));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Collections.singletonList(kyivId), idsOpenAt("14/10/2019 10:00:00"));
+        assertEquals(Collections.singletonList(kyivId), idsOpenAt("14/10/2019 09:00:00"));
+        assertEquals(Collections.singletonList(kyivId), idsOpenAt("14/10/2019 14:00:00"));
+        assertTrue(idsOpenAt("14/10/2019 08:59:59").isEmpty());
+        assertTrue(idsOpenAt("14/10/2019 13:30:00").isEmpty());
+        assertTrue(idsOpenAt("14/10/2019 18:00:00").isEmpty());
+        assertTrue(idsOpenAt("14/10/2019 20:00:00").isEmpty());
+        assertTrue(idsOpenAt("15/10/2019 10:00:00").isEmpty());
+    }
+
+    @Test
+    public void findAllPlaceByBoundsDtoAfterReadsChunksInIdOrder() {
+        PlaceFilter filter = new PlaceFilter(new FilterPlaceDto());
+        Long firstId = Math.min(kyivId, lvivId);
+        Long secondId = Math.max(kyivId, lvivId);
+
+        List<PlaceByBoundsDto> first = placeRepo.findAllPlaceByBoundsDtoAfter(filter, null, 1);
+        List<PlaceByBoundsDto> second = placeRepo.findAllPlaceByBoundsDtoAfter(filter, firstId, 1);
+        List<PlaceByBoundsDto> third = placeRepo.findAllPlaceByBoundsDtoAfter(filter, secondId, 1);
+
+        assertEquals(firstId, first.get(0).getId());
+        assertEquals(secondId, second.get(0).getId());
+        assertTrue(third.isEmpty());
+    }
+
+    @Test
+    public void filterByDiscountSelectsPlaceOnceByExistsSubquery() {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setDiscountDto(new FilterDiscountDto(
+            new CategoryDto("Food"), new SpecificationDto(null, "Salad"), 0, 100));
+
+        List<Place> places = placeRepo.findAll(new PlaceFilter(filterPlaceDto));
+
+        assertEquals(1, places.size());
+        assertEquals("Forum", places.get(0).getName());
+        String sql = firstSelect();
+        assertTrue(sql.contains("exists"));
+        assertEquals(2, count(JOIN, sql));
+        assertFalse(sql.contains("group by"));
+    }
+
+    @Test
+    public void filterByDiscountChecksValuesOfTheSameDiscount() {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setDiscountDto(new FilterDiscountDto(
+            new CategoryDto("Food"), new SpecificationDto(null, "Salad"), 25, 35));
+
+        assertTrue(placeRepo.findAll(new PlaceFilter(filterPlaceDto)).isEmpty());
+    }
+
+    @Test
+    public void filterPageCountsEveryPlaceOnce() {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setDiscountDto(new FilterDiscountDto(
+            new CategoryDto("Drinks"), new SpecificationDto(null, "Salad"), 0, 100));
+
+        Page<Place> page = placeRepo.findAll(new PlaceFilter(filterPlaceDto), PageRequest.of(0, 1));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+    }
+
+    private List<Long> idsOpenAt(String time) {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setTime(time);
+        return placeRepo.findAll(new PlaceFilter(filterPlaceDto)).stream()
+            .map(Place::getId)
+            .collect(Collectors.toList());
+    }
+
+    private Place persistPlace(String name, User author, Category category, double lat, double lng,
+                               String address) {
+        return entityManager.persist(Place.builder()
+            .name(name)
+            .author(author)
+            .category(category)
+            .location(Location.builder().lat(lat).lng(lng).address(address).build())
+            .status(PlaceStatus.APPROVED)
+            .modifiedDate(LocalDateTime.now())
+            .build());
+    }
+
+    private void persistDiscount(Place place, Category category, Specification specification, int value) {
+        entityManager.persist(Discount.builder()
+            .place(place)
+            .category(category)
+            .specification(specification)
+            .value(value)
+            .build());
+    }
+
+    private static String firstSelect() {
+        List<String> selects = SqlRecorder.STATEMENTS.stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.startsWith("select"))
+            .collect(Collectors.toList());
+        assertFalse(selects.isEmpty());
+        return selects.get(0);
+    }
+
+    private static int count(Pattern pattern, String sql) {
+        Matcher matcher = pattern.matcher(sql);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Records SQL statements prepared by Hibernate.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,19 +1,103 @@
 package greencity.security.jwt;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import greencity.constant.AppConstant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
-import org.mockito.InjectMocks;
+import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+@RunWith(MockitoJUnitRunner.class)
 public class JwtFilterTest {
-
-
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private JwtFilter filter;
 
     @Mock
     private JwtTokenTool tool;
 
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Before
+    public void init() {
+        filter = new JwtFilter(tool, meterRegistry);
+    }
+
+    @After
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
-    public void doFilter() {
+    public void doFilterAuthenticatesValidTokenTest() throws IOException, ServletException {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("nazar@gmail.com", "");
+        when(tool.getTokenByBody(request)).thenReturn("token");
+        when(tool.getAuthentication("token")).thenReturn(authentication);
+
+        filter.doFilter(request, response, filterChain);
+
+        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, authenticationCount("success"));
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    public void doFilterRecordsFailureOfInvalidTokenTest() throws IOException, ServletException {
+        when(tool.getTokenByBody(request)).thenReturn("token");
+
+        filter.doFilter(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, authenticationCount("failure"));
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void doFilterRecordsErrorOfFailedAuthenticationTest() throws IOException, ServletException {
+        when(tool.getTokenByBody(request)).thenReturn("token");
+        when(tool.getAuthentication("token")).thenThrow(new IllegalStateException("user service is down"));
+
+        try {
+            filter.doFilter(request, response, filterChain);
+        } finally {
+            assertEquals(1, authenticationCount("error"));
+        }
+    }
+
+    @Test
+    public void doFilterWithoutTokenRecordsNothingTest() throws IOException, ServletException {
+        filter.doFilter(request, response, filterChain);
+
+        assertNull(meterRegistry.find(AppConstant.METRIC_JWT_AUTHENTICATION).timer());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private long authenticationCount(String outcome) {
+        return meterRegistry.get(AppConstant.METRIC_JWT_AUTHENTICATION)
+            .tag(AppConstant.METRIC_TAG_OUTCOME, outcome)
+            .timer()
+            .count();
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,18 @@
 package greencity.security.jwt;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 import greencity.entity.OwnSecurity;
 import greencity.entity.User;
 import greencity.entity.enums.ROLE;
 import greencity.entity.enums.UserStatus;
+import greencity.service.LastVisitTracker;
 import greencity.service.UserService;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,6 +30,10 @@ public class JwtTokenToolTest {
 
     @Mock
     private UserService userService;
+    @Mock
+    private JwtAuthenticationCache authenticationCache;
+    @Mock
+    private LastVisitTracker lastVisitTracker;
     @InjectMocks
     private JwtTokenTool jwtTokenTool;
 
@@ -63,4 +71,35 @@ public class JwtTokenToolTest {
         String emailByToken = jwtTokenTool.getEmailByToken(accessToken);
         assertEquals(email, emailByToken);
     }
+
+    @Test
+    public void getAuthenticationCachesResult() {
+        String email = "nazar.stasyuk@gmail.com";
+        User user = User.builder().id(1L).email(email).role(ROLE.ROLE_USER).build();
+        String accessToken = jwtTokenTool.createAccessToken(email, ROLE.ROLE_USER);
+        when(userService.findByEmail(email)).thenReturn(Optional.of(user));
+
+        Authentication authentication = jwtTokenTool.getAuthentication(accessToken);
+
+        assertEquals(email, authentication.getPrincipal());
+        verify(authenticationCache).put(eq(accessToken), eq(1L), eq(authentication), anyLong());
+        verify(lastVisitTracker).recordVisit(1L);
+    }
+
+    @Test
+    public void getAuthenticationFromCache() {
+        String accessToken = jwtTokenTool.createAccessToken("nazar.stasyuk@gmail.com", ROLE.ROLE_USER);
+        Authentication cached = mock(Authentication.class);
+        when(authenticationCache.get(accessToken)).thenReturn(new JwtAuthenticationCache.Entry(1L, cached));
+
+        assertSame(cached, jwtTokenTool.getAuthentication(accessToken));
+        verify(lastVisitTracker).recordVisit(1L);
+        verifyZeroInteractions(userService);
+    }
+
+    @Test
+    public void getAuthenticationWithInvalidToken() {
+        assertNull(jwtTokenTool.getAuthentication(UUID.randomUUID().toString()));
+        verifyZeroInteractions(userService);
+    }
 }
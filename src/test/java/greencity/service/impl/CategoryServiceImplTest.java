@@ -1,21 +1,27 @@
 package greencity.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import greencity.GreenCityApplication;
+import greencity.dto.ETaggedListDto;
+import greencity.dto.category.CategoryDto;
 import greencity.entity.Category;
 import greencity.entity.Place;
 import greencity.exception.BadRequestException;
 import greencity.exception.NotFoundException;
+import greencity.mapping.CategoryDtoMapper;
 import greencity.repository.CategoryRepo;
+import greencity.util.ETagUtils;
 import java.util.*;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -24,6 +30,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 public class CategoryServiceImplTest {
     @Mock
     private CategoryRepo categoryRepo;
+    @Spy
+    private CategoryDtoMapper categoryDtoMapper = new CategoryDtoMapper();
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -42,7 +50,7 @@ public class CategoryServiceImplTest {
 
         when(categoryRepo.findById(anyLong())).thenReturn(Optional.of(genericEntity));
 
-        Category foundEntity = categoryService.findById(anyLong());
+        Category foundEntity = categoryService.findById(1L);
 
         assertEquals(genericEntity, foundEntity);
     }
@@ -60,7 +68,7 @@ public class CategoryServiceImplTest {
         when(categoryRepo.save(any())).thenReturn(updated);
 
         categoryService.update(anyLong(), updated);
-        Category foundEntity = categoryService.findById(anyLong());
+        Category foundEntity = categoryService.findById(1L);
 
         assertEquals(updated, foundEntity);
     }
@@ -102,4 +110,104 @@ public class CategoryServiceImplTest {
 
         assertEquals(genericEntities, foundEntities);
     }
+
+    @Test
+    public void findByNameFromCacheTest() {
+        Category category = Category.builder().id(1L).name("Food").build();
+        when(categoryRepo.findAll()).thenReturn(Collections.singletonList(category));
+        when(categoryRepo.findById(1L)).thenReturn(Optional.of(category));
+
+        assertEquals(category, categoryService.findByName("Food"));
+        assertEquals(category, categoryService.findByName("Food"));
+        verify(categoryRepo, times(1)).findAll();
+        verify(categoryRepo, never()).findByName(any());
+        verify(categoryRepo, never()).getOne(any());
+    }
+
+    @Test
+    public void findByNameDeletedMeanwhileThrowsAndInvalidatesCacheTest() {
+        when(categoryRepo.findAll())
+            .thenReturn(Collections.singletonList(Category.builder().id(1L).name("Food").build()))
+            .thenReturn(Collections.emptyList());
+
+        try {
+            categoryService.findByName("Food");
+            fail();
+        } catch (NotFoundException e) {
+            categoryService.findAllCategoryDto();
+        }
+
+        verify(categoryRepo).findByName("Food");
+        verify(categoryRepo, times(2)).findAll();
+    }
+
+    @Test
+    public void findByIdDoesNotLoadCacheTest() {
+        when(categoryRepo.findById(2L)).thenReturn(Optional.of(Category.builder().id(2L).name("Drinks").build()));
+
+        categoryService.findById(2L);
+
+        verify(categoryRepo, never()).findAll();
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findByNameNotFoundTest() {
+        categoryService.findByName("Food");
+    }
+
+    @Test
+    public void findAllCategoryDtoTest() {
+        when(categoryRepo.findAll()).thenReturn(Collections.singletonList(Category.builder().name("Food").build()));
+
+        List<CategoryDto> expected = Collections.singletonList(new CategoryDto("Food"));
+
+        ETaggedListDto<CategoryDto> first = categoryService.findAllCategoryDto();
+        ETaggedListDto<CategoryDto> second = categoryService.findAllCategoryDto();
+
+        assertEquals(expected, first.getItems());
+        assertEquals(ETagUtils.ofContent(expected), first.getEntityTag());
+        assertEquals(first, second);
+        verify(categoryRepo, times(1)).findAll();
+    }
+
+    @Test
+    public void saveInvalidatesCacheTest() {
+        Category category = Category.builder().name("Food").build();
+        when(categoryRepo.save(category)).thenReturn(category);
+
+        categoryService.findAllCategoryDto();
+        categoryService.save(category);
+        categoryService.findAllCategoryDto();
+
+        verify(categoryRepo, times(2)).findAll();
+    }
+
+    @Test
+    public void findAllByNamesTest() {
+        Category food = Category.builder().id(1L).name("Food").build();
+        Category drinks = Category.builder().id(2L).name("Drinks").build();
+        when(categoryRepo.findAll()).thenReturn(Collections.singletonList(food));
+        when(categoryRepo.findAllById(Collections.singleton(1L))).thenReturn(Collections.singletonList(food));
+        when(categoryRepo.findAllByNameIn(Collections.singleton("Drinks")))
+            .thenReturn(Collections.singletonList(drinks));
+
+        Map<String, Category> found = categoryService.findAllByNames(Arrays.asList("Food", "Drinks"));
+
+        assertEquals(food, found.get("Food"));
+        assertEquals(drinks, found.get("Drinks"));
+        verify(categoryRepo, never()).findByName(any());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findAllByNamesDeletedMeanwhileThrowsTest() {
+        when(categoryRepo.findAll())
+            .thenReturn(Collections.singletonList(Category.builder().id(1L).name("Food").build()));
+
+        categoryService.findAllByNames(Collections.singleton("Food"));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findAllByNamesNotFoundTest() {
+        categoryService.findAllByNames(Collections.singleton("Food"));
+    }
 }
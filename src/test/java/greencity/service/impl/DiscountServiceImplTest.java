@@ -2,11 +2,18 @@ package greencity.service.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import greencity.GreenCityApplication;
+import greencity.entity.Category;
 import greencity.entity.Discount;
+import greencity.entity.Place;
+import greencity.entity.Specification;
 import greencity.repository.DiscountRepo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,4 +49,48 @@ public class DiscountServiceImplTest {
 
         assertEquals(genericEntity, foundEntity);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updateAllByPlaceTouchesOnlyChangedRowsTest() {
+        Place place = Place.builder().id(1L).build();
+        Category food = Category.builder().id(1L).build();
+        Specification salad = Specification.builder().id(1L).name("Salad").build();
+        Specification soup = Specification.builder().id(2L).name("Soup").build();
+        Specification cake = Specification.builder().id(3L).name("Cake").build();
+        Specification tea = Specification.builder().id(4L).name("Tea").build();
+        Discount kept = Discount.builder().id(1L).value(10).category(food).specification(salad).place(place).build();
+        Discount changed = Discount.builder().id(2L).value(20).category(food).specification(soup).place(place).build();
+        Discount removed = Discount.builder().id(3L).value(30).category(food).specification(cake).place(place).build();
+        when(discountRepo.findAllByPlaceId(1L)).thenReturn(new HashSet<>(Arrays.asList(kept, changed, removed)));
+        Discount added = Discount.builder().value(40).category(food).specification(tea).build();
+
+        int touched = discountService.updateAllByPlace(place, Arrays.asList(
+            Discount.builder().value(10).category(food).specification(salad).build(),
+            Discount.builder().value(25).category(food).specification(soup).build(),
+            added));
+
+        assertEquals(3, touched);
+        assertEquals(10, kept.getValue());
+        assertEquals(25, changed.getValue());
+        assertEquals(place, added.getPlace());
+        assertEquals(3, discountService.getUpdatedRowCount());
+        verify(discountRepo).saveAll(Collections.singletonList(added));
+        verify(discountRepo).deleteAll(Collections.singletonList(removed));
+    }
+
+    @Test
+    public void updateAllByPlaceWithoutChangesTest() {
+        Place place = Place.builder().id(1L).build();
+        Category food = Category.builder().id(1L).build();
+        Specification salad = Specification.builder().id(1L).name("Salad").build();
+        Discount kept = Discount.builder().id(1L).value(10).category(food).specification(salad).place(place).build();
+        when(discountRepo.findAllByPlaceId(1L)).thenReturn(Collections.singleton(kept));
+
+        int touched = discountService.updateAllByPlace(place, Collections.singletonList(
+            Discount.builder().value(10).category(food).specification(salad).build()));
+
+        assertEquals(0, touched);
+        verify(discountRepo).saveAll(Collections.emptyList());
+        verify(discountRepo).deleteAll(Collections.emptyList());
+    }
+}
@@ -0,0 +1,140 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import javax.mail.internet.MimeMessage;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+public class EmailDispatcherImplTest {
+    private StubMailSender mailSender = new StubMailSender();
+    private EmailDispatcherImpl emailDispatcher;
+
+    @After
+    public void shutdown() {
+        mailSender.release.countDown();
+        if (emailDispatcher != null) {
+            emailDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void dispatchSendsMessagesInBatchesTest() {
+        emailDispatcher = new EmailDispatcherImpl(mailSender, 10, 1, 2, 3, 1, 100, new SimpleMeterRegistry());
+        emailDispatcher.start();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(emailDispatcher.dispatch(mailSender.createMimeMessage()));
+        }
+        emailDispatcher.shutdown();
+
+        assertEquals(5, emailDispatcher.getQueuedCount());
+        assertEquals(5, emailDispatcher.getSentCount());
+        assertEquals(5, mailSender.sent.size());
+        assertTrue(mailSender.batchSizes.stream().allMatch(size -> size <= 2));
+        emailDispatcher = null;
+    }
+
+    @Test
+    public void dispatchRetriesFailedMessageTest() throws InterruptedException {
+        emailDispatcher = new EmailDispatcherImpl(mailSender, 10, 1, 5, 3, 1, 100, new SimpleMeterRegistry());
+        emailDispatcher.start();
+        MimeMessage failing = mailSender.createMimeMessage();
+        mailSender.failures.put(failing, 1);
+
+        emailDispatcher.dispatch(failing);
+        emailDispatcher.dispatch(mailSender.createMimeMessage());
+
+        assertTrue(await(() -> emailDispatcher.getSentCount() == 2));
+        assertEquals(1, emailDispatcher.getRetriedCount());
+        assertEquals(0, emailDispatcher.getFailedCount());
+    }
+
+    @Test
+    public void dispatchFailsAfterMaxAttemptsTest() throws InterruptedException {
+        emailDispatcher = new EmailDispatcherImpl(mailSender, 10, 1, 5, 2, 1, 100, new SimpleMeterRegistry());
+        emailDispatcher.start();
+        MimeMessage failing = mailSender.createMimeMessage();
+        mailSender.failures.put(failing, Integer.MAX_VALUE);
+
+        emailDispatcher.dispatch(failing);
+
+        assertTrue(await(() -> emailDispatcher.getFailedCount() == 1));
+        assertEquals(1, emailDispatcher.getRetriedCount());
+        assertEquals(0, emailDispatcher.getSentCount());
+    }
+
+    @Test
+    public void dispatchRejectsWhenQueueIsFullTest() throws InterruptedException {
+        emailDispatcher = new EmailDispatcherImpl(mailSender, 1, 1, 1, 1, 1, 10, new SimpleMeterRegistry());
+        mailSender.blocking = true;
+        emailDispatcher.start();
+
+        assertTrue(emailDispatcher.dispatch(mailSender.createMimeMessage()));
+        assertTrue(mailSender.sending.await(5, TimeUnit.SECONDS));
+        assertTrue(emailDispatcher.dispatch(mailSender.createMimeMessage()));
+        assertFalse(emailDispatcher.dispatch(mailSender.createMimeMessage()));
+        assertEquals(1, emailDispatcher.getRejectedCount());
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Stand-in for the SMTP server which records sent messages and fails the configured ones.
+     */
+    private static class StubMailSender extends JavaMailSenderImpl {
+        private final List<MimeMessage> sent = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final Map<MimeMessage, Integer> failures = new ConcurrentHashMap<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            sending.countDown();
+            if (blocking) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batchSizes.add(mimeMessages.length);
+            Map<Object, Exception> failed = new ConcurrentHashMap<>();
+            for (MimeMessage message : mimeMessages) {
+                Integer remaining = failures.get(message);
+                if (remaining != null && remaining > 0) {
+                    failures.put(message, remaining - 1);
+                    failed.put(message, new IllegalStateException("failed"));
+                } else {
+                    sent.add(message);
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+        }
+    }
+}
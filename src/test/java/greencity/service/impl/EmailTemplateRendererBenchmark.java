@@ -0,0 +1,70 @@
+package greencity.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+/**
+ * Measures renders per second of the email templates by the template engine and by
+ * {@link EmailTemplateRendererImpl}.
+ * Run it by {@code org.openjdk.jmh.Main} with the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmailTemplateRendererBenchmark {
+    @Param({"email-change-place-status", "verify-email-page", "restore-email-page"})
+    private String template;
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRendererImpl renderer;
+    private Map<String, Object> shared;
+    private long recipientNumber;
+
+    /**
+     * Creates the template engine and the renderer.
+     */
+    @Setup
+    public void setUp() {
+        templateEngine = EmailTemplateRendererImplTest.templateEngine();
+        renderer = new EmailTemplateRendererImpl(templateEngine, 8);
+        shared = new HashMap<>();
+        shared.put("clientLink", "http://localhost:4200");
+        shared.put("status", "approved");
+    }
+
+    /**
+     * Renders the template by the template engine.
+     */
+    @Benchmark
+    public String engine() {
+        Context context = new Context();
+        context.setVariables(shared);
+        recipient(recipientNumber++).forEach(context::setVariable);
+        return templateEngine.process("email/" + template, context);
+    }
+
+    /**
+     * Renders the template by {@link EmailTemplateRendererImpl}.
+     */
+    @Benchmark
+    public String renderer() {
+        return renderer.render(template, shared, recipient(recipientNumber++));
+    }
+
+    private static Map<String, String> recipient(long i) {
+        Map<String, String> recipient = new HashMap<>();
+        recipient.put("placeName", "place " + i);
+        recipient.put("userFirstName", "first " + i);
+        recipient.put("userLastName", "last " + i);
+        recipient.put("verifyAddress", "http://localhost:8080/ownSecurity/verifyEmail?token=" + i);
+        recipient.put("restorePassword", "http://localhost:4200/auth/restore/" + i);
+        return recipient;
+    }
+}
@@ -0,0 +1,79 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+public class EmailTemplateRendererImplTest {
+    private SpringTemplateEngine templateEngine = templateEngine();
+    private EmailTemplateRendererImpl emailTemplateRenderer = new EmailTemplateRendererImpl(templateEngine, 8);
+
+    @Test
+    public void renderChangePlaceStatusTest() {
+        Map<String, String> recipient = new HashMap<>();
+        recipient.put("placeName", "Forum <\"Lviv\" & 'Co'>");
+        recipient.put("userFirstName", "Taras");
+        recipient.put("userLastName", "Shevchenko");
+        for (String status : new String[] {"approved", "declined"}) {
+            Map<String, Object> shared = new HashMap<>();
+            shared.put("clientLink", "http://localhost:4200");
+            shared.put("status", status);
+
+            assertRenderedAsByEngine("email-change-place-status", shared, recipient);
+            assertRenderedAsByEngine("email-change-place-status", shared, recipient);
+        }
+    }
+
+    @Test
+    public void renderVerifyEmailTest() {
+        Map<String, String> recipient = new HashMap<>();
+        recipient.put("userFirstName", "Леся");
+        recipient.put("verifyAddress", "http://localhost:8080/ownSecurity/verifyEmail?token=a&b=c");
+
+        assertRenderedAsByEngine("verify-email-page", shared(), recipient);
+        recipient.put("userFirstName", "Ivan");
+        assertRenderedAsByEngine("verify-email-page", shared(), recipient);
+    }
+
+    @Test
+    public void renderRestoreEmailTest() {
+        Map<String, String> recipient = new HashMap<>();
+        recipient.put("userFirstName", "Ivan");
+        recipient.put("restorePassword", "http://localhost:4200/auth/restore/token");
+
+        assertRenderedAsByEngine("restore-email-page", shared(), recipient);
+    }
+
+    private void assertRenderedAsByEngine(String templateName, Map<String, Object> shared,
+                                          Map<String, String> recipient) {
+        Context context = new Context();
+        context.setVariables(shared);
+        recipient.forEach(context::setVariable);
+
+        assertEquals(templateEngine.process("email/" + templateName, context),
+            emailTemplateRenderer.render(templateName, shared, recipient));
+    }
+
+    private static Map<String, Object> shared() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("clientLink", "http://localhost:4200");
+        return shared;
+    }
+
+    static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        return templateEngine;
+    }
+}
@@ -0,0 +1,53 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class FavoritePlaceIdCacheImplTest {
+    private final FavoritePlaceIdCacheImpl favoritePlaceIdCache = new FavoritePlaceIdCacheImpl(16, 60000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void getLoadsOnceTest() {
+        favoritePlaceIdCache.get("email", this::load);
+        Set<Long> placeIds = favoritePlaceIdCache.get("email", this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(Collections.singleton(1L), placeIds);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getReturnsUnmodifiableSetTest() {
+        favoritePlaceIdCache.get("email", this::load).add(2L);
+    }
+
+    @Test
+    public void evictReloadsTest() {
+        favoritePlaceIdCache.get("email", this::load);
+
+        favoritePlaceIdCache.evict("email");
+        favoritePlaceIdCache.get("email", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void idsInvalidatedWhileLoadingAreNotCachedTest() {
+        favoritePlaceIdCache.get("email", email -> {
+            favoritePlaceIdCache.evict(email);
+            return load(email);
+        });
+        favoritePlaceIdCache.get("email", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private Set<Long> load(String email) {
+        loads.incrementAndGet();
+        return Collections.singleton(1L);
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import greencity.GreenCityApplication;
 import greencity.dto.favoriteplace.FavoritePlaceDto;
+import greencity.dto.place.PlaceByBoundsDto;
 import greencity.dto.place.PlaceInfoDto;
 import greencity.entity.FavoritePlace;
 import greencity.entity.Place;
@@ -13,12 +14,17 @@ import greencity.exception.BadIdException;
 import greencity.exception.NotFoundException;
 import greencity.mapping.FavoritePlaceDtoMapper;
 import greencity.repository.FavoritePlaceRepo;
+import greencity.service.FavoritePlaceIdCache;
 import greencity.service.PlaceService;
 import greencity.service.UserService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +32,6 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.mockito.Mockito.times;
@@ -43,7 +48,7 @@ public class FavoritePlaceServiceImplTest {
     @Mock
     private FavoritePlaceDtoMapper favoritePlaceDtoMapper;
     @Mock
-    private ModelMapper modelMapper;
+    private FavoritePlaceIdCache favoritePlaceIdCache;
     @InjectMocks
     private FavoritePlaceServiceImpl favoritePlaceService;
 
@@ -76,6 +81,7 @@ public class FavoritePlaceServiceImplTest {
         verify(favoritePlaceDtoMapper, times(1)).convertToEntity(any(FavoritePlaceDto.class));
         verify(favoritePlaceDtoMapper, times(1)).convertToDto(any(FavoritePlace.class));
         verify(userService, times(1)).findIdByEmail(anyString());
+        verify(favoritePlaceIdCache).evict(userEmail);
         Assert.assertEquals(dto, dto2);
     }
 
@@ -132,6 +138,7 @@ public class FavoritePlaceServiceImplTest {
         Assert.assertEquals(fp.getId(), favoritePlaceService.deleteByUserEmailAndPlaceId(fp.getId(), userEmail));
         verify(repo, times(1)).findByPlaceIdAndUserEmail(anyLong(), anyString());
         verify(repo, times(1)).delete(any());
+        verify(favoritePlaceIdCache).evict(userEmail);
     }
 
     /**
@@ -184,20 +191,12 @@ public class FavoritePlaceServiceImplTest {
      */
     @Test
     public void findAllTest() {
-        List<FavoritePlace> favoritePlaces = new ArrayList<>();
-        FavoritePlace favoritePlace;
         List<FavoritePlaceDto> favoritePlaceDtos = new ArrayList<>();
-        FavoritePlaceDto favoritePlaceDto;
-        favoritePlace = new FavoritePlace();
-        favoritePlaceDto = new FavoritePlaceDto();
-        favoritePlaceDto.setName("a");
-        favoritePlaceDto.setPlaceId((long) 1);
+        FavoritePlaceDto favoritePlaceDto = new FavoritePlaceDto("a", 1L);
         for (long i = 0; i < 5; i++) {
-            favoritePlaces.add(favoritePlace);
             favoritePlaceDtos.add(favoritePlaceDto);
         }
-        when(repo.findAllByUserEmail(anyString())).thenReturn(favoritePlaces);
-        when(favoritePlaceDtoMapper.convertToDto(any(FavoritePlace.class))).thenReturn(favoritePlaceDto);
+        when(repo.findAllDtoByUserEmail(anyString())).thenReturn(favoritePlaceDtos);
         Assert.assertEquals(favoritePlaceDtos, favoritePlaceService.findAllByUserEmail("aas"));
     }
 
@@ -206,12 +205,44 @@ public class FavoritePlaceServiceImplTest {
      */
     @Test
     public void findAllWhenNotRecords() {
-        List result = new ArrayList();
-        when(repo.findAllByUserEmail(anyString())).thenReturn(result);
+        List<FavoritePlaceDto> result = new ArrayList<>();
+        when(repo.findAllDtoByUserEmail(anyString())).thenReturn(result);
         Assert.assertEquals(result, favoritePlaceService.findAllByUserEmail("aas"));
         favoritePlaceService.findAllByUserEmail("aas");
     }
 
+    @Test
+    public void findAllPlaceIdsByUserEmailLoadsIdsOnCacheMissTest() {
+        when(repo.findAllPlaceIdsByUserEmail("email")).thenReturn(Arrays.asList(1L, 2L));
+        when(favoritePlaceIdCache.get(eq("email"), any())).thenAnswer(
+            invocation -> invocation.<Function<String, Set<Long>>>getArgument(1).apply("email"));
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1L, 2L)),
+            favoritePlaceService.findAllPlaceIdsByUserEmail("email"));
+    }
+
+    @Test
+    public void findFavoritePlaceIdsTest() {
+        when(favoritePlaceIdCache.get(eq("email"), any())).thenReturn(new HashSet<>(Arrays.asList(1L, 3L, 5L)));
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1L, 5L)),
+            favoritePlaceService.findFavoritePlaceIds(Arrays.asList(1L, 2L, 5L), "email"));
+        verify(repo, never()).findAllPlaceIdsByUserEmail(anyString());
+    }
+
+    @Test
+    public void getFavoritePlaceWithLocationTest() {
+        PlaceByBoundsDto placeByBoundsDto = new PlaceByBoundsDto(1L, "abc", 2L, 50.45, 30.52, "Kyiv");
+        when(repo.findPlaceByBoundsDtoByPlaceIdAndUserEmail(1L, "email")).thenReturn(placeByBoundsDto);
+
+        Assert.assertEquals(placeByBoundsDto, favoritePlaceService.getFavoritePlaceWithLocation(1L, "email"));
+    }
+
+    @Test(expected = BadIdException.class)
+    public void getFavoritePlaceWithLocationNotExistTest() {
+        favoritePlaceService.getFavoritePlaceWithLocation(1L, "email");
+    }
+
     /**
      * @author Zakhar Skaletskyi
      */
@@ -224,9 +255,7 @@ public class FavoritePlaceServiceImplTest {
             .user(new User()).name("abc").build();
         FavoritePlace fp = new FavoritePlace();
         when(repo.findByPlaceId(anyLong())).thenReturn(favoritePlace);
-        when(modelMapper.map(any(Place.class), eq(PlaceInfoDto.class))).thenReturn(placeInfoDto);
-        when(placeService.findById(anyLong())).thenReturn(new Place());
-        when(placeService.averageRate(anyLong())).thenReturn(2.0);
+        when(placeService.getInfoById(1L)).thenReturn(placeInfoDto);
         Assert.assertEquals(placeInfoDto, favoritePlaceService.getInfoFavoritePlace(2L));
     }
 
@@ -0,0 +1,62 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class LastVisitTrackerImplTest {
+    private List<Object[]> flushed = new ArrayList<>();
+
+    private JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            flushed.addAll(batchArgs);
+            return new int[batchArgs.size()];
+        }
+    };
+
+    private LastVisitTrackerImpl lastVisitTracker = new LastVisitTrackerImpl(jdbcTemplate, new SimpleMeterRegistry());
+
+    @Test
+    public void flushCoalescesVisitsPerUserTest() {
+        lastVisitTracker.recordVisit(1L);
+        lastVisitTracker.recordVisit(1L);
+        lastVisitTracker.recordVisit(2L);
+        assertEquals(2, lastVisitTracker.getPendingCount());
+
+        lastVisitTracker.flush();
+
+        assertEquals(2, flushed.size());
+        assertEquals(0, lastVisitTracker.getPendingCount());
+    }
+
+    @Test
+    public void flushWithoutVisitsTest() {
+        lastVisitTracker.flush();
+
+        assertTrue(flushed.isEmpty());
+    }
+
+    @Test
+    public void failedFlushKeepsVisitsTest() {
+        LastVisitTrackerImpl failingTracker = new LastVisitTrackerImpl(new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                throw new IllegalStateException();
+            }
+        }, new SimpleMeterRegistry());
+        failingTracker.recordVisit(1L);
+        try {
+            failingTracker.flush();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals(1, failingTracker.getPendingCount());
+    }
+}
@@ -9,6 +9,7 @@ import greencity.GreenCityApplication;
 import greencity.entity.Location;
 import greencity.exception.NotFoundException;
 import greencity.repository.LocationRepo;
+import greencity.service.PlaceInfoCache;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +26,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 public class LocationServiceImplTest {
     @Mock
     private LocationRepo locationRepo;
+    @Mock
+    private PlaceInfoCache placeInfoCache;
     @InjectMocks
     private LocationServiceImpl locationService;
 
@@ -1,17 +1,33 @@
 package greencity.service.impl;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import greencity.GreenCityApplication;
+import greencity.constant.ErrorMessage;
+import greencity.entity.BreakTime;
 import greencity.entity.Category;
 import greencity.entity.OpeningHours;
+import greencity.entity.Place;
+import greencity.exception.BadRequestException;
 import greencity.exception.NotFoundException;
 import greencity.repository.OpenHoursRepo;
+import greencity.repository.PlaceRepo;
+import greencity.service.PlaceInfoCache;
+import greencity.util.OpeningHoursBitmap;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.Test;
@@ -26,6 +42,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 public class OpenHoursServiceImplTest {
     @Mock
     private OpenHoursRepo openHoursRepo;
+    @Mock
+    private PlaceRepo placeRepo;
+    @Mock
+    private PlaceInfoCache placeInfoCache;
     @InjectMocks
     private OpenHoursServiceImpl openHoursService;
 
@@ -95,4 +115,146 @@ public class OpenHoursServiceImplTest {
 
         assertEquals(genericEntities, foundEntities);
     }
+
+    @Test
+    public void deleteAllByPlaceIdUpdatesBitmapTest() {
+        when(openHoursRepo.findAllByPlaceId(1L)).thenReturn(Collections.emptySet());
+
+        openHoursService.deleteAllByPlaceId(1L);
+
+        verify(openHoursRepo).deleteAllByPlaceId(1L);
+        verify(placeRepo).updateOpeningHoursBitmap(eq(1L), eq(new byte[OpeningHoursBitmap.LENGTH]));
+    }
+
+    @Test
+    public void saveUpdatesBitmapOfPlaceTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours hours = OpeningHours.builder()
+            .weekDay(DayOfWeek.MONDAY)
+            .openTime(LocalTime.of(9, 0))
+            .closeTime(LocalTime.of(18, 0))
+            .place(place)
+            .build();
+        when(openHoursRepo.save(hours)).thenReturn(hours);
+        when(openHoursRepo.findAllByPlaceId(2L)).thenReturn(Collections.singleton(hours));
+
+        openHoursService.save(hours);
+
+        verify(placeRepo).updateOpeningHoursBitmap(2L, OpeningHoursBitmap.of(Collections.singleton(hours)));
+        verify(placeInfoCache).evict(2L);
+    }
+
+    @Test
+    public void updateMissingOpeningHoursBitmapsTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours hours = OpeningHours.builder()
+            .weekDay(DayOfWeek.MONDAY)
+            .openTime(LocalTime.of(9, 0))
+            .closeTime(LocalTime.of(18, 0))
+            .place(place)
+            .build();
+        when(placeRepo.findAllIdsWithoutOpeningHoursBitmap()).thenReturn(Arrays.asList(2L, 3L));
+        when(openHoursRepo.findAllWithBreakTimeByPlaceIdIn(Arrays.asList(2L, 3L)))
+            .thenReturn(Collections.singletonList(hours));
+
+        openHoursService.updateMissingOpeningHoursBitmaps();
+
+        verify(placeRepo).updateOpeningHoursBitmap(2L, OpeningHoursBitmap.of(Collections.singleton(hours)));
+        verify(placeRepo).updateOpeningHoursBitmap(3L, new byte[OpeningHoursBitmap.LENGTH]);
+    }
+
+    @Test
+    public void updateAllByPlaceTouchesOnlyChangedRowsTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours kept = hours(1L, DayOfWeek.MONDAY, 9, 18, place);
+        OpeningHours changed = hours(2L, DayOfWeek.TUESDAY, 9, 18, place);
+        OpeningHours removed = hours(3L, DayOfWeek.WEDNESDAY, 9, 18, place);
+        when(openHoursRepo.findAllWithBreakTimeByPlaceIdIn(Collections.singletonList(2L)))
+            .thenReturn(Arrays.asList(kept, changed, removed));
+        OpeningHours added = hours(null, DayOfWeek.THURSDAY, 9, 18, null);
+        OpeningHours tuesday = hours(null, DayOfWeek.TUESDAY, 10, 19, null);
+        tuesday.setBreakTime(BreakTime.builder().startTime(LocalTime.of(13, 0)).endTime(LocalTime.of(14, 0)).build());
+
+        int touched = openHoursService.updateAllByPlace(place, Arrays.asList(
+            hours(null, DayOfWeek.MONDAY, 9, 18, null), tuesday, added));
+
+        assertEquals(3, touched);
+        assertEquals(LocalTime.of(10, 0), changed.getOpenTime());
+        assertEquals(LocalTime.of(19, 0), changed.getCloseTime());
+        assertEquals(tuesday.getBreakTime(), changed.getBreakTime());
+        assertEquals(place, added.getPlace());
+        assertEquals(3, openHoursService.getUpdatedRowCount());
+        verify(openHoursRepo).saveAll(Collections.singletonList(added));
+        verify(openHoursRepo).deleteAll(Collections.singletonList(removed));
+        assertArrayEquals(OpeningHoursBitmap.of(Arrays.asList(kept, added, changed)), place.getOpeningHoursBitmap());
+        verify(placeInfoCache).evict(2L);
+    }
+
+    @Test
+    public void updateAllByPlaceRemovesBreakTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours monday = hours(1L, DayOfWeek.MONDAY, 9, 18, place);
+        monday.setBreakTime(BreakTime.builder().id(1L).startTime(LocalTime.of(13, 0)).endTime(LocalTime.of(14, 0))
+            .build());
+        when(openHoursRepo.findAllWithBreakTimeByPlaceIdIn(Collections.singletonList(2L)))
+            .thenReturn(Collections.singletonList(monday));
+
+        int touched = openHoursService.updateAllByPlace(place,
+            Collections.singletonList(hours(null, DayOfWeek.MONDAY, 9, 18, null)));
+
+        assertEquals(1, touched);
+        assertNull(monday.getBreakTime());
+    }
+
+    @Test
+    public void updateAllByPlaceWithoutChangesTest() {
+        Place place = Place.builder().id(2L).build();
+        when(openHoursRepo.findAllWithBreakTimeByPlaceIdIn(Collections.singletonList(2L)))
+            .thenReturn(Collections.singletonList(hours(1L, DayOfWeek.MONDAY, 9, 18, place)));
+
+        int touched = openHoursService.updateAllByPlace(place,
+            Collections.singletonList(hours(null, DayOfWeek.MONDAY, 9, 18, null)));
+
+        assertEquals(0, touched);
+        assertNull(place.getOpeningHoursBitmap());
+        verify(placeInfoCache, never()).evict(any());
+    }
+
+    @Test
+    public void updateAllByPlaceRejectsCloseTimeBeforeOpenTimeTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours monday = hours(1L, DayOfWeek.MONDAY, 9, 18, place);
+        when(openHoursRepo.findAllWithBreakTimeByPlaceIdIn(Collections.singletonList(2L)))
+            .thenReturn(Collections.singletonList(monday));
+
+        try {
+            openHoursService.updateAllByPlace(place, Arrays.asList(
+                hours(null, DayOfWeek.MONDAY, 18, 9, null), hours(null, DayOfWeek.TUESDAY, 9, 18, null)));
+            fail();
+        } catch (BadRequestException e) {
+            assertEquals(ErrorMessage.CLOSE_TIME_LATE_THAN_OPEN_TIME, e.getMessage());
+        }
+
+        assertEquals(LocalTime.of(9, 0), monday.getOpenTime());
+        verify(openHoursRepo, never()).saveAll(any());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void updateAllByPlaceRejectsBreakOutsideOpeningHoursTest() {
+        Place place = Place.builder().id(2L).build();
+        OpeningHours added = hours(null, DayOfWeek.MONDAY, 9, 18, null);
+        added.setBreakTime(BreakTime.builder().startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(10, 0)).build());
+
+        openHoursService.updateAllByPlace(place, Collections.singletonList(added));
+    }
+
+    private static OpeningHours hours(Long id, DayOfWeek weekDay, int openHour, int closeHour, Place place) {
+        return OpeningHours.builder()
+            .id(id)
+            .weekDay(weekDay)
+            .openTime(LocalTime.of(openHour, 0))
+            .closeTime(LocalTime.of(closeHour, 0))
+            .place(place)
+            .build();
+    }
 }
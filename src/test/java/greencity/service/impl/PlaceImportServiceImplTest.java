@@ -0,0 +1,88 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.dto.place.PlaceAddDto;
+import greencity.entity.Place;
+import greencity.exception.BadPlaceRequestException;
+import greencity.service.PlaceService;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Validation;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlaceImportServiceImplTest {
+    private static final String EMAIL = "admin@gmail.com";
+
+    @Mock
+    private PlaceService placeService;
+
+    private PlaceImportServiceImpl placeImportService;
+
+    @Before
+    public void init() {
+        placeImportService = new PlaceImportServiceImpl(2, new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), placeService);
+        when(placeService.saveAll(anyList(), eq(EMAIL))).thenAnswer(invocation -> {
+            List<PlaceAddDto> dtos = invocation.getArgument(0);
+            List<Place> places = new ArrayList<>();
+            dtos.forEach(dto -> places.add(Place.builder().name(dto.getName()).build()));
+            return places;
+        });
+    }
+
+    @Test
+    public void importPlacesSavesByChunksTest() {
+        long imported = placeImportService.importPlaces(json("[{\"name\":\"Forum\"},{\"name\":\"Cafe\"},"
+            + "{\"name\":\"Bar\"}]"), EMAIL);
+
+        assertEquals(3, imported);
+        verify(placeService, times(2)).saveAll(anyList(), eq(EMAIL));
+    }
+
+    @Test
+    public void importEmptyArrayTest() {
+        assertEquals(0, placeImportService.importPlaces(json("[]"), EMAIL));
+        verify(placeService, never()).saveAll(any(), any());
+    }
+
+    @Test(expected = BadPlaceRequestException.class)
+    public void importNotArrayTest() {
+        placeImportService.importPlaces(json("{\"name\":\"Forum\"}"), EMAIL);
+    }
+
+    @Test(expected = BadPlaceRequestException.class)
+    public void importMalformedJsonTest() {
+        placeImportService.importPlaces(json("[{\"name\":"), EMAIL);
+    }
+
+    @Test
+    public void importInvalidPlaceKeepsSavedChunksTest() {
+        try {
+            placeImportService.importPlaces(json("[{\"name\":\"Forum\"},{\"name\":\"Cafe\"},{\"name\":\"\"}]"), EMAIL);
+            fail();
+        } catch (BadPlaceRequestException e) {
+            assertTrue(e.getMessage().contains("index: 2"));
+        }
+        verify(placeService, times(1)).saveAll(anyList(), eq(EMAIL));
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
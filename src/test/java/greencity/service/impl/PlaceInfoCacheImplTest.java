@@ -0,0 +1,115 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import greencity.dto.comment.CommentDto;
+import greencity.dto.location.LocationDto;
+import greencity.dto.openhours.OpenHoursDto;
+import greencity.dto.place.PlaceInfoDto;
+import greencity.dto.specification.SpecificationValueDto;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class PlaceInfoCacheImplTest {
+    private final PlaceInfoCacheImpl placeInfoCache = new PlaceInfoCacheImpl(16, 60000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void getLoadsOnceTest() {
+        placeInfoCache.get(1L, null, this::load);
+        PlaceInfoDto placeInfoDto = placeInfoCache.get(1L, null, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals("Forum", placeInfoDto.getName());
+    }
+
+    @Test
+    public void getReturnsCopyTest() {
+        PlaceInfoDto first = placeInfoCache.get(1L, null, this::load);
+        first.setName("Changed");
+
+        PlaceInfoDto second = placeInfoCache.get(1L, null, this::load);
+
+        assertNotSame(first, second);
+        assertEquals("Forum", second.getName());
+    }
+
+    @Test
+    public void changingReturnedLocationAndListsDoesNotChangeCacheTest() {
+        PlaceInfoDto first = placeInfoCache.get(1L, null, this::load);
+        first.getLocation().setAddress("Changed");
+        first.getOpeningHoursList().clear();
+        first.getSpecificationValues().clear();
+        first.getComments().clear();
+
+        PlaceInfoDto second = placeInfoCache.get(1L, null, this::load);
+
+        assertEquals("Pid Dubom St, 7B", second.getLocation().getAddress());
+        assertEquals(1, second.getOpeningHoursList().size());
+        assertEquals(1, second.getSpecificationValues().size());
+        assertEquals(1, second.getComments().size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void evictReloadsTest() {
+        placeInfoCache.get(1L, null, this::load);
+
+        placeInfoCache.evict(1L);
+        placeInfoCache.get(1L, null, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictNullIsIgnoredTest() {
+        placeInfoCache.get(1L, null, this::load);
+
+        placeInfoCache.evict(null);
+        placeInfoCache.get(1L, null, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void placeInvalidatedWhileLoadingIsNotCachedTest() {
+        placeInfoCache.get(1L, null, id -> {
+            placeInfoCache.evict(id);
+            return load(id);
+        });
+        placeInfoCache.get(1L, null, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void getReloadsOtherVersionTest() {
+        placeInfoCache.get(1L, 1L, this::load);
+        placeInfoCache.get(1L, 1L, this::load);
+
+        PlaceInfoDto placeInfoDto = placeInfoCache.get(1L, 2L, id -> {
+            PlaceInfoDto loaded = load(id);
+            loaded.setVersion(2L);
+            return loaded;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(Long.valueOf(2), placeInfoDto.getVersion());
+    }
+
+    private PlaceInfoDto load(Long id) {
+        loads.incrementAndGet();
+        PlaceInfoDto placeInfoDto = new PlaceInfoDto();
+        placeInfoDto.setId(id);
+        placeInfoDto.setName("Forum");
+        placeInfoDto.setVersion(1L);
+        placeInfoDto.setLocation(new LocationDto(1L, 49.84, 24.03, "Pid Dubom St, 7B"));
+        placeInfoDto.setOpeningHoursList(new ArrayList<>(Collections.singletonList(new OpenHoursDto())));
+        placeInfoDto.setSpecificationValues(new ArrayList<>(Collections.singletonList(new SpecificationValueDto())));
+        placeInfoDto.setComments(new ArrayList<>(Collections.singletonList(new CommentDto())));
+        return placeInfoDto;
+    }
+}
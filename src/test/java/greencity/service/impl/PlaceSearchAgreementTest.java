@@ -0,0 +1,116 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import greencity.dto.filter.FilterPlaceDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.repository.PlaceRepo;
+import greencity.repository.options.PlaceFilter;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Checks that {@link PlaceSearchIndexImpl} and the database search by {@link PlaceFilter}
+ * select the same places.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@TestPropertySource(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+public class PlaceSearchAgreementTest {
+    private static final List<String> SEARCHES = Arrays.asList(
+        "%lviv%", "%LVI%", "%roiss%", "%lviv coffee%", "%nazar.stasyuk@gmail%", "%stasyuk%",
+        "%khmel%", "%square 10%", "%7b%", "%%", "%2019-09%", "01.10.2019", "%2019%", "%missing%");
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PlaceRepo placeRepo;
+
+    private PlaceSearchIndexImpl placeSearchIndex;
+
+    @Before
+    public void init() {
+        User nazar = persistUser("nazar.stasyuk@gmail.com");
+        User rostyslav = persistUser("rostyslav@gmail.com");
+        Category food = entityManager.persist(Category.builder().name("Food").build());
+        Category coffee = entityManager.persist(Category.builder().name("Coffee").build());
+        persistPlace("Forum", nazar, food, "Lviv, Pid Dubom St, 7B", PlaceStatus.APPROVED,
+            LocalDateTime.of(2019, 9, 12, 10, 0));
+        persistPlace("Lviv Croissants", rostyslav, coffee, "Lviv, Rynok Square, 10", PlaceStatus.APPROVED,
+            LocalDateTime.of(2019, 10, 1, 12, 0));
+        persistPlace("Kyivska perepichka", nazar, coffee, "Kyiv, Bohdana Khmelnytskoho St, 3",
+            PlaceStatus.PROPOSED, LocalDateTime.of(2019, 9, 20, 8, 0));
+        persistPlace("Lviv Handmade Chocolate", rostyslav, food, "Lviv, Serbska St, 3", PlaceStatus.DECLINED,
+            LocalDateTime.of(2019, 9, 30, 23, 59));
+        entityManager.flush();
+        entityManager.clear();
+        placeSearchIndex = new PlaceSearchIndexImpl(placeRepo);
+        placeSearchIndex.rebuild();
+    }
+
+    @Test
+    public void indexAndDatabaseSelectSamePlacesTest() {
+        for (PlaceStatus status : Arrays.asList(null, PlaceStatus.APPROVED, PlaceStatus.PROPOSED,
+            PlaceStatus.DECLINED)) {
+            for (String search : SEARCHES) {
+                assertEquals(search + " " + status, database(search, status), index(search, status));
+            }
+        }
+    }
+
+    private List<Long> database(String search, PlaceStatus status) {
+        FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+        filterPlaceDto.setSearchReg(search);
+        filterPlaceDto.setStatus(status);
+        return placeRepo.findAll(new PlaceFilter(filterPlaceDto)).stream()
+            .map(Place::getId)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private List<Long> index(String search, PlaceStatus status) {
+        return placeSearchIndex.search(search, status, Pageable.unpaged()).get().getContent();
+    }
+
+    private User persistUser(String email) {
+        return entityManager.persist(User.builder()
+            .firstName("First")
+            .lastName("Last")
+            .email(email)
+            .role(ROLE.ROLE_USER)
+            .lastVisit(LocalDateTime.now())
+            .dateOfRegistration(LocalDateTime.now())
+            .build());
+    }
+
+    private void persistPlace(String name, User author, Category category, String address, PlaceStatus status,
+                              LocalDateTime modifiedDate) {
+        entityManager.persist(Place.builder()
+            .name(name)
+            .author(author)
+            .category(category)
+            .location(Location.builder().lat(49.8 + name.length() / 100.0).lng(24.0 + name.length() / 100.0)
+                .address(address).build())
+            .status(status)
+            .modifiedDate(modifiedDate)
+            .build());
+    }
+}
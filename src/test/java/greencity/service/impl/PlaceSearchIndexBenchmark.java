@@ -0,0 +1,85 @@
+package greencity.service.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import greencity.dto.place.PlaceSearchDocumentDto;
+import greencity.entity.enums.PlaceStatus;
+import greencity.repository.PlaceRepo;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Measures a page of admin search answered by {@link PlaceSearchIndexImpl}. Places are generated
+ * with a few thousand authors, streets and name words, so the dictionary has realistic repetitions.
+ * Run it by {@code org.openjdk.jmh.Main} with the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlaceSearchIndexBenchmark {
+    private static final String[] CITIES = {"Lviv", "Kyiv", "Odesa", "Kharkiv", "Dnipro", "Rivne", "Lutsk"};
+    private static final String[] CATEGORIES = {"Food", "Coffee", "Bakery", "Restaurant", "Bar", "Shop",
+        "Pharmacy", "Market"};
+
+    @Param({"500000"})
+    private int placeCount;
+
+    @Param({"%lviv%", "%roissant%", "%kyiv coffee%", "%user123@%", "%2019-09%"})
+    private String searchReg;
+
+    private PlaceSearchIndexImpl placeSearchIndex;
+    private Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "modifiedDate"));
+
+    /**
+     * Generates the places and builds the index.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(placeCount);
+        List<PlaceSearchDocumentDto> documents = new ArrayList<>(placeCount);
+        for (long id = 1; id <= placeCount; id++) {
+            String city = CITIES[random.nextInt(CITIES.length)];
+            documents.add(new PlaceSearchDocumentDto(id,
+                random.nextInt(10) == 0 ? PlaceStatus.PROPOSED : PlaceStatus.APPROVED,
+                LocalDateTime.of(2019, 1, 1, 0, 0).plusMinutes(random.nextInt(600_000)),
+                "user" + random.nextInt(5000) + "@gmail.com",
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                word(random) + " " + word(random) + " " + (random.nextBoolean() ? "Croissant" : id),
+                city + ", " + word(random) + " St, " + random.nextInt(200)));
+        }
+        PlaceRepo placeRepo = mock(PlaceRepo.class);
+        when(placeRepo.findAllPlaceSearchDocumentDto()).thenReturn(documents);
+        placeSearchIndex = new PlaceSearchIndexImpl(placeRepo);
+        placeSearchIndex.rebuild();
+    }
+
+    /**
+     * Answers the first page of the search sorted by modification date.
+     */
+    @Benchmark
+    public Page<Long> search() {
+        return placeSearchIndex.search(searchReg, null, pageable).get();
+    }
+
+    private static String word(Random random) {
+        int length = 4 + random.nextInt(6);
+        StringBuilder word = new StringBuilder(length);
+        word.append((char) ('A' + random.nextInt(26)));
+        for (int i = 1; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
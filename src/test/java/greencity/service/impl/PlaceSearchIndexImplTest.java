@@ -0,0 +1,117 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.when;
+
+import greencity.dto.place.PlaceSearchDocumentDto;
+import greencity.entity.enums.PlaceStatus;
+import greencity.repository.PlaceRepo;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlaceSearchIndexImplTest {
+    @Mock
+    private PlaceRepo placeRepo;
+
+    @InjectMocks
+    private PlaceSearchIndexImpl placeSearchIndex;
+
+    @Before
+    public void init() {
+        when(placeRepo.findAllPlaceSearchDocumentDto()).thenReturn(Arrays.asList(
+            document(1L, PlaceStatus.APPROVED, LocalDateTime.of(2019, 9, 12, 10, 0),
+                "nazar.stasyuk@gmail.com", "Food", "Forum", "Lviv, Pid Dubom St, 7B"),
+            document(2L, PlaceStatus.APPROVED, LocalDateTime.of(2019, 10, 1, 12, 0),
+                "rostyslav@gmail.com", "Coffee", "Lviv Croissants", "Lviv, Rynok Square, 10"),
+            document(3L, PlaceStatus.PROPOSED, LocalDateTime.of(2019, 9, 20, 8, 0),
+                "nazar.stasyuk@gmail.com", "Coffee", "Kyivska perepichka", "Kyiv, Bohdana Khmelnytskoho St, 3"),
+            document(4L, PlaceStatus.APPROVED, LocalDateTime.of(2019, 9, 30, 23, 59),
+                null, null, "Lviv Handmade Chocolate", null)));
+        placeSearchIndex.rebuild();
+    }
+
+    @Test
+    public void searchByPartOfWordTest() {
+        Page<Long> found = placeSearchIndex.search("%lvi%", PlaceStatus.APPROVED, PageRequest.of(0, 10)).get();
+
+        assertEquals(Arrays.asList(1L, 2L, 4L), found.getContent());
+        assertEquals(3, found.getTotalElements());
+    }
+
+    @Test
+    public void searchByInnerPartOfWordTest() {
+        assertEquals(Collections.singletonList(2L), ids("%ROISS%", PlaceStatus.APPROVED));
+        assertEquals(Collections.singletonList(3L), ids("%stasyuk%", PlaceStatus.PROPOSED));
+    }
+
+    @Test
+    public void searchRequiresEveryWordTest() {
+        assertEquals(Collections.singletonList(2L),
+            ids("%lviv coffee%", PlaceStatus.APPROVED));
+        assertEquals(Collections.singletonList(3L),
+            ids("%nazar.stasyuk@gmail%", PlaceStatus.PROPOSED));
+    }
+
+    @Test
+    public void searchWithNullStatusSelectsApprovedTest() {
+        assertEquals(Collections.singletonList(1L), ids("%nazar%", null));
+    }
+
+    @Test
+    public void searchByDateRangeTest() {
+        assertEquals(Arrays.asList(1L, 4L), ids("%2019-09%", PlaceStatus.APPROVED));
+        assertEquals(Collections.singletonList(2L), ids("01.10.2019", PlaceStatus.APPROVED));
+    }
+
+    @Test
+    public void searchPageSortedByModifiedDateTest() {
+        PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "modifiedDate"));
+
+        Page<Long> found = placeSearchIndex.search("%%", PlaceStatus.APPROVED, pageable).get();
+
+        assertEquals(Collections.singletonList(1L), found.getContent());
+        assertEquals(3, found.getTotalElements());
+    }
+
+    @Test
+    public void searchWithUnsupportedSortTest() {
+        assertFalse(placeSearchIndex
+            .search("%lviv%", PlaceStatus.APPROVED, PageRequest.of(0, 10, Sort.by("name"))).isPresent());
+    }
+
+    @Test
+    public void updateAllTest() {
+        List<Long> ids = Arrays.asList(2L, 4L);
+        when(placeRepo.findAllPlaceSearchDocumentDtoByIdIn(ids)).thenReturn(Collections.singletonList(
+            document(2L, PlaceStatus.DELETED, LocalDateTime.of(2019, 10, 2, 12, 0),
+                "rostyslav@gmail.com", "Coffee", "Lviv Croissants", "Lviv, Rynok Square, 10")));
+
+        placeSearchIndex.updateAll(ids);
+
+        assertEquals(Collections.singletonList(1L), ids("%lviv%", PlaceStatus.APPROVED));
+        assertEquals(Collections.singletonList(2L), ids("%croi%", PlaceStatus.DELETED));
+        assertEquals(3, placeSearchIndex.size());
+    }
+
+    private List<Long> ids(String searchReg, PlaceStatus status) {
+        return placeSearchIndex.search(searchReg, status, PageRequest.of(0, 10)).get().getContent();
+    }
+
+    private PlaceSearchDocumentDto document(Long id, PlaceStatus status, LocalDateTime modifiedDate,
+                                            String email, String category, String name, String address) {
+        return new PlaceSearchDocumentDto(id, status, modifiedDate, email, category, name, address);
+    }
+}
@@ -0,0 +1,159 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import greencity.config.MapperConfig;
+import greencity.dto.PageableDto;
+import greencity.dto.place.AdminPlaceDto;
+import greencity.dto.place.PlaceInfoDto;
+import greencity.dto.place.PlaceUpdateDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.mapping.*;
+import greencity.repository.SqlStatementBudget;
+import greencity.repository.SqlStatementBudgetRule;
+import greencity.service.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Checks that read paths of {@link PlaceServiceImpl} load places by their fetch plans.
+ * Budgets are the measured counts. Besides the fetch plan query they include the statements Hibernate always
+ * runs for inverse one-to-one associations of the author, and for the info dto the comments, specification
+ * values and the rate. They do not grow with the count of opening hours.
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Import({PlaceServiceImpl.class, PlaceInfoCacheImpl.class, MapperConfig.class, SimpleMeterRegistry.class,
+    AdminPlaceDtoMapper.class, LocationDtoMapper.class, CategoryDtoMapper.class, OpenHoursDtoMapper.class,
+    PlaceAuthorDtoMapper.class})
+@TestPropertySource(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+    "spring.jpa.properties.hibernate.default_batch_fetch_size=50",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "greencity.repository.SqlStatementCounter"
+})
+public class PlaceServiceFetchPlanTest {
+    @Rule
+    public SqlStatementBudgetRule sqlStatementBudget = new SqlStatementBudgetRule();
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PlaceService placeService;
+
+    @MockBean
+    private CategoryService categoryService;
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private SpecificationService specificationService;
+    @MockBean
+    private EmailService emailService;
+    @MockBean
+    private DiscountService discountService;
+    @MockBean
+    private OpenHoursService openHoursService;
+    @MockBean
+    private LocationService locationService;
+    @MockBean
+    private PlaceSpatialIndex placeSpatialIndex;
+    @MockBean
+    private PlaceSearchIndex placeSearchIndex;
+
+    private Long placeId;
+
+    @Before
+    public void init() {
+        User author = entityManager.persist(User.builder()
+            .firstName("Roman")
+            .lastName("Zahorui")
+            .email("author@gmail.com")
+            .role(ROLE.ROLE_ADMIN)
+            .lastVisit(LocalDateTime.now())
+            .dateOfRegistration(LocalDateTime.now())
+            .build());
+        Category food = entityManager.persist(Category.builder().name("Food").build());
+        Specification salad = entityManager.persist(Specification.builder().name("Salad").build());
+        Place forum = persistPlace("Forum", author, food, 50.45, 30.52);
+        persistPlace("Cafe", author, food, 49.84, 24.03);
+        persistPlace("Bar", author, food, 48.62, 22.29);
+        entityManager.persist(Discount.builder().place(forum).category(food).specification(salad).value(10).build());
+        entityManager.flush();
+        entityManager.clear();
+        placeId = forum.getId();
+    }
+
+    @Test
+    @SqlStatementBudget(7)
+    public void getInfoByIdLoadsPlaceByInfoFetchPlan() {
+        PlaceInfoDto placeInfoDto = sqlStatementBudget.measure(() -> placeService.getInfoById(placeId));
+
+        assertEquals("Forum", placeInfoDto.getName());
+        assertEquals(2, placeInfoDto.getOpeningHoursList().size());
+    }
+
+    @Test
+    @SqlStatementBudget(4)
+    public void getInfoForUpdatingByIdLoadsPlaceByUpdateFetchPlan() {
+        PlaceUpdateDto placeUpdateDto = sqlStatementBudget.measure(() -> placeService.getInfoForUpdatingById(placeId));
+
+        assertEquals(2, placeUpdateDto.getOpeningHoursList().size());
+        assertEquals(1, placeUpdateDto.getDiscounts().size());
+    }
+
+    @Test
+    @SqlStatementBudget(5)
+    @SuppressWarnings("unchecked")
+    public void getPlacesByStatusLoadsPageByAdminFetchPlan() {
+        PageableDto<AdminPlaceDto> page = sqlStatementBudget.measure(
+            () -> placeService.getPlacesByStatus(PlaceStatus.APPROVED, PageRequest.of(0, 10)));
+
+        assertEquals(3, page.getPage().size());
+        page.getPage().forEach(place -> assertEquals(2, place.getOpeningHoursList().size()));
+    }
+
+    private Place persistPlace(String name, User author, Category category, double lat, double lng) {
+        Place place = Place.builder()
+            .name(name)
+            .author(author)
+            .category(category)
+            .location(Location.builder().lat(lat).lng(lng).address(name).build())
+            .status(PlaceStatus.APPROVED)
+            .modifiedDate(LocalDateTime.now())
+            .build();
+        place.setOpeningHoursList(new HashSet<>(Arrays.asList(
+            openingHours(place, DayOfWeek.MONDAY),
+            openingHours(place, DayOfWeek.TUESDAY))));
+        return entityManager.persist(place);
+    }
+
+    private static OpeningHours openingHours(Place place, DayOfWeek weekDay) {
+        return OpeningHours.builder()
+            .weekDay(weekDay)
+            .openTime(LocalTime.of(9, 0))
+            .closeTime(LocalTime.of(18, 0))
+            .place(place)
+            .build();
+    }
+}
@@ -5,22 +5,36 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import greencity.constant.AppConstant;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
 import greencity.dto.category.CategoryDto;
 import greencity.dto.discount.DiscountDto;
+import greencity.dto.filter.FilterClusterDto;
+import greencity.dto.filter.FilterDistanceDto;
+import greencity.dto.filter.FilterPlaceDto;
 import greencity.dto.location.LocationAddressAndGeoDto;
+import greencity.dto.location.MapBoundsDto;
 import greencity.dto.openhours.OpeningHoursDto;
 import greencity.dto.place.*;
+import greencity.dto.specification.SpecificationNameDto;
 import greencity.entity.*;
 import greencity.entity.enums.PlaceStatus;
 import greencity.entity.enums.ROLE;
 import greencity.exception.NotFoundException;
 import greencity.exception.PlaceStatusException;
+import greencity.exception.PlaceVersionMismatchException;
+import greencity.mapping.AdminPlaceDtoMapper;
 import greencity.repository.CategoryRepo;
 import greencity.repository.PlaceRepo;
+import greencity.repository.options.PlaceFilter;
 import greencity.service.*;
+import greencity.util.KeysetCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -32,12 +46,14 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
 @RunWith(MockitoJUnitRunner.class)
@@ -151,9 +167,113 @@ public class PlaceServiceImplTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @Mock
+    private PlaceSearchIndex placeSearchIndex;
+
+    @Spy
+    private PlaceInfoCache placeInfoCache = new PlaceInfoCacheImpl(16, 60000);
+
+    @Mock
+    private AdminPlaceDtoMapper adminPlaceDtoMapper;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PlaceServiceImpl placeService;
 
+    @Test
+    public void saveAllTest() {
+        PlaceAddDto second = PlaceAddDto.builder()
+            .name("Second")
+            .category(categoryDto)
+            .location(locationDto)
+            .openingHoursList(openingHoursList)
+            .discounts(discountDtos)
+            .build();
+        Place secondPlace = Place.builder()
+            .id(2L)
+            .name("Second")
+            .openingHoursList(new HashSet<>())
+            .discounts(new HashSet<>())
+            .build();
+        List<Place> places = Arrays.asList(place, secondPlace);
+        when(userService.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(categoryService.findAllByNames(Collections.singleton("test")))
+            .thenReturn(Collections.singletonMap("test", category));
+        when(specificationService.findAllByNames(Collections.emptySet())).thenReturn(Collections.emptyMap());
+        when(modelMapper.map(dto, Place.class)).thenReturn(place);
+        when(modelMapper.map(second, Place.class)).thenReturn(secondPlace);
+        when(modelMapper.map(locationDto, Location.class)).thenReturn(location);
+        when(placeRepo.saveAll(places)).thenReturn(places);
+
+        assertEquals(places, placeService.saveAll(Arrays.asList(dto, second), user.getEmail()));
+        assertEquals(category, secondPlace.getCategory());
+        assertEquals(user, secondPlace.getAuthor());
+        verify(categoryService, never()).findByName(any());
+        verify(placeSpatialIndex, times(2)).update(any(Place.class));
+        verify(placeSearchIndex).updateAll(Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    public void updateWritesOnlyChangedChildRowsTest() {
+        DiscountDto discountDto = new DiscountDto(10, new SpecificationNameDto("Salad"));
+        OpeningHoursDto openingHoursDto = new OpeningHoursDto(LocalTime.of(9, 0), LocalTime.of(18, 0),
+            DayOfWeek.MONDAY, null);
+        PlaceUpdateDto placeUpdateDto = PlaceUpdateDto.builder()
+            .id(1L)
+            .name("Updated")
+            .category(categoryDto)
+            .openingHoursList(Collections.singleton(openingHoursDto))
+            .discounts(Collections.singleton(discountDto))
+            .build();
+        Specification salad = Specification.builder().id(1L).name("Salad").build();
+        when(categoryService.findByName("test")).thenReturn(category);
+        when(placeRepo.findAndIncrementVersionById(1L)).thenReturn(Optional.of(place));
+        when(specificationService.findAllByNames(Collections.singleton("Salad")))
+            .thenReturn(Collections.singletonMap("Salad", salad));
+        when(modelMapper.map(discountDto, Discount.class)).thenReturn(new Discount());
+        when(modelMapper.map(openingHoursDto, OpeningHours.class)).thenReturn(openingHoursEntity);
+        when(openingHoursService.updateAllByPlace(eq(place), any())).thenReturn(0);
+        when(discountService.updateAllByPlace(eq(place), any())).thenReturn(1);
+
+        assertEquals(place, placeService.update(placeUpdateDto, null));
+        assertEquals("Updated", place.getName());
+        verify(openingHoursService).updateAllByPlace(place, Collections.singletonList(openingHoursEntity));
+        verify(discountService).updateAllByPlace(place, Collections.singletonList(Discount.builder()
+            .category(category)
+            .specification(salad)
+            .build()));
+        verify(discountService, never()).deleteAllByPlaceId(anyLong());
+        verify(openingHoursService, never()).deleteAllByPlaceId(anyLong());
+    }
+
+    @Test(expected = PlaceVersionMismatchException.class)
+    public void updateOfChangedVersionTest() {
+        Place changed = Place.builder().id(1L).version(3L).build();
+        when(placeRepo.findAndIncrementVersionById(1L)).thenReturn(Optional.of(changed));
+
+        placeService.update(PlaceUpdateDto.builder().id(1L).category(categoryDto).build(), 2L);
+    }
+
+    @Test
+    public void getVersionByIdTest() {
+        when(placeRepo.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        assertEquals(Long.valueOf(3), placeService.getVersionById(1L));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void getVersionByIdNotFoundTest() {
+        placeService.getVersionById(1L);
+    }
+
     @Test
     public void deleteByIdTest() {
         Place placeToDelete = new Place();
@@ -194,12 +314,47 @@ public class PlaceServiceImplTest {
         pageableDto.setPage(listDto);
 
         when(placeRepo.findAllByStatusOrderByModifiedDateDesc(any(), any())).thenReturn(placesPage);
-        when(modelMapper.map(any(), any())).thenReturn(dto);
+        when(adminPlaceDtoMapper.convertToDto(any())).thenReturn(dto);
 
         Assert.assertEquals(pageableDto, placeService.getPlacesByStatus(any(), any()));
         verify(placeRepo, times(1)).findAllByStatusOrderByModifiedDateDesc(any(), any());
     }
 
+    @Test
+    public void getPlacesByStatusAfterCursorTest() {
+        LocalDateTime modifiedDate = LocalDateTime.of(2019, 9, 12, 10, 0);
+        Place first = Place.builder().id(5L).modifiedDate(modifiedDate).build();
+        Place second = Place.builder().id(4L).modifiedDate(modifiedDate).build();
+        Place third = Place.builder().id(3L).modifiedDate(modifiedDate.minusDays(1)).build();
+        AdminPlaceDto dto = new AdminPlaceDto();
+        when(placeRepo.findAll(any(org.springframework.data.jpa.domain.Specification.class), any(), eq(3)))
+            .thenReturn(Arrays.asList(first, second, third));
+        when(adminPlaceDtoMapper.convertToDto(any())).thenReturn(dto);
+
+        CursorPageDto<AdminPlaceDto> result =
+            placeService.getPlacesByStatus(PlaceStatus.PROPOSED, new KeysetCursor(modifiedDate, 6L), 2, false);
+
+        assertEquals(Arrays.asList(dto, dto), result.getPage());
+        assertEquals(new KeysetCursor(modifiedDate, 4L), KeysetCursor.decode(result.getNextCursor()));
+        Assert.assertNull(result.getTotalElements());
+        verify(placeRepo, never()).countByStatus(any());
+    }
+
+    @Test
+    public void getPlacesByStatusLastPageWithTotalTest() {
+        Place place = Place.builder().id(1L).build();
+        when(placeRepo.findAll(any(org.springframework.data.jpa.domain.Specification.class), any(), eq(3)))
+            .thenReturn(Collections.singletonList(place));
+        when(placeRepo.countByStatus(PlaceStatus.APPROVED)).thenReturn(7L);
+
+        CursorPageDto<AdminPlaceDto> result =
+            placeService.getPlacesByStatus(PlaceStatus.APPROVED, null, 2, true);
+
+        assertEquals(1, result.getPage().size());
+        Assert.assertNull(result.getNextCursor());
+        assertEquals(Long.valueOf(7L), result.getTotalElements());
+    }
+
     @Test(expected = PlaceStatusException.class)
     public void updateStatusGivenTheSameStatusThenThrowException() {
         Place genericEntity = Place.builder().status(PlaceStatus.PROPOSED).build();
@@ -229,13 +384,25 @@ public class PlaceServiceImplTest {
     @Test
     public void getInfoByIdTest() {
         PlaceInfoDto gen = new PlaceInfoDto();
-        when(placeRepo.findById(anyLong())).thenReturn(Optional.of(place));
+        when(placeRepo.findWithInfoById(anyLong())).thenReturn(Optional.of(place));
         when(modelMapper.map(any(), any())).thenReturn(gen);
         when(placeRepo.getAverageRate(anyLong())).thenReturn(1.5);
-        PlaceInfoDto res = placeService.getInfoById(anyLong());
+        PlaceInfoDto res = placeService.getInfoById(1L);
         assertEquals(gen, res);
     }
 
+    @Test
+    public void getInfoByIdOpensTransactionOnlyOnCacheMissTest() {
+        when(placeRepo.findWithInfoById(1L)).thenReturn(Optional.of(place));
+        when(modelMapper.map(place, PlaceInfoDto.class)).thenReturn(new PlaceInfoDto());
+
+        placeService.getInfoById(1L);
+        placeService.getInfoById(1L);
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(placeRepo, times(1)).findWithInfoById(1L);
+    }
+
     @Test(expected = NotFoundException.class)
     public void getInfoByIdNotFoundTest() {
         placeService.getInfoById(null);
@@ -265,26 +432,178 @@ public class PlaceServiceImplTest {
     @Test
     public void updateStatusesTest() {
         BulkUpdatePlaceStatusDto requestDto = new BulkUpdatePlaceStatusDto(
-            Arrays.asList(1L, 2L, 3L),
-            PlaceStatus.DELETED
+            Arrays.asList(1L, 2L, 3L, 4L, 1L),
+            PlaceStatus.APPROVED
         );
+        Place proposed = Place.builder().id(1L).status(PlaceStatus.PROPOSED).author(user).build();
+
+        when(placeRepo.findAllStatusesByIdIn(any())).thenReturn(Arrays.asList(
+            new UpdatePlaceStatusDto(1L, PlaceStatus.PROPOSED),
+            new UpdatePlaceStatusDto(2L, PlaceStatus.DECLINED),
+            new UpdatePlaceStatusDto(3L, PlaceStatus.APPROVED)));
+        when(placeRepo.findAllWithAuthorByIdIn(Collections.singletonList(1L)))
+            .thenReturn(Collections.singletonList(proposed));
+
+        BulkUpdatePlaceStatusResultDto result = placeService.updateStatuses(requestDto);
+
+        assertEquals(Arrays.asList(
+            new UpdatePlaceStatusDto(1L, PlaceStatus.APPROVED),
+            new UpdatePlaceStatusDto(2L, PlaceStatus.APPROVED)), result.getUpdated());
+        assertEquals(Collections.singletonList(3L), result.getUnchanged());
+        assertEquals(Collections.singletonList(4L), result.getNotFound());
+        verify(placeRepo).updateStatuses(eq(Arrays.asList(1L, 2L)), eq(PlaceStatus.APPROVED), any());
+        verify(placeSpatialIndex).updateAll(Arrays.asList(1L, 2L));
+        verify(placeSearchIndex).updateAll(Arrays.asList(1L, 2L));
+        verify(emailService).sendChangePlaceStatusEmail(proposed, PlaceStatus.APPROVED);
+        verify(placeRepo, never()).save(any());
+    }
 
-        List<UpdatePlaceStatusDto> expected = Arrays.asList(
-            new UpdatePlaceStatusDto(1L, PlaceStatus.DELETED),
-            new UpdatePlaceStatusDto(2L, PlaceStatus.DELETED),
-            new UpdatePlaceStatusDto(3L, PlaceStatus.DELETED)
-        );
+    @Test
+    public void updateStatusesWithoutChangesTest() {
+        BulkUpdatePlaceStatusDto requestDto =
+            new BulkUpdatePlaceStatusDto(Collections.singletonList(1L), PlaceStatus.DELETED);
+        when(placeRepo.findAllStatusesByIdIn(any()))
+            .thenReturn(Collections.singletonList(new UpdatePlaceStatusDto(1L, PlaceStatus.DELETED)));
+
+        BulkUpdatePlaceStatusResultDto result = placeService.updateStatuses(requestDto);
+
+        assertTrue(result.getUpdated().isEmpty());
+        verify(placeRepo, never()).updateStatuses(any(), any(), any());
+        verifyZeroInteractions(emailService);
+    }
+
+    @Test
+    public void bulkDeleteTest() {
+        when(placeRepo.findAllStatusesByIdIn(any())).thenReturn(Arrays.asList(
+            new UpdatePlaceStatusDto(1L, PlaceStatus.APPROVED),
+            new UpdatePlaceStatusDto(2L, PlaceStatus.DECLINED)));
+
+        assertEquals(Long.valueOf(2L), placeService.bulkDelete(Arrays.asList(1L, 2L)));
+        verify(placeRepo).updateStatuses(eq(Arrays.asList(1L, 2L)), eq(PlaceStatus.DELETED), any());
+        verify(placeRepo, never()).findAllWithAuthorByIdIn(any());
+    }
+
+    @Test
+    public void filterPlaceBySearchPredicateUsesSearchIndexTest() {
+        FilterPlaceDto filterDto = new FilterPlaceDto(null, null, PlaceStatus.PROPOSED, null, null, "%lviv%");
+        Pageable pageable = PageRequest.of(1, 2);
+        Place first = Place.builder().id(3L).build();
+        Place second = Place.builder().id(1L).build();
+        AdminPlaceDto firstDto = new AdminPlaceDto();
+        firstDto.setId(3L);
+        AdminPlaceDto secondDto = new AdminPlaceDto();
+        secondDto.setId(1L);
+        when(placeSearchIndex.search("%lviv%", PlaceStatus.PROPOSED, pageable))
+            .thenReturn(Optional.of(new PageImpl<>(Arrays.asList(3L, 1L), pageable, 4)));
+        when(placeRepo.findAllByIdIn(Arrays.asList(3L, 1L))).thenReturn(Arrays.asList(second, first));
+        when(adminPlaceDtoMapper.convertToDto(first)).thenReturn(firstDto);
+        when(adminPlaceDtoMapper.convertToDto(second)).thenReturn(secondDto);
+
+        PageableDto<AdminPlaceDto> result = placeService.filterPlaceBySearchPredicate(filterDto, pageable);
+
+        assertEquals(Arrays.asList(firstDto, secondDto), result.getPage());
+        assertEquals(4, result.getTotalElements());
+        assertEquals(1, result.getCurrentPage());
+        verify(placeRepo, never()).findAll(any(PlaceFilter.class), any(Pageable.class));
+    }
+
+    @Test
+    public void filterPlaceBySearchPredicateFallsBackToDatabaseTest() {
+        FilterPlaceDto filterDto = new FilterPlaceDto(null, null, PlaceStatus.APPROVED, null, null, "%lviv%");
+        Pageable pageable = PageRequest.of(0, 2);
+        Place place = Place.builder().id(1L).build();
+        AdminPlaceDto placeDto = new AdminPlaceDto();
+        placeDto.setId(1L);
+        when(placeSearchIndex.search("%lviv%", PlaceStatus.APPROVED, pageable)).thenReturn(Optional.empty());
+        when(placeRepo.findAll(any(PlaceFilter.class), eq(pageable)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(place), pageable, 1));
+        when(adminPlaceDtoMapper.convertToDto(place)).thenReturn(placeDto);
+
+        PageableDto<AdminPlaceDto> result = placeService.filterPlaceBySearchPredicate(filterDto, pageable);
+
+        assertEquals(Collections.singletonList(placeDto), result.getPage());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    public void forEachPlaceByFilterReadsChunksFromDatabaseTest() {
+        FilterPlaceDto filterDto = new FilterPlaceDto();
+        filterDto.setSearchReg("%lviv%");
+        List<PlaceByBoundsDto> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= AppConstant.PLACE_STREAM_CHUNK_SIZE; id++) {
+            firstChunk.add(new PlaceByBoundsDto(id, "place", id, 49.8, 24.0, "address"));
+        }
+        PlaceByBoundsDto last = new PlaceByBoundsDto(5000L, "last", 5000L, 49.8, 24.0, "address");
+        long lastIdOfFirstChunk = AppConstant.PLACE_STREAM_CHUNK_SIZE;
+        when(placeRepo.findAllPlaceByBoundsDtoAfter(any(PlaceFilter.class), isNull(),
+            eq(AppConstant.PLACE_STREAM_CHUNK_SIZE))).thenReturn(firstChunk);
+        when(placeRepo.findAllPlaceByBoundsDtoAfter(any(PlaceFilter.class), eq(lastIdOfFirstChunk),
+            eq(AppConstant.PLACE_STREAM_CHUNK_SIZE))).thenReturn(Collections.singletonList(last));
+        List<PlaceByBoundsDto> consumed = new ArrayList<>();
+
+        placeService.forEachPlaceByFilter(filterDto, consumed::add);
+
+        assertEquals(AppConstant.PLACE_STREAM_CHUNK_SIZE + 1, consumed.size());
+        assertEquals(last, consumed.get(AppConstant.PLACE_STREAM_CHUNK_SIZE));
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(placeRepo, never()).findAllPlaceByBoundsDto(any());
+    }
+
+    @Test
+    public void forEachPlaceByFilterOnlyByBoundsUsesSpatialIndexTest() {
+        MapBoundsDto bounds = new MapBoundsDto(49.9, 24.1, 49.7, 23.9);
+        FilterPlaceDto filterDto = new FilterPlaceDto();
+        filterDto.setMapBoundsDto(bounds);
+        PlaceByBoundsDto place = new PlaceByBoundsDto(1L, "place", 1L, 49.8, 24.0, "address");
+        when(placeSpatialIndex.findByBounds(bounds)).thenReturn(Collections.singletonList(place));
+        List<PlaceByBoundsDto> consumed = new ArrayList<>();
+
+        placeService.forEachPlaceByFilter(filterDto, consumed::add);
+
+        assertEquals(Collections.singletonList(place), consumed);
+        verify(placeRepo, never()).findAllPlaceByBoundsDtoAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    public void forEachPlaceByFilterByDistanceSortsPlacesTest() {
+        FilterPlaceDto filterDto = new FilterPlaceDto();
+        filterDto.setDistanceFromUserDto(new FilterDistanceDto(49.84, 24.03, 10.0));
+        PlaceByBoundsDto far = new PlaceByBoundsDto(1L, "far", 1L, 49.86, 24.05, "address1");
+        PlaceByBoundsDto near = new PlaceByBoundsDto(2L, "near", 2L, 49.841, 24.031, "address2");
+        when(placeRepo.findAllPlaceByBoundsDto(any(PlaceFilter.class))).thenReturn(Arrays.asList(far, near));
+        List<PlaceByBoundsDto> consumed = new ArrayList<>();
+
+        placeService.forEachPlaceByFilter(filterDto, consumed::add);
+
+        assertEquals(Arrays.asList(near, far), consumed);
+        verify(placeRepo, never()).findAllPlaceByBoundsDtoAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    public void getClustersTest() {
+        MapBoundsDto bounds = new MapBoundsDto(49.9, 24.1, 49.7, 23.9);
+        List<PlaceClusterDto> clusters = Collections.singletonList(new PlaceClusterDto(49.8, 24.0, 2));
+        when(placeSpatialIndex.findClusters(bounds, 10)).thenReturn(clusters);
+
+        PlaceClustersDto result = placeService.getClusters(new FilterClusterDto(bounds, 10));
+
+        assertEquals(clusters, result.getClusters());
+        assertTrue(result.getPlaces().isEmpty());
+        verify(placeSpatialIndex, never()).findByBounds(any());
+    }
+
+    @Test
+    public void getClustersAboveMaxZoomReturnsPlacesTest() {
+        MapBoundsDto bounds = new MapBoundsDto(49.9, 24.1, 49.7, 23.9);
+        List<PlaceByBoundsDto> places =
+            Collections.singletonList(new PlaceByBoundsDto(1L, "place", 1L, 49.8, 24.0, "address"));
+        when(placeSpatialIndex.findByBounds(bounds)).thenReturn(places);
 
-        when(placeRepo.findById(anyLong()))
-            .thenReturn(Optional.of(new Place()))
-            .thenReturn(Optional.of(new Place()))
-            .thenReturn(Optional.of(new Place()));
-        when(modelMapper.map(any(), any()))
-            .thenReturn(new UpdatePlaceStatusDto(1L, PlaceStatus.DELETED))
-            .thenReturn(new UpdatePlaceStatusDto(2L, PlaceStatus.DELETED))
-            .thenReturn(new UpdatePlaceStatusDto(3L, PlaceStatus.DELETED));
+        PlaceClustersDto result =
+            placeService.getClusters(new FilterClusterDto(bounds, AppConstant.MAX_CLUSTER_ZOOM + 1));
 
-        assertEquals(expected, placeService.updateStatuses(requestDto));
+        assertEquals(places, result.getPlaces());
+        assertTrue(result.getClusters().isEmpty());
     }
 
     @Test
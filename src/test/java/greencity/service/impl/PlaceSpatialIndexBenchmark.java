@@ -0,0 +1,148 @@
+package greencity.service.impl;
+
+import greencity.dto.filter.FilterPlaceDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.entity.*;
+import greencity.entity.enums.PlaceStatus;
+import greencity.entity.enums.ROLE;
+import greencity.repository.PlaceRepo;
+import greencity.repository.options.PlaceFilter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares a map bounds query answered by {@link PlaceSpatialIndexImpl} with the same query
+ * sent through {@link PlaceFilter} to the database. The database is in-memory H2, so the JPA path
+ * is measured without network round trips and is faster than against MySQL.
+ * Run it by {@code org.openjdk.jmh.Main} with the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlaceSpatialIndexBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"20000"})
+    private int placeCount;
+
+    private ConfigurableApplicationContext context;
+    private PlaceRepo placeRepo;
+    private PlaceSpatialIndexImpl placeSpatialIndex;
+    private MapBoundsDto lvivBounds = new MapBoundsDto(49.9, 24.1, 49.7, 23.9);
+    private FilterPlaceDto filterPlaceDto = new FilterPlaceDto();
+
+    /**
+     * Starts the database, saves approved places spread over Ukraine and builds the index.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaConfig.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+                "--logging.level.root=warn");
+        placeRepo = context.getBean(PlaceRepo.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+            .execute(status -> {
+                persistPlaces(entityManager);
+                return null;
+            });
+        placeSpatialIndex = new PlaceSpatialIndexImpl(placeRepo);
+        placeSpatialIndex.rebuild();
+        filterPlaceDto.setMapBoundsDto(lvivBounds);
+    }
+
+    /**
+     * Stops the database.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Answers the query from the index.
+     */
+    @Benchmark
+    public List<PlaceByBoundsDto> spatialIndex() {
+        return placeSpatialIndex.findByBounds(lvivBounds);
+    }
+
+    /**
+     * Answers the query by the database.
+     */
+    @Benchmark
+    public List<PlaceByBoundsDto> placeFilter() {
+        return placeRepo.findAllPlaceByBoundsDto(new PlaceFilter(filterPlaceDto));
+    }
+
+    private void persistPlaces(EntityManager entityManager) {
+        User author = User.builder()
+            .firstName("Bench")
+            .lastName("Mark")
+            .email("benchmark@gmail.com")
+            .role(ROLE.ROLE_ADMIN)
+            .lastVisit(LocalDateTime.now())
+            .dateOfRegistration(LocalDateTime.now())
+            .build();
+        Category category = Category.builder().name("Food").build();
+        entityManager.persist(author);
+        entityManager.persist(category);
+        Random random = new Random(placeCount);
+        for (int i = 1; i <= placeCount; i++) {
+            double lat = 44.5 + random.nextDouble() * 7.5;
+            double lng = 22.2 + random.nextDouble() * 17.8;
+            entityManager.persist(Place.builder()
+                .name("place" + i)
+                .author(author)
+                .category(category)
+                .location(Location.builder().lat(lat).lng(lng).address("address" + i).build())
+                .status(PlaceStatus.APPROVED)
+                .modifiedDate(LocalDateTime.now())
+                .build());
+            if (i % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                author = entityManager.getReference(User.class, author.getId());
+                category = entityManager.getReference(Category.class, category.getId());
+            }
+        }
+    }
+
+    /**
+     * Context with the data source, JPA and repositories only.
+     */
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Place.class)
+    @EnableJpaRepositories(basePackageClasses = PlaceRepo.class)
+    static class JpaConfig {
+    }
+}
@@ -0,0 +1,180 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import greencity.constant.AppConstant;
+import greencity.dto.location.LocationDto;
+import greencity.dto.location.MapBoundsDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import greencity.dto.place.PlaceClusterDto;
+import greencity.entity.Location;
+import greencity.entity.Place;
+import greencity.entity.enums.PlaceStatus;
+import greencity.repository.PlaceRepo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlaceSpatialIndexImplTest {
+    private MapBoundsDto lvivBounds = new MapBoundsDto(49.9, 24.1, 49.7, 23.9);
+
+    @Mock
+    private PlaceRepo placeRepo;
+
+    @InjectMocks
+    private PlaceSpatialIndexImpl placeSpatialIndex;
+
+    @Before
+    public void init() {
+        when(placeRepo.findAllPlaceByBoundsDtoByStatus(PlaceStatus.APPROVED)).thenReturn(Arrays.asList(
+            new PlaceByBoundsDto(1L, "place1", 1L, 49.84, 24.03, "address1"),
+            new PlaceByBoundsDto(2L, "place2", 2L, 49.80, 23.95, "address2"),
+            new PlaceByBoundsDto(3L, "place3", 3L, 50.45, 30.52, "address3")));
+        placeSpatialIndex.rebuild();
+    }
+
+    @Test
+    public void findByBoundsTest() {
+        List<PlaceByBoundsDto> expected = Arrays.asList(
+            new PlaceByBoundsDto(1L, "place1", new LocationDto(1L, 49.84, 24.03, "address1")),
+            new PlaceByBoundsDto(2L, "place2", new LocationDto(2L, 49.80, 23.95, "address2")));
+
+        assertEquals(3, placeSpatialIndex.size());
+        assertEquals(expected, placeSpatialIndex.findByBounds(lvivBounds));
+    }
+
+    @Test
+    public void findByBoundsWholeWorldTest() {
+        assertEquals(3, placeSpatialIndex.findByBounds(new MapBoundsDto(90.0, 180.0, -90.0, -180.0)).size());
+    }
+
+    @Test
+    public void findByBoundsIncludesEdgesTest() {
+        MapBoundsDto bounds = new MapBoundsDto(49.84, 24.03, 49.84, 24.03);
+
+        assertEquals(Collections.singletonList(1L), ids(placeSpatialIndex.findByBounds(bounds)));
+    }
+
+    @Test
+    public void updateMovesPlaceTest() {
+        placeSpatialIndex.update(place(3L, 49.85, 24.0, PlaceStatus.APPROVED));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+        assertEquals(3, placeSpatialIndex.size());
+    }
+
+    @Test
+    public void updateNotApprovedPlaceRemovesItTest() {
+        placeSpatialIndex.update(place(1L, 49.84, 24.03, PlaceStatus.DELETED));
+
+        assertEquals(Collections.singletonList(2L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+    }
+
+    @Test
+    public void removeTest() {
+        placeSpatialIndex.remove(2L);
+        placeSpatialIndex.remove(4L);
+
+        assertEquals(Collections.singletonList(1L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+        assertEquals(2, placeSpatialIndex.size());
+    }
+
+    @Test
+    public void updateAllTest() {
+        when(placeRepo.findAllPlaceByBoundsDtoByIdInAndStatus(Arrays.asList(1L, 3L), PlaceStatus.APPROVED))
+            .thenReturn(Collections.singletonList(new PlaceByBoundsDto(3L, "place3", 3L, 49.85, 24.0, "address3")));
+
+        placeSpatialIndex.updateAll(Arrays.asList(1L, 3L));
+
+        assertEquals(Arrays.asList(2L, 3L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+        assertEquals(2, placeSpatialIndex.size());
+    }
+
+    @Test
+    public void findByBoundsWithInvertedBoundsTest() {
+        assertTrue(placeSpatialIndex.findByBounds(new MapBoundsDto(49.7, 23.9, 49.9, 24.1)).isEmpty());
+    }
+
+    @Test
+    public void findClustersAtLowZoomTest() {
+        List<PlaceClusterDto> clusters =
+            placeSpatialIndex.findClusters(new MapBoundsDto(90.0, 180.0, -90.0, -180.0), 0);
+
+        assertEquals(1, clusters.size());
+        assertEquals(3, clusters.get(0).getCount().intValue());
+        assertEquals((49.84 + 49.80 + 50.45) / 3, clusters.get(0).getLat(), 1e-9);
+        assertEquals((24.03 + 23.95 + 30.52) / 3, clusters.get(0).getLng(), 1e-9);
+    }
+
+    @Test
+    public void findClustersAtHighZoomTest() {
+        List<PlaceClusterDto> expected = Arrays.asList(
+            new PlaceClusterDto(49.84, 24.03, 1),
+            new PlaceClusterDto(49.80, 23.95, 1));
+
+        assertEquals(expected, placeSpatialIndex.findClusters(lvivBounds, 12));
+    }
+
+    @Test
+    public void findClustersAboveMaxZoomTest() {
+        assertEquals(2, placeSpatialIndex.findClusters(lvivBounds, AppConstant.MAX_CLUSTER_ZOOM + 5).size());
+    }
+
+    @Test
+    public void updateChangesClustersTest() {
+        placeSpatialIndex.update(place(3L, 49.85, 24.0, PlaceStatus.APPROVED));
+        placeSpatialIndex.update(place(1L, 49.84, 24.03, PlaceStatus.DELETED));
+
+        List<PlaceClusterDto> clusters = placeSpatialIndex.findClusters(lvivBounds, 0);
+        assertEquals(1, clusters.size());
+        assertEquals(2, clusters.get(0).getCount().intValue());
+        assertTrue(placeSpatialIndex.findClusters(new MapBoundsDto(50.5, 30.6, 50.4, 30.5), 12).isEmpty());
+    }
+
+    @Test
+    public void rebuildPicksUpChangesMadeOutsideTest() {
+        when(placeRepo.findAllPlaceByBoundsDtoByStatus(PlaceStatus.APPROVED)).thenReturn(Collections.singletonList(
+            new PlaceByBoundsDto(3L, "place3", 3L, 49.85, 24.0, "address3")));
+
+        placeSpatialIndex.rebuild();
+
+        assertEquals(Collections.singletonList(3L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+        assertEquals(1, placeSpatialIndex.size());
+    }
+
+    @Test
+    public void placeRemovedWhileRebuildingIsReloadedTest() {
+        List<PlaceByBoundsDto> loadedBeforeRemove = Arrays.asList(
+            new PlaceByBoundsDto(1L, "place1", 1L, 49.84, 24.03, "address1"),
+            new PlaceByBoundsDto(2L, "place2", 2L, 49.80, 23.95, "address2"));
+        when(placeRepo.findAllPlaceByBoundsDtoByStatus(PlaceStatus.APPROVED)).thenAnswer(invocation -> {
+            placeSpatialIndex.remove(1L);
+            return loadedBeforeRemove;
+        });
+
+        placeSpatialIndex.rebuild();
+
+        assertEquals(Collections.singletonList(2L), ids(placeSpatialIndex.findByBounds(lvivBounds)));
+        verify(placeRepo).findAllPlaceByBoundsDtoByIdInAndStatus(Collections.singletonList(1L), PlaceStatus.APPROVED);
+    }
+
+    private Place place(Long id, double lat, double lng, PlaceStatus status) {
+        Location location = Location.builder().id(id).lat(lat).lng(lng).address("address" + id).build();
+        return Place.builder().id(id).name("place" + id).location(location).status(status).build();
+    }
+
+    private List<Long> ids(List<PlaceByBoundsDto> places) {
+        Long[] ids = places.stream().map(PlaceByBoundsDto::getId).toArray(Long[]::new);
+        return Arrays.asList(ids);
+    }
+}
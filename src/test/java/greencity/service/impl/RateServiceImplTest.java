@@ -0,0 +1,85 @@
+package greencity.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import greencity.entity.Place;
+import greencity.entity.Rate;
+import greencity.exception.NotFoundException;
+import greencity.repository.PlaceRepo;
+import greencity.repository.RateRepo;
+import greencity.service.PlaceInfoCache;
+import java.util.Optional;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RateServiceImplTest {
+    @Mock
+    private RateRepo rateRepo;
+    @Mock
+    private PlaceRepo placeRepo;
+    @Mock
+    private PlaceInfoCache placeInfoCache;
+    @InjectMocks
+    private RateServiceImpl rateService;
+
+    private Place place = Place.builder().id(1L).build();
+
+    @Test
+    public void saveIncrementsRatingTest() {
+        Rate rate = Rate.builder().rate((byte) 4).place(place).build();
+        when(rateRepo.save(rate)).thenReturn(rate);
+
+        assertEquals(rate, rateService.save(rate));
+        verify(placeRepo).updateRating(1L, 1, 4L);
+        verify(placeInfoCache).evict(1L);
+    }
+
+    @Test
+    public void saveWithoutPlaceTest() {
+        Rate rate = Rate.builder().rate((byte) 4).build();
+        when(rateRepo.save(rate)).thenReturn(rate);
+
+        rateService.save(rate);
+
+        verifyZeroInteractions(placeRepo, placeInfoCache);
+    }
+
+    @Test
+    public void updateChangesSumByDifferenceTest() {
+        Rate rate = Rate.builder().id(2L).rate((byte) 5).place(place).build();
+        when(rateRepo.findByIdForUpdate(2L)).thenReturn(Optional.of(rate));
+        when(rateRepo.save(rate)).thenReturn(rate);
+
+        Rate updated = rateService.update(2L, (byte) 2);
+
+        assertEquals(Byte.valueOf((byte) 2), updated.getRate());
+        verify(placeRepo).updateRating(1L, 0, -3L);
+        verify(placeInfoCache).evict(1L);
+    }
+
+    @Test
+    public void deleteByIdDecrementsRatingTest() {
+        Rate rate = Rate.builder().id(2L).rate((byte) 3).place(place).build();
+        when(rateRepo.findByIdForUpdate(2L)).thenReturn(Optional.of(rate));
+
+        rateService.deleteById(2L);
+
+        verify(rateRepo).delete(rate);
+        verify(placeRepo).updateRating(1L, -1, -3L);
+        verify(placeInfoCache).evict(1L);
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void deleteByIdNotFoundTest() {
+        when(rateRepo.findByIdForUpdate(2L)).thenReturn(Optional.empty());
+
+        rateService.deleteById(2L);
+    }
+}
@@ -1,22 +1,31 @@
 package greencity.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import greencity.GreenCityApplication;
+import greencity.dto.ETaggedListDto;
+import greencity.dto.specification.SpecificationNameDto;
 import greencity.entity.Specification;
 import greencity.exception.NotFoundException;
+import greencity.mapping.SpecificationNameDtoMapper;
 import greencity.repository.SpecificationRepo;
+import greencity.util.ETagUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -26,6 +35,9 @@ public class SpecificationServiceImplTest {
     @Mock
     private SpecificationRepo specificationRepo;
 
+    @Spy
+    private SpecificationNameDtoMapper specificationNameDtoMapper = new SpecificationNameDtoMapper();
+
     @InjectMocks
     private SpecificationServiceImpl specificationService;
 
@@ -44,7 +56,7 @@ public class SpecificationServiceImplTest {
 
         when(specificationRepo.findById(anyLong())).thenReturn(Optional.of(genericEntity));
 
-        Specification foundEntity = specificationService.findById(anyLong());
+        Specification foundEntity = specificationService.findById(1L);
 
         assertEquals(genericEntity, foundEntity);
     }
@@ -82,10 +94,63 @@ public class SpecificationServiceImplTest {
     public void findByNameTest() {
         Specification genericEntity = new Specification();
 
-        when(specificationRepo.findByName(anyString())).thenReturn(genericEntity);
+        when(specificationRepo.findByName("Size")).thenReturn(genericEntity);
 
-        Specification foundEntity = specificationService.findByName(anyString());
+        Specification foundEntity = specificationService.findByName("Size");
 
         assertEquals(genericEntity, foundEntity);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findByNameFromCacheTest() {
+        Specification specification = Specification.builder().id(1L).name("Size").build();
+        when(specificationRepo.findAll()).thenReturn(Collections.singletonList(specification));
+        when(specificationRepo.findById(1L)).thenReturn(Optional.of(specification));
+
+        assertEquals(specification, specificationService.findByName("Size"));
+        verify(specificationRepo, never()).findByName(anyString());
+        verify(specificationRepo, never()).getOne(anyLong());
+    }
+
+    @Test
+    public void findByNameDeletedMeanwhileReturnsNullTest() {
+        when(specificationRepo.findAll())
+            .thenReturn(Collections.singletonList(Specification.builder().id(1L).name("Size").build()))
+            .thenReturn(Collections.emptyList());
+
+        assertNull(specificationService.findByName("Size"));
+        specificationService.findAllSpecificationDto();
+
+        verify(specificationRepo, times(2)).findAll();
+    }
+
+    @Test
+    public void findAllByNamesTest() {
+        Specification size = Specification.builder().id(1L).name("Size").build();
+        Specification color = Specification.builder().id(2L).name("Color").build();
+        when(specificationRepo.findAll()).thenReturn(Arrays.asList(size, color));
+        when(specificationRepo.findAllById(new HashSet<>(Arrays.asList(1L, 2L))))
+            .thenReturn(Collections.singletonList(size));
+
+        Map<String, Specification> found = specificationService.findAllByNames(Arrays.asList("Size", "Color"));
+
+        assertEquals(Collections.singletonMap("Size", size), found);
+        verify(specificationRepo).findAllByNameIn(Collections.singleton("Color"));
+    }
+
+    @Test
+    public void findAllSpecificationDtoTest() {
+        when(specificationRepo.findAll())
+            .thenReturn(Collections.singletonList(Specification.builder().name("Size").build()));
+
+        List<SpecificationNameDto> expected = Collections.singletonList(new SpecificationNameDto("Size"));
+
+        ETaggedListDto<SpecificationNameDto> first = specificationService.findAllSpecificationDto();
+        ETaggedListDto<SpecificationNameDto> second = specificationService.findAllSpecificationDto();
+
+        assertEquals(expected, first.getItems());
+        assertEquals(ETagUtils.ofContent(expected), first.getEntityTag());
+        assertEquals(first, second);
+        verify(specificationRepo, times(1)).findAll();
+    }
+}
@@ -2,11 +2,15 @@ package greencity.service.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import greencity.GreenCityApplication;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableDto;
+import greencity.dto.filter.FilterUserDto;
 import greencity.dto.user.RoleDto;
 import greencity.dto.user.UserForListDto;
 import greencity.entity.User;
@@ -16,8 +20,13 @@ import greencity.exception.BadEmailException;
 import greencity.exception.BadIdException;
 import greencity.exception.LowRoleLevelException;
 import greencity.exception.UserAlreadyRegisteredException;
+import greencity.mapping.UserForListDtoMapper;
 import greencity.repository.UserRepo;
+import greencity.security.jwt.JwtAuthenticationCache;
+import greencity.service.LastVisitTracker;
+import greencity.util.KeysetCursor;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +41,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -41,6 +51,12 @@ public class UserServiceImplTest {
     @Mock
     UserRepo userRepo;
 
+    @Mock
+    JwtAuthenticationCache authenticationCache;
+
+    @Mock
+    LastVisitTracker lastVisitTracker;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -105,6 +121,7 @@ public class UserServiceImplTest {
             ROLE.ROLE_MODERATOR,
             userService.updateRole(user.getId(), ROLE.ROLE_MODERATOR, any()).getRole());
         verify(userRepo, times(1)).save(any());
+        verify(authenticationCache).evictByUserId(user.getId());
     }
 
     @Test
@@ -174,7 +191,7 @@ public class UserServiceImplTest {
             new PageableDto<UserForListDto>(userForListDtos,
                 userForListDtos.size(), 0);
 
-        ReflectionTestUtils.setField(userService, "modelMapper", new ModelMapper());
+        ReflectionTestUtils.setField(userService, "userForListDtoMapper", new UserForListDtoMapper());
 
         when(userRepo.findAll(pageable)).thenReturn(usersPage);
 
@@ -182,6 +199,35 @@ public class UserServiceImplTest {
         verify(userRepo, times(1)).findAll(pageable);
     }
 
+    @Test
+    public void findByPageAfterCursor() {
+        ReflectionTestUtils.setField(userService, "userForListDtoMapper", new UserForListDtoMapper());
+        when(userRepo.findAll(any(Specification.class), any(), eq(2))).thenReturn(Arrays.asList(user2, user));
+
+        CursorPageDto<UserForListDto> result = userService.findByPage(null, 1, false);
+
+        assertEquals(1, result.getPage().size());
+        assertEquals(new KeysetCursor(user2.getDateOfRegistration(), 2L),
+            KeysetCursor.decode(result.getNextCursor()));
+        assertNull(result.getTotalElements());
+        verify(userRepo, never()).count();
+    }
+
+    @Test
+    public void getUsersByFilterAfterCursorWithTotal() {
+        ReflectionTestUtils.setField(userService, "userForListDtoMapper", new UserForListDtoMapper());
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), 3L);
+        when(userRepo.findAll(any(Specification.class), any(), eq(6))).thenReturn(Arrays.asList(user2, user));
+        when(userRepo.count(any(Specification.class))).thenReturn(2L);
+
+        CursorPageDto<UserForListDto> result =
+            userService.getUsersByFilter(new FilterUserDto("%test%"), cursor, 5, true);
+
+        assertEquals(2, result.getPage().size());
+        assertNull(result.getNextCursor());
+        assertEquals(Long.valueOf(2L), result.getTotalElements());
+    }
+
     @Test
     public void getRoles() {
         RoleDto roleDto = new RoleDto(ROLE.class.getEnumConstants());
@@ -191,8 +237,8 @@ public class UserServiceImplTest {
     @Test
     public void updateLastVisit() {
         LocalDateTime localDateTime = user.getLastVisit().minusHours(1);
-        when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
-        when(userRepo.save(any())).thenReturn(user);
         assertNotEquals(localDateTime, userService.updateLastVisit(user).getLastVisit());
+        verify(lastVisitTracker).recordVisit(user.getId());
+        verify(userRepo, never()).save(any());
     }
 }
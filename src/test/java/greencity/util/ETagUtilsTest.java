@@ -0,0 +1,49 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import greencity.exception.BadRequestException;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ETagUtilsTest {
+    @Test
+    public void ofParseTest() {
+        assertEquals("\"42\"", ETagUtils.ofVersion(42L));
+        assertEquals(Long.valueOf(42), ETagUtils.parseIfMatch(ETagUtils.ofVersion(42L)));
+    }
+
+    @Test
+    public void ofContentChangesWithContentTest() {
+        String tag = ETagUtils.ofContent(Arrays.asList("Food", "Shop"));
+
+        assertEquals(tag, ETagUtils.ofContent(Arrays.asList("Food", "Shop")));
+        assertNotEquals(tag, ETagUtils.ofContent(Arrays.asList("Food", "Drinks")));
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+    }
+
+    @Test
+    public void parseWeakTagTest() {
+        assertEquals(Long.valueOf(7), ETagUtils.parseIfMatch("W/\"7\""));
+    }
+
+    @Test
+    public void parseAbsentOrAnyTest() {
+        assertNull(ETagUtils.parseIfMatch(null));
+        assertNull(ETagUtils.parseIfMatch(" "));
+        assertNull(ETagUtils.parseIfMatch("*"));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void parseUnquotedTagTest() {
+        ETagUtils.parseIfMatch("7");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void parseListOfTagsTest() {
+        ETagUtils.parseIfMatch("\"7\", \"8\"");
+    }
+}
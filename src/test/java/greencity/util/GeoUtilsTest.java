@@ -0,0 +1,47 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GeoUtilsTest {
+    private static final double DELTA = 0.5;
+
+    @Test
+    public void distanceInKmTest() {
+        assertEquals(0, GeoUtils.distanceInKm(49.84, 24.03, 49.84, 24.03), 0);
+        assertEquals(467.3, GeoUtils.distanceInKm(49.84, 24.03, 50.45, 30.52), DELTA);
+        assertEquals(111.2, GeoUtils.distanceInKm(0, 0, 1, 0), DELTA);
+    }
+
+    @Test
+    public void boundingBoxContainsCircleTest() {
+        double lat = 49.84;
+        double lng = 24.03;
+        double distance = 10;
+        double latDelta = GeoUtils.latitudeDelta(distance);
+        double lngDelta = GeoUtils.longitudeDelta(lat, lng, distance);
+
+        assertEquals(distance, GeoUtils.distanceInKm(lat, lng, lat + latDelta, lng), 0.001);
+        assertTrue(GeoUtils.distanceInKm(lat, lng, lat, lng + lngDelta) >= distance);
+        assertTrue(GeoUtils.distanceInKm(lat, lng, lat, lng + lngDelta * 0.99) < distance);
+    }
+
+    @Test
+    public void longitudeDeltaNearPoleOrAntimeridianTest() {
+        assertTrue(Double.isNaN(GeoUtils.longitudeDelta(89.99, 0, 10)));
+        assertTrue(Double.isNaN(GeoUtils.longitudeDelta(0, 179.99, 10)));
+    }
+
+    @Test
+    public void mercatorTest() {
+        assertEquals(0, GeoUtils.mercatorX(-180), 0);
+        assertEquals(0.5, GeoUtils.mercatorX(0), 0);
+        assertEquals(1, GeoUtils.mercatorX(180), 0);
+        assertEquals(0.5, GeoUtils.mercatorY(0), 1e-12);
+        assertEquals(0, GeoUtils.mercatorY(90), 1e-6);
+        assertEquals(1, GeoUtils.mercatorY(-90), 1e-6);
+        assertTrue(GeoUtils.mercatorY(50.45) < GeoUtils.mercatorY(49.84));
+    }
+}
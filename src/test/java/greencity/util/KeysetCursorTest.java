@@ -0,0 +1,43 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import greencity.exception.BadRequestException;
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+public class KeysetCursorTest {
+    @Test
+    public void encodeDecodeTest() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2019, 9, 12, 10, 15, 30, 123456000), 42L);
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, KeysetCursor.decode(token));
+        assertEquals(-1, token.indexOf('='));
+    }
+
+    @Test
+    public void encodeDecodeWithoutDateTest() {
+        KeysetCursor cursor = new KeysetCursor(null, 7L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    public void decodeEmptyTest() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void decodeNotBase64Test() {
+        KeysetCursor.decode("not a cursor");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void decodeMalformedTest() {
+        KeysetCursor.decode("MjAxOS0wOS0xMg");
+    }
+}
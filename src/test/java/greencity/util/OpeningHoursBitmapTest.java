@@ -0,0 +1,88 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import greencity.entity.BreakTime;
+import greencity.entity.OpeningHours;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class OpeningHoursBitmapTest {
+    private final List<OpeningHours> week = Arrays.asList(
+        hours(DayOfWeek.MONDAY, "09:00", "18:00", null, null),
+        hours(DayOfWeek.TUESDAY, "09:15", "17:45", null, null),
+        hours(DayOfWeek.WEDNESDAY, "00:00", "23:59", null, null),
+        hours(DayOfWeek.SATURDAY, "10:07", "10:08", null, null),
+        hours(DayOfWeek.SUNDAY, "18:00", "02:00", null, null));
+
+    @Test
+    public void matchesTimeComparisonInsideEveryMinuteTest() {
+        byte[] bitmap = OpeningHoursBitmap.of(week);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (int minute = 0; minute < OpeningHoursBitmap.MINUTES_PER_DAY; minute++) {
+                LocalTime time = LocalTime.of(minute / 60, minute % 60, 30);
+                assertEquals(day + " " + time, isOpenByComparison(week, day, time),
+                    OpeningHoursBitmap.isOpen(bitmap, day, time));
+            }
+        }
+    }
+
+    @Test
+    public void openTimeIsInclusiveAndCloseTimeIsExclusiveTest() {
+        byte[] bitmap = OpeningHoursBitmap.of(week);
+
+        assertTrue(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.MONDAY, LocalTime.of(9, 0)));
+        assertTrue(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.MONDAY, LocalTime.of(17, 59, 59)));
+        assertFalse(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.MONDAY, LocalTime.of(18, 0)));
+        assertFalse(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.MONDAY, LocalTime.of(8, 59, 59)));
+    }
+
+    @Test
+    public void breakTimeIsClosedTest() {
+        byte[] bitmap = OpeningHoursBitmap.of(Collections.singletonList(
+            hours(DayOfWeek.FRIDAY, "08:00", "20:00", "13:00", "14:00")));
+
+        assertTrue(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.FRIDAY, LocalTime.of(12, 59, 59)));
+        assertFalse(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.FRIDAY, LocalTime.of(13, 0)));
+        assertFalse(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.FRIDAY, LocalTime.of(13, 59, 59)));
+        assertTrue(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.FRIDAY, LocalTime.of(14, 0)));
+        assertFalse(OpeningHoursBitmap.isOpen(bitmap, DayOfWeek.THURSDAY, LocalTime.of(12, 0)));
+    }
+
+    @Test
+    public void emptyBitmapTest() {
+        assertEquals(OpeningHoursBitmap.LENGTH, OpeningHoursBitmap.of(null).length);
+        assertFalse(OpeningHoursBitmap.isOpen(OpeningHoursBitmap.of(null), DayOfWeek.MONDAY, LocalTime.NOON));
+        assertFalse(OpeningHoursBitmap.isOpen(null, DayOfWeek.MONDAY, LocalTime.NOON));
+    }
+
+    @Test
+    public void minuteOfWeekTest() {
+        assertEquals(0, OpeningHoursBitmap.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.MIDNIGHT));
+        assertEquals(7 * 24 * 60 - 1, OpeningHoursBitmap.minuteOfWeek(DayOfWeek.SUNDAY, LocalTime.of(23, 59, 59)));
+    }
+
+    private static boolean isOpenByComparison(Collection<OpeningHours> openingHours, DayOfWeek day, LocalTime time) {
+        return openingHours.stream().anyMatch(hours -> hours.getWeekDay() == day
+            && hours.getOpenTime().isBefore(time) && hours.getCloseTime().isAfter(time));
+    }
+
+    private static OpeningHours hours(DayOfWeek day, String open, String close, String breakStart, String breakEnd) {
+        BreakTime breakTime = breakStart == null ? null
+            : BreakTime.builder().startTime(LocalTime.parse(breakStart)).endTime(LocalTime.parse(breakEnd)).build();
+        return OpeningHours.builder()
+            .weekDay(day)
+            .openTime(LocalTime.parse(open))
+            .closeTime(LocalTime.parse(close))
+            .breakTime(breakTime)
+            .build();
+    }
+}
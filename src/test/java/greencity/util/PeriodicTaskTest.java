@@ -0,0 +1,42 @@
+package greencity.util;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class PeriodicTaskTest {
+    private final PeriodicTask periodicTask = new PeriodicTask("periodic-task-test-");
+
+    @After
+    public void stop() {
+        periodicTask.stop();
+    }
+
+    @Test
+    public void startRunsTaskRepeatedlyTest() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(3);
+
+        periodicTask.start(runs::countDown, 1);
+
+        assertTrue(runs.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedRunDoesNotStopTaskTest() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch runs = new CountDownLatch(2);
+
+        periodicTask.start(() -> {
+            runs.countDown();
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("failed");
+            }
+        }, 1);
+
+        assertTrue(runs.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,59 @@
+package greencity.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.dto.place.PlaceByBoundsDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares encode time of map markers in JSON and in the {@link PlaceMarkerCodec} format.
+ * Payload sizes are checked by {@link PlaceMarkerCodecTest}.
+ * Run it by {@code org.openjdk.jmh.Main} with the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PlaceMarkerCodecBenchmark {
+    @Param({"1000", "20000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<PlaceByBoundsDto> places;
+
+    /**
+     * Generates markers.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        places = PlaceMarkerCodecTest.lvivMarkers(size);
+    }
+
+    /**
+     * Encodes markers to JSON.
+     *
+     * @throws IOException if encoding fails.
+     */
+    @Benchmark
+    public byte[] json() throws IOException {
+        return objectMapper.writeValueAsBytes(places);
+    }
+
+    /**
+     * Encodes markers by {@link PlaceMarkerCodec}.
+     *
+     * @throws IOException if encoding fails.
+     */
+    @Benchmark
+    public byte[] markers() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(places, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.dto.location.LocationDto;
+import greencity.dto.place.PlaceByBoundsDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Test;
+
+public class PlaceMarkerCodecTest {
+    @Test
+    public void roundTripTest() throws IOException {
+        List<PlaceByBoundsDto> places = Arrays.asList(
+            new PlaceByBoundsDto(3L, "Forum", 7L, 49.841234, 24.031234, "Lviv, Pid Dubom 7B"),
+            new PlaceByBoundsDto(1L, "Сільпо", 2L, -33.868820, 151.209296, "Sydney"),
+            new PlaceByBoundsDto(100000L, "Forum", 1L, 0.0, -180.0, "Lviv, Pid Dubom 7B"),
+            new PlaceByBoundsDto(5L, null, new LocationDto(null, 50.45, 30.52, null)),
+            new PlaceByBoundsDto(6L, "No location", null));
+
+        assertEquals(places, roundTrip(places));
+    }
+
+    @Test
+    public void roundTripRoundsCoordinatesTest() throws IOException {
+        List<PlaceByBoundsDto> places = Collections.singletonList(
+            new PlaceByBoundsDto(1L, "place", 1L, 49.84123449, 24.03123451, "address"));
+
+        LocationDto location = roundTrip(places).get(0).getLocation();
+
+        assertEquals(49.841234, location.getLat(), 0);
+        assertEquals(24.031235, location.getLng(), 0);
+    }
+
+    @Test
+    public void encodeEmptyListTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(Collections.emptyList(), out);
+
+        assertEquals(3, out.size());
+        assertTrue(PlaceMarkerCodec.decode(new ByteArrayInputStream(out.toByteArray())).isEmpty());
+    }
+
+    @Test
+    public void encodeCloseMarkersCompactlyTest() throws IOException {
+        List<PlaceByBoundsDto> places = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            places.add(new PlaceByBoundsDto(id, "Forum", id, 49.8 + id * 1e-4, 24.0 + id * 1e-4, "Lviv"));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(places, out);
+
+        assertTrue(out.size() < 10 * places.size());
+    }
+
+    @Test
+    public void encodeIsSmallerThanJsonTest() throws IOException {
+        List<PlaceByBoundsDto> places = lvivMarkers(1000);
+        byte[] json = new ObjectMapper().writeValueAsBytes(places);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(places, out);
+        byte[] markers = out.toByteArray();
+
+        assertTrue(markers.length * 3 < json.length);
+        assertTrue(gzip(markers) < gzip(json));
+    }
+
+    @Test(expected = IOException.class)
+    public void decodeUnknownVersionTest() throws IOException {
+        PlaceMarkerCodec.decode(new ByteArrayInputStream(new byte[] {2, 0, 0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void decodeTruncatedPayloadTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(Collections.singletonList(new PlaceByBoundsDto(1L, "place", 1L, 1.0, 1.0, "a")), out);
+        byte[] bytes = out.toByteArray();
+
+        PlaceMarkerCodec.decode(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    private static List<PlaceByBoundsDto> roundTrip(List<PlaceByBoundsDto> places) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PlaceMarkerCodec.encode(places, out);
+        return PlaceMarkerCodec.decode(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    static List<PlaceByBoundsDto> lvivMarkers(int size) {
+        String[] names = {"Forum", "Silpo", "Green Cafe", "Eco Market", "Organic Shop"};
+        Random random = new Random(size);
+        List<PlaceByBoundsDto> places = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            places.add(new PlaceByBoundsDto(id * 3, names[random.nextInt(names.length)], id,
+                49.7 + random.nextDouble() * 0.3, 23.8 + random.nextDouble() * 0.4,
+                "Lviv, street " + random.nextInt(500) + ", " + random.nextInt(100)));
+        }
+        return places;
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
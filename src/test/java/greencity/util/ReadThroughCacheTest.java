@@ -0,0 +1,53 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ReadThroughCacheTest {
+    private final ReadThroughCache<Long, String> cache = new ReadThroughCache<>(16, 60000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void getLoadsOnceTest() {
+        cache.get(1L, this::load);
+
+        assertEquals("value1", cache.get(1L, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void getReloadsUnusableValueTest() {
+        cache.get(1L, this::load);
+
+        cache.get(1L, value -> false, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void valueInvalidatedWhileLoadingIsNotCachedTest() {
+        cache.get(1L, key -> {
+            cache.evictAfterCommit(key);
+            return load(key);
+        });
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictAfterCommitIgnoresNullTest() {
+        cache.get(1L, this::load);
+
+        cache.evictAfterCommit(null);
+
+        assertEquals(1, cache.size());
+    }
+
+    private String load(Long key) {
+        loads.incrementAndGet();
+        return "value" + key;
+    }
+}
@@ -0,0 +1,51 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ReferenceDataCacheTest {
+    private AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void getLoadsOnceTest() {
+        ReferenceDataCache<Integer> cache = new ReferenceDataCache<>(loads::incrementAndGet, 60);
+
+        assertEquals(Integer.valueOf(1), cache.get());
+        assertEquals(Integer.valueOf(1), cache.get());
+    }
+
+    @Test
+    public void invalidateReloadsTest() {
+        ReferenceDataCache<Integer> cache = new ReferenceDataCache<>(loads::incrementAndGet, 60);
+        cache.get();
+
+        cache.invalidate();
+
+        assertEquals(Integer.valueOf(2), cache.get());
+    }
+
+    @Test
+    public void expiredSnapshotIsReloadedTest() {
+        ReferenceDataCache<Integer> cache = new ReferenceDataCache<>(loads::incrementAndGet, -1);
+        cache.get();
+
+        assertEquals(Integer.valueOf(2), cache.get());
+    }
+
+    @Test
+    public void snapshotInvalidatedWhileLoadingIsNotKeptTest() {
+        ReferenceDataCache<Integer>[] holder = new ReferenceDataCache[1];
+        holder[0] = new ReferenceDataCache<>(() -> {
+            if (loads.incrementAndGet() == 1) {
+                holder[0].invalidate();
+            }
+            return loads.get();
+        }, 60);
+
+        assertEquals(Integer.valueOf(1), holder[0].get());
+        assertEquals(Integer.valueOf(2), holder[0].get());
+        assertEquals(Integer.valueOf(2), holder[0].get());
+    }
+}
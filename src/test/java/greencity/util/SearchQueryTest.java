@@ -0,0 +1,76 @@
+package greencity.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class SearchQueryTest {
+    @Test
+    public void parseIgnoresLikeWildcardsTest() {
+        SearchQuery query = SearchQuery.parse("%Nazar.Stasyuk@Gmail%");
+
+        assertEquals(Arrays.asList("nazar", "stasyuk", "gmail"), query.getTokens());
+        assertFalse(query.hasDateRange());
+        assertNull(query.getModifiedFrom());
+    }
+
+    @Test
+    public void parseNullTest() {
+        SearchQuery query = SearchQuery.parse(null);
+
+        assertEquals(Collections.emptyList(), query.getTokens());
+        assertFalse(query.hasDateRange());
+    }
+
+    @Test
+    public void parseDateTest() {
+        SearchQuery query = SearchQuery.parse("%2019-09-12%");
+
+        assertTrue(query.hasDateRange());
+        assertEquals(LocalDateTime.of(2019, 9, 12, 0, 0), query.getModifiedFrom());
+        assertEquals(LocalDateTime.of(2019, 9, 13, 0, 0), query.getModifiedTo());
+    }
+
+    @Test
+    public void parseDottedDateTest() {
+        SearchQuery query = SearchQuery.parse("31.12.2019");
+
+        assertEquals(LocalDateTime.of(2019, 12, 31, 0, 0), query.getModifiedFrom());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), query.getModifiedTo());
+    }
+
+    @Test
+    public void parseMonthTest() {
+        SearchQuery query = SearchQuery.parse("%2019-12%");
+
+        assertEquals(LocalDateTime.of(2019, 12, 1, 0, 0), query.getModifiedFrom());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), query.getModifiedTo());
+        assertEquals(SearchQuery.parse("12.2019").getModifiedFrom(), query.getModifiedFrom());
+    }
+
+    @Test
+    public void parseYearTest() {
+        SearchQuery query = SearchQuery.parse("2019");
+
+        assertEquals(Collections.singletonList("2019"), query.getTokens());
+        assertEquals(LocalDateTime.of(2019, 1, 1, 0, 0), query.getModifiedFrom());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), query.getModifiedTo());
+    }
+
+    @Test
+    public void parseInvalidDateTest() {
+        assertFalse(SearchQuery.parse("2019-13-40").hasDateRange());
+    }
+
+    @Test
+    public void tokenizeTest() {
+        assertEquals(Arrays.asList("львів", "вул", "шевченка", "1"),
+            SearchQuery.tokenize("Львів, вул. Шевченка 1"));
+    }
+}